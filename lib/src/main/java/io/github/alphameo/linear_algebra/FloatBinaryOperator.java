@@ -0,0 +1,23 @@
+package io.github.alphameo.linear_algebra;
+
+/**
+ * Operation on two {@code float} operands producing {@code float} result
+ * (primitive specialization of {@link java.util.function.BinaryOperator}
+ * without boxing).
+ *
+ * @since 3.1.0
+ */
+@FunctionalInterface
+public interface FloatBinaryOperator {
+
+    /**
+     * Applies this operator to the given operands.
+     *
+     * @param left  first operand
+     * @param right second operand
+     * @return result of operator
+     *
+     * @since 3.1.0
+     */
+    float applyAsFloat(float left, float right);
+}
@@ -0,0 +1,120 @@
+package io.github.alphameo.linear_algebra;
+
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Spliterator over range of float values (widened to {@code double}, as JDK
+ * has no float streams), which splits into contiguous halves, so parallel
+ * streams process adjacent elements in one task.
+ * <p>
+ * Values are read either directly from array or through index accessor.
+ * Ranges shorter than {@link #MIN_SPLIT} are not split further.
+ *
+ * @since 3.1.0
+ */
+public final class FloatSpliterator implements Spliterator.OfDouble {
+
+    /**
+     * Minimal amount of elements in split part.
+     *
+     * @since 3.1.0
+     */
+    public static final int MIN_SPLIT = 512;
+
+    private final float[] array;
+    private final IntToDoubleFunction accessor;
+    private int index;
+    private final int end;
+
+    /**
+     * Constructs spliterator over range of array.
+     *
+     * @param array array of values
+     * @param from  first index (inclusive)
+     * @param to    last index (exclusive)
+     * @throws IndexOutOfBoundsException if range is out of array
+     *
+     * @since 3.1.0
+     */
+    public FloatSpliterator(final float[] array, final int from, final int to) throws IndexOutOfBoundsException {
+        this(array, null, from, to);
+        if (from < 0 || from > to || to > array.length) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Range [%d, %d) is out of array of length %d", from, to, array.length));
+        }
+    }
+
+    /**
+     * Constructs spliterator over range of indices, which values are given by
+     * accessor.
+     *
+     * @param accessor function of index returning value
+     * @param from     first index (inclusive)
+     * @param to       last index (exclusive)
+     *
+     * @since 3.1.0
+     */
+    public FloatSpliterator(final IntToDoubleFunction accessor, final int from, final int to) {
+        this(null, accessor, from, to);
+    }
+
+    private FloatSpliterator(final float[] array, final IntToDoubleFunction accessor, final int from,
+            final int to) {
+        this.array = array;
+        this.accessor = accessor;
+        this.index = from;
+        this.end = to;
+    }
+
+    @Override
+    public boolean tryAdvance(final DoubleConsumer action) {
+        if (index >= end) {
+            return false;
+        }
+
+        action.accept(array != null ? array[index] : accessor.applyAsDouble(index));
+        index++;
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(final DoubleConsumer action) {
+        final int from = index;
+        index = end;
+        if (array != null) {
+            for (int i = from; i < end; i++) {
+                action.accept(array[i]);
+            }
+        } else {
+            for (int i = from; i < end; i++) {
+                action.accept(accessor.applyAsDouble(i));
+            }
+        }
+    }
+
+    @Override
+    public Spliterator.OfDouble trySplit() {
+        final int remaining = end - index;
+        if (remaining < 2 * MIN_SPLIT) {
+            return null;
+        }
+
+        final int from = index;
+        final int mid = from + remaining / 2;
+        index = mid;
+
+        return new FloatSpliterator(array, accessor, from, mid);
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL;
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.alphameo.linear_algebra;
+
+/**
+ * Operation on single {@code float} operand producing {@code float} result
+ * (primitive specialization of {@link java.util.function.UnaryOperator}
+ * without boxing).
+ *
+ * @since 3.1.0
+ */
+@FunctionalInterface
+public interface FloatUnaryOperator {
+
+    /**
+     * Applies this operator to the given operand.
+     *
+     * @param operand operand
+     * @return result of operator
+     *
+     * @since 3.1.0
+     */
+    float applyAsFloat(float operand);
+}
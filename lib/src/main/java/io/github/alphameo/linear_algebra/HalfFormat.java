@@ -0,0 +1,81 @@
+package io.github.alphameo.linear_algebra;
+
+/**
+ * 16-bit floating-point formats for compressed storage of elements. Values
+ * are converted to {@code float} on access, and calculations are done in
+ * {@code float}.
+ *
+ * @since 3.1.0
+ */
+public enum HalfFormat {
+
+    /**
+     * IEEE 754 binary16: 5 bits of exponent and 10 bits of significand
+     * (about 3 decimal digits, maximal value 65504).
+     *
+     * @since 3.1.0
+     */
+    FLOAT16,
+
+    /**
+     * Brain floating point: upper 16 bits of {@code float} with 8 bits of
+     * exponent and 7 bits of significand (range of {@code float}, about 2
+     * decimal digits).
+     *
+     * @since 3.1.0
+     */
+    BFLOAT16;
+
+    /**
+     * Converts value into bits of this format, rounding to nearest even.
+     *
+     * @param value value to be converted
+     * @return 16 bits of value in this format
+     *
+     * @since 3.1.0
+     */
+    public short encode(final float value) {
+        return this == FLOAT16 ? Float.floatToFloat16(value) : floatToBfloat16(value);
+    }
+
+    /**
+     * Converts bits of this format into {@code float}.
+     *
+     * @param bits 16 bits of value in this format
+     * @return value as {@code float}
+     *
+     * @since 3.1.0
+     */
+    public float decode(final short bits) {
+        return this == FLOAT16 ? Float.float16ToFloat(bits) : bfloat16ToFloat(bits);
+    }
+
+    /**
+     * Converts value into bfloat16 bits, rounding to nearest even.
+     *
+     * @param value value to be converted
+     * @return bfloat16 bits of value
+     *
+     * @since 3.1.0
+     */
+    public static short floatToBfloat16(final float value) {
+        final int bits = Float.floatToRawIntBits(value);
+        if (Float.isNaN(value)) {
+            return (short) ((bits >>> 16) | 0x0040);
+        }
+
+        return (short) ((bits + 0x7FFF + ((bits >>> 16) & 1)) >>> 16);
+    }
+
+    /**
+     * Converts bfloat16 bits into {@code float}.
+     *
+     * @param bits bfloat16 bits
+     * @return value as {@code float}
+     *
+     * @since 3.1.0
+     */
+    public static float bfloat16ToFloat(final short bits) {
+        return Float.intBitsToFloat(bits << 16);
+    }
+}
@@ -0,0 +1,263 @@
+package io.github.alphameo.linear_algebra;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import io.github.alphameo.linear_algebra.mat.Mat;
+import io.github.alphameo.linear_algebra.mat.Mat3;
+import io.github.alphameo.linear_algebra.mat.Mat4;
+import io.github.alphameo.linear_algebra.mat.Matrix;
+import io.github.alphameo.linear_algebra.mat.Matrix3;
+import io.github.alphameo.linear_algebra.mat.Matrix4;
+import io.github.alphameo.linear_algebra.vec.Vec;
+import io.github.alphameo.linear_algebra.vec.Vec3;
+import io.github.alphameo.linear_algebra.vec.Vec4;
+import io.github.alphameo.linear_algebra.vec.Vector;
+import io.github.alphameo.linear_algebra.vec.Vector3;
+import io.github.alphameo.linear_algebra.vec.Vector4;
+
+/**
+ * Per-thread stack of reusable scratch vectors and matrices.
+ * <p>
+ * Scratch instances are taken between {@link #mark()} and
+ * {@link #release(int)} and are reused after release, so code in hot loops
+ * does not allocate temporaries:
+ *
+ * <pre>{@code
+ * final Workspace ws = Workspace.current();
+ * final int mark = ws.mark();
+ * try {
+ *     final Vector4 tmp = ws.vec4();
+ *     ...
+ * } finally {
+ *     ws.release(mark);
+ * }
+ * }</pre>
+ *
+ * Instances must not be used after release of their mark and must not be
+ * passed to other threads.
+ *
+ * @since 3.1.0
+ */
+public final class Workspace {
+
+    private static final ThreadLocal<Workspace> CURRENT = ThreadLocal.withInitial(Workspace::new);
+
+    private static final int POOLS = 6;
+
+    private final Pool<Vector3> vec3s = new Pool<>(Vec3::new);
+    private final Pool<Vector4> vec4s = new Pool<>(Vec4::new);
+    private final Pool<Matrix3> mat3s = new Pool<>(Mat3::new);
+    private final Pool<Matrix4> mat4s = new Pool<>(Mat4::new);
+    private final Pool<Vector> vecs = new Pool<>(null);
+    private final Pool<Matrix> mats = new Pool<>(null);
+
+    private int[] marks = new int[POOLS * 8];
+    private int depth;
+
+    private Workspace() {
+    }
+
+    /**
+     * Returns workspace of the current thread.
+     *
+     * @return workspace of the current thread
+     *
+     * @since 3.1.0
+     */
+    public static Workspace current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Remembers the current top of the stack.
+     *
+     * @return mark for {@link #release(int)}
+     *
+     * @since 3.1.0
+     */
+    public int mark() {
+        final int offset = depth * POOLS;
+        if (offset == marks.length) {
+            marks = Arrays.copyOf(marks, marks.length * 2);
+        }
+
+        marks[offset] = vec3s.top;
+        marks[offset + 1] = vec4s.top;
+        marks[offset + 2] = mat3s.top;
+        marks[offset + 3] = mat4s.top;
+        marks[offset + 4] = vecs.top;
+        marks[offset + 5] = mats.top;
+
+        return depth++;
+    }
+
+    /**
+     * Returns all instances taken after the given mark (including nested marks)
+     * back to the stack.
+     *
+     * @param mark mark returned by {@link #mark()}
+     * @throws IllegalArgumentException if mark was already released
+     *
+     * @since 3.1.0
+     */
+    public void release(final int mark) throws IllegalArgumentException {
+        if (mark < 0 || mark >= depth) {
+            throw new IllegalArgumentException(
+                    String.format("Release denied: mark %d is not active (depth %d)", mark, depth));
+        }
+
+        final int offset = mark * POOLS;
+        vec3s.top = marks[offset];
+        vec4s.top = marks[offset + 1];
+        mat3s.top = marks[offset + 2];
+        mat4s.top = marks[offset + 3];
+        vecs.top = marks[offset + 4];
+        mats.top = marks[offset + 5];
+        depth = mark;
+    }
+
+    /**
+     * Returns scratch 3-dimensional vector with all 0.
+     *
+     * @return scratch 3-dimensional vector
+     *
+     * @since 3.1.0
+     */
+    public Vector3 vec3() {
+        final Vector3 v = vec3s.next();
+        v.setX(0);
+        v.setY(0);
+        v.setZ(0);
+
+        return v;
+    }
+
+    /**
+     * Returns scratch 4-dimensional vector with all 0.
+     *
+     * @return scratch 4-dimensional vector
+     *
+     * @since 3.1.0
+     */
+    public Vector4 vec4() {
+        final Vector4 v = vec4s.next();
+        v.setX(0);
+        v.setY(0);
+        v.setZ(0);
+        v.setW(0);
+
+        return v;
+    }
+
+    /**
+     * Returns scratch 3x3 matrix with all 0.
+     *
+     * @return scratch 3x3 matrix
+     *
+     * @since 3.1.0
+     */
+    public Matrix3 mat3() {
+        return zero(mat3s.next());
+    }
+
+    /**
+     * Returns scratch 4x4 matrix with all 0.
+     *
+     * @return scratch 4x4 matrix
+     *
+     * @since 3.1.0
+     */
+    public Matrix4 mat4() {
+        return zero(mat4s.next());
+    }
+
+    /**
+     * Returns scratch {@code size}-dimensional vector with all 0.
+     *
+     * @param size dimension of vector
+     * @return scratch vector
+     *
+     * @since 3.1.0
+     */
+    public Vector vec(final int size) {
+        Vector v = vecs.peek();
+        if (v == null || v.size() != size) {
+            v = new Vec(size);
+            vecs.replace(v);
+        } else {
+            for (int i = 0; i < size; i++) {
+                v.set(i, 0);
+            }
+        }
+        vecs.top++;
+
+        return v;
+    }
+
+    /**
+     * Returns scratch {@code height}x{@code width} matrix with all 0.
+     *
+     * @param height height of matrix
+     * @param width  width of matrix
+     * @return scratch matrix
+     *
+     * @since 3.1.0
+     */
+    public Matrix mat(final int height, final int width) {
+        Matrix m = mats.peek();
+        if (m == null || m.height() != height || m.width() != width) {
+            m = new Mat(height, width);
+            mats.replace(m);
+        } else {
+            zero(m);
+        }
+        mats.top++;
+
+        return m;
+    }
+
+    private static <M extends Matrix> M zero(final M m) {
+        for (int r = 0; r < m.height(); r++) {
+            for (int c = 0; c < m.width(); c++) {
+                m.set(r, c, 0);
+            }
+        }
+
+        return m;
+    }
+
+    private static final class Pool<T> {
+
+        private final Supplier<T> factory;
+        private Object[] items = new Object[8];
+        private int top;
+
+        Pool(final Supplier<T> factory) {
+            this.factory = factory;
+        }
+
+        T next() {
+            T item = peek();
+            if (item == null) {
+                item = factory.get();
+                replace(item);
+            }
+            top++;
+
+            return item;
+        }
+
+        @SuppressWarnings("unchecked")
+        T peek() {
+            return top < items.length ? (T) items[top] : null;
+        }
+
+        void replace(final T item) {
+            if (top == items.length) {
+                items = Arrays.copyOf(items, items.length * 2);
+            }
+            items[top] = item;
+        }
+    }
+}
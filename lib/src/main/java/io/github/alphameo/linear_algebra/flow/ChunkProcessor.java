@@ -0,0 +1,107 @@
+package io.github.alphameo.linear_algebra.flow;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * {@link Flow.Processor} which applies stage function to every received item
+ * and publishes non-{@code null} results.
+ * <p>
+ * Exactly one item is requested from upstream at a time, and the next one is
+ * requested only after the result was accepted by
+ * {@link SubmissionPublisher#submit}, which blocks while buffers of
+ * subscribers are full. So slow subscribers slow down upstream (backpressure)
+ * instead of growing buffers.
+ *
+ * @param <T> type of received items
+ * @param <R> type of published items
+ *
+ * @since 3.1.0
+ */
+public class ChunkProcessor<T, R> extends SubmissionPublisher<R> implements Flow.Processor<T, R> {
+
+    private final Function<? super T, ? extends R> stage;
+    private final Supplier<? extends R> flush;
+    private Flow.Subscription subscription;
+
+    /**
+     * Constructs processor, which publishes items with
+     * {@link ForkJoinPool#commonPool()} and buffers of default size.
+     *
+     * @param stage function applied to every item (may return {@code null} if
+     *              nothing should be published)
+     *
+     * @since 3.1.0
+     */
+    public ChunkProcessor(final Function<? super T, ? extends R> stage) {
+        this(stage, null, ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+    }
+
+    /**
+     * Constructs processor.
+     *
+     * @param stage             function applied to every item (may return
+     *                          {@code null} if nothing should be published)
+     * @param flush             supplier of the last item published on
+     *                          completion of upstream (may be {@code null}
+     *                          or return {@code null})
+     * @param executor          executor for delivery of items to subscribers
+     * @param maxBufferCapacity maximal capacity of buffer of every subscriber
+     *
+     * @since 3.1.0
+     */
+    public ChunkProcessor(final Function<? super T, ? extends R> stage, final Supplier<? extends R> flush,
+            final Executor executor, final int maxBufferCapacity) {
+        super(executor, maxBufferCapacity);
+        this.stage = stage;
+        this.flush = flush;
+    }
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+        if (this.subscription != null) {
+            subscription.cancel();
+            return;
+        }
+
+        this.subscription = subscription;
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(final T item) {
+        final R result;
+        try {
+            result = stage.apply(item);
+        } catch (final RuntimeException e) {
+            subscription.cancel();
+            closeExceptionally(e);
+            return;
+        }
+
+        if (result != null && !isClosed()) {
+            submit(result);
+        }
+        subscription.request(1);
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+        closeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        if (flush != null) {
+            final R result = flush.get();
+            if (result != null) {
+                submit(result);
+            }
+        }
+        close();
+    }
+}
@@ -0,0 +1,273 @@
+package io.github.alphameo.linear_algebra.flow;
+
+import java.util.Arrays;
+
+import io.github.alphameo.linear_algebra.vec.Vector3;
+
+/**
+ * Chunk of 3-dimensional vectors stored in one array of interleaved
+ * components ({@code x0, y0, z0, x1, y1, z1, ...}).
+ * <p>
+ * Chunks are units of {@link Vector3Flow} streams, so stages work on arrays
+ * instead of separate vector objects. Stages modify received chunks in place
+ * and pass them further.
+ *
+ * @since 3.1.0
+ */
+public final class Vector3Chunk {
+
+    private final float[] data;
+    private int size;
+
+    /**
+     * Constructs empty chunk for {@code capacity} vectors.
+     *
+     * @param capacity maximal amount of vectors in chunk
+     * @throws IllegalArgumentException if capacity is not positive
+     *
+     * @since 3.1.0
+     */
+    public Vector3Chunk(final int capacity) throws IllegalArgumentException {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(
+                    String.format("Chunk creation denied: capacity %d is not positive", capacity));
+        }
+
+        this.data = new float[capacity * 3];
+    }
+
+    /**
+     * Constructs chunk on top of the given array of interleaved components
+     * without copying.
+     *
+     * @param data components of vectors (length must be multiple of 3)
+     * @param size amount of vectors stored in array
+     * @throws IllegalArgumentException if array length is not multiple of 3 or
+     *                                  size exceeds capacity
+     *
+     * @since 3.1.0
+     */
+    public Vector3Chunk(final float[] data, final int size) throws IllegalArgumentException {
+        if (data.length % 3 != 0 || size < 0 || size * 3 > data.length) {
+            throw new IllegalArgumentException(String.format(
+                    "Chunk creation denied: %d vectors in array of length %d", size, data.length));
+        }
+
+        this.data = data;
+        this.size = size;
+    }
+
+    /**
+     * Returns amount of vectors in this chunk.
+     *
+     * @return amount of vectors
+     *
+     * @since 3.1.0
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns maximal amount of vectors in this chunk.
+     *
+     * @return capacity of chunk
+     *
+     * @since 3.1.0
+     */
+    public int capacity() {
+        return data.length / 3;
+    }
+
+    /**
+     * Returns {@code true} if no more vectors can be added.
+     *
+     * @return {@code true} if chunk is full
+     *
+     * @since 3.1.0
+     */
+    public boolean full() {
+        return size * 3 == data.length;
+    }
+
+    /**
+     * Returns backing array of interleaved components (not a copy). Only first
+     * {@code 3 * size()} elements are meaningful.
+     *
+     * @return backing array
+     *
+     * @since 3.1.0
+     */
+    public float[] data() {
+        return data;
+    }
+
+    /**
+     * Sets amount of vectors in this chunk (e.g. after compaction of backing
+     * array).
+     *
+     * @param size new amount of vectors
+     * @throws IllegalArgumentException if size is negative or exceeds capacity
+     *
+     * @since 3.1.0
+     */
+    public void resize(final int size) throws IllegalArgumentException {
+        if (size < 0 || size * 3 > data.length) {
+            throw new IllegalArgumentException(String.format(
+                    "Resize denied: size %d is out of capacity %d", size, capacity()));
+        }
+
+        this.size = size;
+    }
+
+    /**
+     * Appends vector to this chunk.
+     *
+     * @param x x-component
+     * @param y y-component
+     * @param z z-component
+     * @return this chunk
+     * @throws IllegalStateException if chunk is full
+     *
+     * @since 3.1.0
+     */
+    public Vector3Chunk add(final float x, final float y, final float z) throws IllegalStateException {
+        if (full()) {
+            throw new IllegalStateException("Addition denied: chunk is full");
+        }
+
+        final int offset = size * 3;
+        data[offset] = x;
+        data[offset + 1] = y;
+        data[offset + 2] = z;
+        size++;
+
+        return this;
+    }
+
+    /**
+     * Appends components of vector to this chunk.
+     *
+     * @param v vector to be appended
+     * @return this chunk
+     * @throws IllegalStateException if chunk is full
+     *
+     * @since 3.1.0
+     */
+    public Vector3Chunk add(final Vector3 v) throws IllegalStateException {
+        return add(v.x(), v.y(), v.z());
+    }
+
+    /**
+     * Returns x-component of vector.
+     *
+     * @param i index of vector
+     * @return x-component of vector {@code i}
+     *
+     * @since 3.1.0
+     */
+    public float x(final int i) {
+        return data[checkIndex(i) * 3];
+    }
+
+    /**
+     * Returns y-component of vector.
+     *
+     * @param i index of vector
+     * @return y-component of vector {@code i}
+     *
+     * @since 3.1.0
+     */
+    public float y(final int i) {
+        return data[checkIndex(i) * 3 + 1];
+    }
+
+    /**
+     * Returns z-component of vector.
+     *
+     * @param i index of vector
+     * @return z-component of vector {@code i}
+     *
+     * @since 3.1.0
+     */
+    public float z(final int i) {
+        return data[checkIndex(i) * 3 + 2];
+    }
+
+    /**
+     * Writes components of vector into {@code dest}.
+     *
+     * @param i    index of vector
+     * @param dest vector for result
+     * @return vector {@code dest}
+     *
+     * @since 3.1.0
+     */
+    public Vector3 get(final int i, final Vector3 dest) {
+        final int offset = checkIndex(i) * 3;
+        dest.setX(data[offset]);
+        dest.setY(data[offset + 1]);
+        dest.setZ(data[offset + 2]);
+
+        return dest;
+    }
+
+    /**
+     * Sets components of vector.
+     *
+     * @param i index of vector
+     * @param x x-component
+     * @param y y-component
+     * @param z z-component
+     *
+     * @since 3.1.0
+     */
+    public void set(final int i, final float x, final float y, final float z) {
+        final int offset = checkIndex(i) * 3;
+        data[offset] = x;
+        data[offset + 1] = y;
+        data[offset + 2] = z;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("Vector3Chunk[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append('(').append(data[i * 3]).append(", ").append(data[i * 3 + 1]).append(", ")
+                    .append(data[i * 3 + 2]).append(')');
+        }
+
+        return sb.append(']').toString();
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(Arrays.copyOf(data, size * 3));
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final Vector3Chunk other = (Vector3Chunk) obj;
+        return size == other.size && Arrays.equals(data, 0, size * 3, other.data, 0, size * 3);
+    }
+
+    private int checkIndex(final int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException(String.format("Index %d is out of chunk size %d", i, size));
+        }
+
+        return i;
+    }
+}
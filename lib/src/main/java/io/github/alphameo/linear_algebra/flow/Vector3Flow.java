@@ -0,0 +1,374 @@
+package io.github.alphameo.linear_algebra.flow;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+
+import io.github.alphameo.linear_algebra.Validator;
+import io.github.alphameo.linear_algebra.mat.Matrix4;
+import io.github.alphameo.linear_algebra.vec.Vector3;
+
+/**
+ * Class with static functions for streams of 3-dimensional vectors: stages of
+ * {@link Flow} pipelines and in-place kernels over {@link Vector3Chunk}s,
+ * which these stages use.
+ *
+ * <pre>{@code
+ * final var batching = Vector3Flow.batching(1024);
+ * final var transform = Vector3Flow.transform(model);
+ * samples.subscribe(batching);
+ * batching.subscribe(transform);
+ * transform.subscribe(Vector3Flow.windowedReduce(64, Vector3Flow.Reduction.MEAN));
+ * }</pre>
+ *
+ * Transforming stages modify received chunks in place, so every such stage
+ * must have only one subscriber.
+ *
+ * @since 3.1.0
+ */
+public final class Vector3Flow {
+
+    /**
+     * Componentwise reductions of windows of vectors.
+     *
+     * @since 3.1.0
+     */
+    public enum Reduction {
+        /**
+         * Sum of vectors.
+         */
+        SUM,
+        /**
+         * Arithmetic mean of vectors.
+         */
+        MEAN,
+        /**
+         * Componentwise minimum of vectors.
+         */
+        MIN,
+        /**
+         * Componentwise maximum of vectors.
+         */
+        MAX
+    }
+
+    /**
+     * Default empty constructor
+     *
+     * @since 3.1.0
+     */
+    public Vector3Flow() {
+    }
+
+    /**
+     * Returns processor, which copies components of received vectors into
+     * chunks of the given capacity. Last incomplete chunk is published on
+     * completion.
+     *
+     * @param chunkSize amount of vectors in chunk
+     * @return new processor of vectors into chunks
+     * @throws IllegalArgumentException if chunk size is not positive
+     *
+     * @since 3.1.0
+     */
+    public static ChunkProcessor<Vector3, Vector3Chunk> batching(final int chunkSize)
+            throws IllegalArgumentException {
+        final Batcher batcher = new Batcher(chunkSize);
+        return new ChunkProcessor<>(batcher::add, batcher::flush,
+                ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+    }
+
+    /**
+     * Returns processor, which transforms points of received chunks by the
+     * given matrix ({@code w = 1} is assumed, resulting {@code w} is ignored).
+     *
+     * @param m transformation matrix (copied)
+     * @return new processor of chunks
+     *
+     * @since 3.1.0
+     */
+    public static ChunkProcessor<Vector3Chunk, Vector3Chunk> transform(final Matrix4 m) {
+        final float[] e = elements(m);
+        return new ChunkProcessor<>(chunk -> transform(chunk, e, false));
+    }
+
+    /**
+     * Returns processor, which projects points of received chunks by the given
+     * matrix with perspective division by resulting {@code w}. Points with
+     * {@code w} approximately equal 0 complete stream exceptionally.
+     *
+     * @param m projection matrix (copied)
+     * @return new processor of chunks
+     *
+     * @since 3.1.0
+     */
+    public static ChunkProcessor<Vector3Chunk, Vector3Chunk> project(final Matrix4 m) {
+        final float[] e = elements(m);
+        return new ChunkProcessor<>(chunk -> transform(chunk, e, true));
+    }
+
+    /**
+     * Returns processor, which normalizes vectors of received chunks.
+     *
+     * @return new processor of chunks
+     *
+     * @since 3.1.0
+     */
+    public static ChunkProcessor<Vector3Chunk, Vector3Chunk> normalize() {
+        return new ChunkProcessor<>(Vector3Flow::normalize);
+    }
+
+    /**
+     * Returns processor, which removes vectors not matching the given
+     * predicate from received chunks. Empty chunks are not published.
+     *
+     * @param predicate predicate of kept vectors
+     * @return new processor of chunks
+     *
+     * @since 3.1.0
+     */
+    public static ChunkProcessor<Vector3Chunk, Vector3Chunk> filter(final Vector3Predicate predicate) {
+        return new ChunkProcessor<>(chunk -> {
+            filter(chunk, predicate);
+            return chunk.size() == 0 ? null : chunk;
+        });
+    }
+
+    /**
+     * Returns processor, which reduces every {@code window} consecutive vectors
+     * (tumbling window) into one vector. For every received chunk a chunk of
+     * results of completed windows is published; last incomplete window is
+     * reduced and published on completion.
+     *
+     * @param window    amount of vectors in window
+     * @param reduction reduction of window
+     * @return new processor of chunks
+     * @throws IllegalArgumentException if window is not positive
+     *
+     * @since 3.1.0
+     */
+    public static ChunkProcessor<Vector3Chunk, Vector3Chunk> windowedReduce(final int window,
+            final Reduction reduction) throws IllegalArgumentException {
+        final WindowReducer reducer = new WindowReducer(window, reduction);
+        return new ChunkProcessor<>(reducer::reduce, reducer::flush,
+                ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+    }
+
+    /**
+     * Transforms points of chunk by the given matrix ({@code w = 1} is
+     * assumed, resulting {@code w} is ignored).
+     *
+     * @param chunk chunk to be transformed
+     * @param m     transformation matrix
+     * @return chunk {@code chunk}
+     *
+     * @since 3.1.0
+     */
+    public static Vector3Chunk transform(final Vector3Chunk chunk, final Matrix4 m) {
+        return transform(chunk, elements(m), false);
+    }
+
+    /**
+     * Projects points of chunk by the given matrix with perspective division.
+     *
+     * @param chunk chunk to be projected
+     * @param m     projection matrix
+     * @return chunk {@code chunk}
+     * @throws ArithmeticException if resulting {@code w} of any point is
+     *                             approximately equal 0
+     *
+     * @since 3.1.0
+     */
+    public static Vector3Chunk project(final Vector3Chunk chunk, final Matrix4 m) throws ArithmeticException {
+        return transform(chunk, elements(m), true);
+    }
+
+    /**
+     * Normalizes vectors of chunk. Vectors with length approximately equal 0
+     * are left unchanged.
+     *
+     * @param chunk chunk to be normalized
+     * @return chunk {@code chunk}
+     *
+     * @since 3.1.0
+     */
+    public static Vector3Chunk normalize(final Vector3Chunk chunk) {
+        final float[] d = chunk.data();
+        final int end = chunk.size() * 3;
+        for (int i = 0; i < end; i += 3) {
+            final float len = (float) Math.sqrt(d[i] * d[i] + d[i + 1] * d[i + 1] + d[i + 2] * d[i + 2]);
+            if (Validator.equals(len, 0)) {
+                continue;
+            }
+            final float inv = 1 / len;
+            d[i] *= inv;
+            d[i + 1] *= inv;
+            d[i + 2] *= inv;
+        }
+
+        return chunk;
+    }
+
+    /**
+     * Removes vectors not matching the given predicate, keeping order of the
+     * rest.
+     *
+     * @param chunk     chunk to be filtered
+     * @param predicate predicate of kept vectors
+     * @return chunk {@code chunk}
+     *
+     * @since 3.1.0
+     */
+    public static Vector3Chunk filter(final Vector3Chunk chunk, final Vector3Predicate predicate) {
+        final float[] d = chunk.data();
+        final int end = chunk.size() * 3;
+        int kept = 0;
+        for (int i = 0; i < end; i += 3) {
+            if (predicate.test(d[i], d[i + 1], d[i + 2])) {
+                d[kept] = d[i];
+                d[kept + 1] = d[i + 1];
+                d[kept + 2] = d[i + 2];
+                kept += 3;
+            }
+        }
+        chunk.resize(kept / 3);
+
+        return chunk;
+    }
+
+    private static Vector3Chunk transform(final Vector3Chunk chunk, final float[] e, final boolean divide) {
+        final float[] d = chunk.data();
+        final int end = chunk.size() * 3;
+        for (int i = 0; i < end; i += 3) {
+            final float x = d[i];
+            final float y = d[i + 1];
+            final float z = d[i + 2];
+            float rx = e[0] * x + e[1] * y + e[2] * z + e[3];
+            float ry = e[4] * x + e[5] * y + e[6] * z + e[7];
+            float rz = e[8] * x + e[9] * y + e[10] * z + e[11];
+            if (divide) {
+                final float w = e[12] * x + e[13] * y + e[14] * z + e[15];
+                Validator.validateDivisor(w);
+                rx /= w;
+                ry /= w;
+                rz /= w;
+            }
+            d[i] = rx;
+            d[i + 1] = ry;
+            d[i + 2] = rz;
+        }
+
+        return chunk;
+    }
+
+    private static float[] elements(final Matrix4 m) {
+        final float[] e = new float[16];
+        for (int r = 0; r < 4; r++) {
+            for (int c = 0; c < 4; c++) {
+                e[r * 4 + c] = m.get(r, c);
+            }
+        }
+
+        return e;
+    }
+
+    private static final class Batcher {
+
+        private final int chunkSize;
+        private Vector3Chunk current;
+
+        Batcher(final int chunkSize) {
+            this.chunkSize = chunkSize;
+            this.current = new Vector3Chunk(chunkSize);
+        }
+
+        Vector3Chunk add(final Vector3 v) {
+            current.add(v);
+            if (!current.full()) {
+                return null;
+            }
+
+            final Vector3Chunk result = current;
+            current = new Vector3Chunk(chunkSize);
+            return result;
+        }
+
+        Vector3Chunk flush() {
+            return current.size() == 0 ? null : current;
+        }
+    }
+
+    private static final class WindowReducer {
+
+        private final int window;
+        private final Reduction reduction;
+        private float x;
+        private float y;
+        private float z;
+        private int count;
+
+        WindowReducer(final int window, final Reduction reduction) throws IllegalArgumentException {
+            if (window <= 0) {
+                throw new IllegalArgumentException(
+                        String.format("Reduction denied: window %d is not positive", window));
+            }
+
+            this.window = window;
+            this.reduction = reduction;
+        }
+
+        Vector3Chunk reduce(final Vector3Chunk chunk) {
+            final int windows = (count + chunk.size()) / window;
+            final Vector3Chunk result = windows == 0 ? null : new Vector3Chunk(windows);
+            final float[] d = chunk.data();
+            final int end = chunk.size() * 3;
+            for (int i = 0; i < end; i += 3) {
+                accumulate(d[i], d[i + 1], d[i + 2]);
+                if (count == window) {
+                    emit(result);
+                }
+            }
+
+            return result;
+        }
+
+        Vector3Chunk flush() {
+            if (count == 0) {
+                return null;
+            }
+
+            final Vector3Chunk result = new Vector3Chunk(1);
+            emit(result);
+            return result;
+        }
+
+        private void accumulate(final float vx, final float vy, final float vz) {
+            if (count == 0) {
+                x = vx;
+                y = vy;
+                z = vz;
+            } else if (reduction == Reduction.MIN) {
+                x = Math.min(x, vx);
+                y = Math.min(y, vy);
+                z = Math.min(z, vz);
+            } else if (reduction == Reduction.MAX) {
+                x = Math.max(x, vx);
+                y = Math.max(y, vy);
+                z = Math.max(z, vz);
+            } else {
+                x += vx;
+                y += vy;
+                z += vz;
+            }
+            count++;
+        }
+
+        private void emit(final Vector3Chunk result) {
+            if (reduction == Reduction.MEAN) {
+                result.add(x / count, y / count, z / count);
+            } else {
+                result.add(x, y, z);
+            }
+            count = 0;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package io.github.alphameo.linear_algebra.flow;
+
+/**
+ * Predicate of components of 3-dimensional vector, which does not require
+ * vector object.
+ *
+ * @since 3.1.0
+ */
+@FunctionalInterface
+public interface Vector3Predicate {
+
+    /**
+     * Evaluates predicate on components of vector.
+     *
+     * @param x x-component
+     * @param y y-component
+     * @param z z-component
+     * @return {@code true} if vector matches predicate
+     *
+     * @since 3.1.0
+     */
+    boolean test(float x, float y, float z);
+}
@@ -0,0 +1,244 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.Arrays;
+
+import io.github.alphameo.linear_algebra.Validator;
+
+/**
+ * Implementation of 4x4 matrix ({@link Matrix4}), which tracks its structural
+ * kind ({@link Matrix4Kind}), so {@link Matrix4Math#prod(Matrix4, Matrix4)},
+ * {@link Matrix4Math#prodCol}, {@link Matrix4Math#inv(Matrix4)} and
+ * transformations of vectors skip the work for constant elements.
+ * <p>
+ * Every mutation resets the kind, and it is lazily recalculated on the next
+ * request.
+ *
+ * @since 3.1.0
+ */
+public class AffineMat4 implements Matrix4 {
+
+    private final float[] entries;
+    private Matrix4Kind kind;
+
+    /**
+     * Constructs new identity matrix 4x4.
+     *
+     * @since 3.1.0
+     */
+    public AffineMat4() {
+        entries = new float[16];
+        entries[0] = 1;
+        entries[5] = 1;
+        entries[10] = 1;
+        entries[15] = 1;
+        kind = Matrix4Kind.IDENTITY;
+    }
+
+    /**
+     * Copies the given matrix 4x4 values into new matrix 4x4.
+     *
+     * @param m matrix 4x4 for copying
+     *
+     * @since 3.1.0
+     */
+    public AffineMat4(final Matrix4 m) {
+        entries = new float[16];
+        if (m instanceof AffineMat4 other) {
+            System.arraycopy(other.entries, 0, entries, 0, 16);
+            kind = other.kind;
+            return;
+        }
+        for (final Matrix4Row r : Matrix4Math.ROWS) {
+            for (final Matrix4Col c : Matrix4Math.COLS) {
+                entries[r.ordinal() * 4 + c.ordinal()] = m.get(r, c);
+            }
+        }
+    }
+
+    private AffineMat4(final float[] entries, final Matrix4Kind kind) {
+        this.entries = entries;
+        this.kind = kind;
+    }
+
+    /**
+     * Returns the structural kind of this matrix.
+     *
+     * @return the most specific kind of matrix {@code this}
+     *
+     * @since 3.1.0
+     */
+    public Matrix4Kind kind() {
+        if (kind == null) {
+            kind = classify(entries);
+        }
+
+        return kind;
+    }
+
+    /**
+     * Returns the backing row-major array of elements (not a copy).
+     *
+     * @return row-major array of elements of this matrix
+     */
+    float[] data() {
+        return entries;
+    }
+
+    /**
+     * Declares the kind of this matrix after its elements were written directly,
+     * so the kind does not have to be recalculated.
+     *
+     * @param kind kind of current elements
+     */
+    void declareKind(final Matrix4Kind kind) {
+        this.kind = kind;
+    }
+
+    @Override
+    public float get(final int r, final int c) throws IllegalArgumentException {
+        if (r < 0 || r > 3) {
+            throw new IllegalArgumentException(String.format("Row %d is out of AffineMat4 bounds", r));
+        }
+        if (c < 0 || c > 3) {
+            throw new IllegalArgumentException(String.format("Column %d is out of AffineMat4 bounds", c));
+        }
+
+        return entries[r * 4 + c];
+    }
+
+    @Override
+    public float get(final Matrix4Row r, final Matrix4Col c) {
+        return entries[r.ordinal() * 4 + c.ordinal()];
+    }
+
+    @Override
+    public void set(final int r, final int c, final float value) throws IllegalArgumentException {
+        if (r < 0 || r > 3) {
+            throw new IllegalArgumentException(String.format("Row %d is out of AffineMat4 bounds", r));
+        }
+        if (c < 0 || c > 3) {
+            throw new IllegalArgumentException(String.format("Column %d is out of AffineMat4 bounds", c));
+        }
+
+        entries[r * 4 + c] = value;
+        kind = null;
+    }
+
+    @Override
+    public void set(final Matrix4Row r, final Matrix4Col c, final float value) {
+        entries[r.ordinal() * 4 + c.ordinal()] = value;
+        kind = null;
+    }
+
+    @Override
+    public int width() {
+        return 4;
+    }
+
+    @Override
+    public int height() {
+        return 4;
+    }
+
+    @Override
+    public Matrix4 clone() {
+        return new AffineMat4(Arrays.copyOf(entries, 16), kind);
+    }
+
+    @Override
+    public String toString() {
+        return MatrixStringer.matrixToString(this);
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + Arrays.hashCode(entries);
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final AffineMat4 other = (AffineMat4) obj;
+        return Matrix4Math.equals(this, other);
+    }
+
+    /**
+     * Constructs identity matrix 4x4.
+     *
+     * @return new identity matrix
+     *
+     * @since 3.1.0
+     */
+    public static AffineMat4 identity() {
+        return new AffineMat4();
+    }
+
+    /**
+     * Constructs matrix 4x4 of translation by the given offsets.
+     *
+     * @param x offset along x axis
+     * @param y offset along y axis
+     * @param z offset along z axis
+     * @return new translation matrix
+     *
+     * @since 3.1.0
+     */
+    public static AffineMat4 translation(final float x, final float y, final float z) {
+        final AffineMat4 result = new AffineMat4();
+        result.entries[3] = x;
+        result.entries[7] = y;
+        result.entries[11] = z;
+        result.kind = Matrix4Kind.TRANSLATION;
+
+        return result;
+    }
+
+    /**
+     * Constructs matrix 4x4 with the given elements and the given kind without
+     * classification.
+     *
+     * @param entries row-major elements (taken without copying)
+     * @param kind    kind of elements
+     * @return new matrix
+     */
+    static AffineMat4 wrap(final float[] entries, final Matrix4Kind kind) {
+        return new AffineMat4(entries, kind);
+    }
+
+    private static Matrix4Kind classify(final float[] e) {
+        if (e[12] != 0 || e[13] != 0 || e[14] != 0 || e[15] != 1) {
+            return Matrix4Kind.GENERAL;
+        }
+
+        final boolean unitBlock = e[0] == 1 && e[1] == 0 && e[2] == 0
+                && e[4] == 0 && e[5] == 1 && e[6] == 0
+                && e[8] == 0 && e[9] == 0 && e[10] == 1;
+        if (unitBlock) {
+            return e[3] == 0 && e[7] == 0 && e[11] == 0 ? Matrix4Kind.IDENTITY : Matrix4Kind.TRANSLATION;
+        }
+
+        // columns of the upper left block must be orthonormal
+        final float eps = Validator.EPS * 10;
+        for (int i = 0; i < 3; i++) {
+            for (int j = i; j < 3; j++) {
+                final float dot = e[i] * e[j] + e[4 + i] * e[4 + j] + e[8 + i] * e[8 + j];
+                if (!Validator.equalsEpsilon(dot, i == j ? 1 : 0, eps)) {
+                    return Matrix4Kind.AFFINE;
+                }
+            }
+        }
+
+        return Matrix4Kind.RIGID;
+    }
+}
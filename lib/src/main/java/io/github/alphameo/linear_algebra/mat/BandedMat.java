@@ -0,0 +1,265 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * Implementation of square banded matrix ({@link Matrix}) with {@code lower}
+ * diagonals under main one and {@code upper} diagonals over it. Only the band
+ * is stored (row by row), so it takes {@code O(n * (lower + upper + 1))}
+ * memory. Elements outside of the band are 0 and cannot be changed.
+ * <p>
+ * {@link MatrixMath#solve(Matrix, Vector)} solves systems with this matrix by
+ * banded LU decomposition with partial pivoting in
+ * {@code O(n * lower * (lower + upper))}, and
+ * {@link MatrixMath#prodCol(Matrix, Vector)} multiplies in
+ * {@code O(n * (lower + upper))}.
+ *
+ * @since 3.1.0
+ */
+public class BandedMat implements Matrix {
+
+    private final int size;
+    private int lower;
+    private int upper;
+    private float[] band;
+
+    /**
+     * Constructs new banded matrix {@code size} x {@code size} with all 0.
+     *
+     * @param size  height and width of matrix
+     * @param lower amount of diagonals under main one
+     * @param upper amount of diagonals over main one
+     * @throws IllegalArgumentException if size or amounts of diagonals are
+     *                                  negative
+     *
+     * @since 3.1.0
+     */
+    public BandedMat(final int size, final int lower, final int upper) throws IllegalArgumentException {
+        if (size < 0 || lower < 0 || upper < 0) {
+            throw new IllegalArgumentException(String.format(
+                    "Matrix creation denied: size %d with %d lower and %d upper diagonals", size, lower, upper));
+        }
+
+        this.size = size;
+        this.lower = lower;
+        this.upper = upper;
+        this.band = new float[size * (lower + upper + 1)];
+    }
+
+    /**
+     * Returns amount of diagonals under main one.
+     *
+     * @return lower bandwidth
+     *
+     * @since 3.1.0
+     */
+    public int lower() {
+        return lower;
+    }
+
+    /**
+     * Returns amount of diagonals over main one.
+     *
+     * @return upper bandwidth
+     *
+     * @since 3.1.0
+     */
+    public int upper() {
+        return upper;
+    }
+
+    /**
+     * Returns {@code true} if element at the given position is inside of band.
+     *
+     * @param r row index
+     * @param c column index
+     * @return {@code true} if element is stored
+     *
+     * @since 3.1.0
+     */
+    public boolean inBand(final int r, final int c) {
+        return c - r <= upper && r - c <= lower;
+    }
+
+    @Override
+    public float get(final int r, final int c) {
+        Objects.checkIndex(r, size);
+        Objects.checkIndex(c, size);
+
+        return inBand(r, c) ? band[index(r, c)] : 0;
+    }
+
+    /**
+     * Sets value into the given position.
+     *
+     * @throws UnsupportedOperationException if position is outside of band and
+     *                                       value is not 0
+     */
+    @Override
+    public void set(final int r, final int c, final float value) throws UnsupportedOperationException {
+        Objects.checkIndex(r, size);
+        Objects.checkIndex(c, size);
+        if (inBand(r, c)) {
+            band[index(r, c)] = value;
+        } else if (value != 0) {
+            throw new UnsupportedOperationException(
+                    String.format("Setting denied: element (%d, %d) is outside of band", r, c));
+        }
+    }
+
+    @Override
+    public int width() {
+        return size;
+    }
+
+    @Override
+    public int height() {
+        return size;
+    }
+
+    @Override
+    public Matrix transpose() {
+        final BandedMat result = new BandedMat(size, upper, lower);
+        for (int r = 0; r < size; r++) {
+            for (int c = Math.max(0, r - lower); c <= Math.min(size - 1, r + upper); c++) {
+                result.band[result.index(c, r)] = band[index(r, c)];
+            }
+        }
+        band = result.band;
+        lower = result.lower;
+        upper = result.upper;
+
+        return this;
+    }
+
+    @Override
+    public Matrix clone() {
+        final BandedMat result = new BandedMat(size, lower, upper);
+        System.arraycopy(band, 0, result.band, 0, band.length);
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return MatrixStringer.matrixToString(this);
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + size;
+        result = prime * result + lower;
+        result = prime * result + upper;
+        result = prime * result + Arrays.hashCode(band);
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final BandedMat other = (BandedMat) obj;
+        return size == other.size && MatrixMath.equals(this, other);
+    }
+
+    /**
+     * Calculates {@code y = this * x}.
+     *
+     * @param x components of vector-column
+     * @param y array for result
+     */
+    void prodCol(final float[] x, final float[] y) {
+        for (int r = 0; r < size; r++) {
+            final int from = Math.max(0, r - lower);
+            final int to = Math.min(size - 1, r + upper);
+            final int offset = index(r, 0);
+            float value = 0;
+            for (int c = from; c <= to; c++) {
+                value += band[offset + c] * x[c];
+            }
+            y[r] = value;
+        }
+    }
+
+    /**
+     * Solves {@code this * x = b} by banded LU decomposition with partial
+     * pivoting. Row swaps widen upper band of {@code U} to
+     * {@code lower + upper}, so elimination works on a copy with that
+     * bandwidth.
+     *
+     * @param b right-hand side, which is replaced with solution
+     * @throws RuntimeException if matrix is singular
+     */
+    void solveAsgn(final float[] b) throws RuntimeException {
+        final int width = 2 * lower + upper + 1;
+        final int reach = lower + upper;
+        final float[] w = new float[size * width];
+        for (int r = 0; r < size; r++) {
+            for (int c = Math.max(0, r - lower); c <= Math.min(size - 1, r + upper); c++) {
+                w[r * width + c - r + lower] = band[index(r, c)];
+            }
+        }
+
+        for (int k = 0; k < size; k++) {
+            final int last = Math.min(size - 1, k + lower);
+            final int end = Math.min(size - 1, k + reach);
+            int pivot = k;
+            for (int r = k + 1; r <= last; r++) {
+                if (Math.abs(w[r * width + k - r + lower]) > Math.abs(w[pivot * width + k - pivot + lower])) {
+                    pivot = r;
+                }
+            }
+            if (w[pivot * width + k - pivot + lower] == 0) {
+                throw new RuntimeException("Solution does not exist: matrix is singular");
+            }
+            if (pivot != k) {
+                for (int c = k; c <= end; c++) {
+                    final int i = k * width + c - k + lower;
+                    final int j = pivot * width + c - pivot + lower;
+                    final float tmp = w[i];
+                    w[i] = w[j];
+                    w[j] = tmp;
+                }
+                final float tmp = b[k];
+                b[k] = b[pivot];
+                b[pivot] = tmp;
+            }
+
+            final float diag = w[k * width + lower];
+            for (int r = k + 1; r <= last; r++) {
+                final float factor = w[r * width + k - r + lower] / diag;
+                if (factor == 0) {
+                    continue;
+                }
+                for (int c = k + 1; c <= end; c++) {
+                    w[r * width + c - r + lower] -= factor * w[k * width + c - k + lower];
+                }
+                b[r] -= factor * b[k];
+            }
+        }
+
+        for (int r = size - 1; r >= 0; r--) {
+            float value = b[r];
+            for (int c = r + 1; c <= Math.min(size - 1, r + reach); c++) {
+                value -= w[r * width + c - r + lower] * b[c];
+            }
+            b[r] = value / w[r * width + lower];
+        }
+    }
+
+    private int index(final int r, final int c) {
+        return r * (lower + upper + 1) + c - r + lower;
+    }
+}
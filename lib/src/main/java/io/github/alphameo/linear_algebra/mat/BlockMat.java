@@ -0,0 +1,374 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+import io.github.alphameo.linear_algebra.vec.Vec;
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * Implementation of arbitrary matrix ({@link Matrix}) composed of tiles,
+ * which are arbitrary matrices. Rows and columns are split into blocks of the
+ * given sizes, and tile {@code (i, j)} covers row block {@code i} and column
+ * block {@code j}. Tiles are stored by reference, and {@code null} tile is a
+ * zero block, which is never allocated (until nonzero element is set into
+ * it).
+ * <p>
+ * {@link MatrixMath#prod(Matrix, Matrix)} of block matrices with matching
+ * blocks, {@link MatrixMath#addAsgn(Matrix, Matrix)} of block matrices with
+ * the same blocks and {@link MatrixMath#prodCol(Matrix, Vector)} work tile by
+ * tile in parallel and skip zero tiles.
+ *
+ * @since 3.1.0
+ */
+public class BlockMat implements Matrix {
+
+    private int[] rowOffsets;
+    private int[] colOffsets;
+    private Matrix[][] tiles;
+
+    /**
+     * Constructs new block matrix with all zero tiles.
+     *
+     * @param rowSizes heights of row blocks
+     * @param colSizes widths of column blocks
+     * @throws IllegalArgumentException if any size is negative
+     *
+     * @since 3.1.0
+     */
+    public BlockMat(final int[] rowSizes, final int[] colSizes) throws IllegalArgumentException {
+        this.rowOffsets = offsets(rowSizes);
+        this.colOffsets = offsets(colSizes);
+        this.tiles = new Matrix[rowSizes.length][colSizes.length];
+    }
+
+    private static int[] offsets(final int[] sizes) throws IllegalArgumentException {
+        final int[] result = new int[sizes.length + 1];
+        for (int i = 0; i < sizes.length; i++) {
+            if (sizes[i] < 0) {
+                throw new IllegalArgumentException(
+                        String.format("Matrix creation denied: block size %d is negative", sizes[i]));
+            }
+            result[i + 1] = result[i] + sizes[i];
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns amount of row blocks.
+     *
+     * @return amount of row blocks
+     *
+     * @since 3.1.0
+     */
+    public int blockRows() {
+        return tiles.length;
+    }
+
+    /**
+     * Returns amount of column blocks.
+     *
+     * @return amount of column blocks
+     *
+     * @since 3.1.0
+     */
+    public int blockCols() {
+        return colOffsets.length - 1;
+    }
+
+    /**
+     * Returns tile at the given block position.
+     *
+     * @param i row block index
+     * @param j column block index
+     * @return tile, or {@code null} for zero block
+     *
+     * @since 3.1.0
+     */
+    public Matrix block(final int i, final int j) {
+        return tiles[Objects.checkIndex(i, blockRows())][Objects.checkIndex(j, blockCols())];
+    }
+
+    /**
+     * Sets tile at the given block position (without copying).
+     *
+     * @param i    row block index
+     * @param j    column block index
+     * @param tile tile with size of block, or {@code null} for zero block
+     * @throws IllegalArgumentException if size of tile does not match block
+     *
+     * @since 3.1.0
+     */
+    public void setBlock(final int i, final int j, final Matrix tile) throws IllegalArgumentException {
+        Objects.checkIndex(i, blockRows());
+        Objects.checkIndex(j, blockCols());
+        if (tile != null && (tile.height() != blockHeight(i) || tile.width() != blockWidth(j))) {
+            throw new IllegalArgumentException(String.format(
+                    "Setting denied: tile with size %dx%d into block with size %dx%d",
+                    tile.height(), tile.width(), blockHeight(i), blockWidth(j)));
+        }
+
+        tiles[i][j] = tile;
+    }
+
+    /**
+     * Returns height of the given row block.
+     *
+     * @param i row block index
+     * @return height of block
+     *
+     * @since 3.1.0
+     */
+    public int blockHeight(final int i) {
+        return rowOffsets[i + 1] - rowOffsets[i];
+    }
+
+    /**
+     * Returns width of the given column block.
+     *
+     * @param j column block index
+     * @return width of block
+     *
+     * @since 3.1.0
+     */
+    public int blockWidth(final int j) {
+        return colOffsets[j + 1] - colOffsets[j];
+    }
+
+    @Override
+    public float get(final int r, final int c) {
+        final int i = block(rowOffsets, Objects.checkIndex(r, height()));
+        final int j = block(colOffsets, Objects.checkIndex(c, width()));
+        final Matrix tile = tiles[i][j];
+
+        return tile == null ? 0 : tile.get(r - rowOffsets[i], c - colOffsets[j]);
+    }
+
+    /**
+     * Sets value into the given position. Setting nonzero value into zero
+     * block allocates {@link Mat} tile for it, and tile with restricted
+     * storage (such as {@link IdentityMat} or {@link DiagonalMat}) is replaced
+     * with its dense copy before setting.
+     */
+    @Override
+    public void set(final int r, final int c, final float value) {
+        final int i = block(rowOffsets, Objects.checkIndex(r, height()));
+        final int j = block(colOffsets, Objects.checkIndex(c, width()));
+        if (tiles[i][j] == null) {
+            if (value == 0) {
+                return;
+            }
+            tiles[i][j] = new Mat(blockHeight(i), blockWidth(j));
+        } else if (MatrixMath.restrictedStorage(tiles[i][j])) {
+            tiles[i][j] = new Mat(tiles[i][j]);
+        }
+
+        tiles[i][j].set(r - rowOffsets[i], c - colOffsets[j], value);
+    }
+
+    @Override
+    public int width() {
+        return colOffsets[colOffsets.length - 1];
+    }
+
+    @Override
+    public int height() {
+        return rowOffsets[rowOffsets.length - 1];
+    }
+
+    /**
+     * Transposes grid of tiles and replaces every tile with its transposed
+     * copy, so tiles shared between positions or with other owners are not
+     * changed.
+     *
+     * @return transposed matrix {@code this}
+     */
+    @Override
+    public Matrix transpose() {
+        final Matrix[][] result = new Matrix[blockCols()][blockRows()];
+        for (int i = 0; i < blockRows(); i++) {
+            for (int j = 0; j < blockCols(); j++) {
+                result[j][i] = tiles[i][j] == null ? null : tiles[i][j].clone().transpose();
+            }
+        }
+        tiles = result;
+        final int[] tmp = rowOffsets;
+        rowOffsets = colOffsets;
+        colOffsets = tmp;
+
+        return this;
+    }
+
+    /**
+     * Returns copy of this matrix with cloned tiles.
+     *
+     * @return new block matrix
+     */
+    @Override
+    public Matrix clone() {
+        final BlockMat result = new BlockMat(this);
+        for (int i = 0; i < blockRows(); i++) {
+            for (int j = 0; j < blockCols(); j++) {
+                result.tiles[i][j] = tiles[i][j] == null ? null : tiles[i][j].clone();
+            }
+        }
+
+        return result;
+    }
+
+    private BlockMat(final BlockMat blocks) {
+        this.rowOffsets = blocks.rowOffsets.clone();
+        this.colOffsets = blocks.colOffsets.clone();
+        this.tiles = new Matrix[blocks.blockRows()][blocks.blockCols()];
+    }
+
+    @Override
+    public String toString() {
+        return MatrixStringer.matrixToString(this);
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + Arrays.hashCode(rowOffsets);
+        result = prime * result + Arrays.hashCode(colOffsets);
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final BlockMat other = (BlockMat) obj;
+        return Arrays.equals(rowOffsets, other.rowOffsets) && Arrays.equals(colOffsets, other.colOffsets)
+                && MatrixMath.equals(this, other);
+    }
+
+    /**
+     * Returns {@code true} if column blocks of this matrix match row blocks of
+     * the given one.
+     */
+    boolean multipliable(final BlockMat other) {
+        return Arrays.equals(colOffsets, other.rowOffsets);
+    }
+
+    /**
+     * Returns {@code true} if both matrices have the same blocks.
+     */
+    boolean samePartition(final BlockMat other) {
+        return Arrays.equals(rowOffsets, other.rowOffsets) && Arrays.equals(colOffsets, other.colOffsets);
+    }
+
+    /**
+     * Calculates product of this matrix and the given one with matching
+     * blocks: tiles of result are calculated in parallel, and products with
+     * zero tiles are skipped.
+     */
+    BlockMat prod(final BlockMat other) {
+        final BlockMat result = new BlockMat(this);
+        result.colOffsets = other.colOffsets.clone();
+        result.tiles = new Matrix[blockRows()][other.blockCols()];
+        final int cols = other.blockCols();
+        IntStream.range(0, blockRows() * cols).parallel().forEach(t -> {
+            final int i = t / cols;
+            final int j = t % cols;
+            Matrix sum = null;
+            for (int k = 0; k < blockCols(); k++) {
+                if (tiles[i][k] == null || other.tiles[k][j] == null) {
+                    continue;
+                }
+                final Matrix product = MatrixMath.prod(tiles[i][k], other.tiles[k][j]);
+                sum = sum == null ? product : MatrixMath.addAsgn(sum, product);
+            }
+            result.tiles[i][j] = sum;
+        });
+
+        return result;
+    }
+
+    /**
+     * Adds tiles of the given matrix with the same blocks to tiles of this
+     * matrix in parallel. Every changed tile is replaced with a new one
+     * holding the sum (dense copy of the addendum tile for zero tile), so
+     * tiles of both matrices are not changed.
+     */
+    void addAsgn(final BlockMat addendum) {
+        combineAsgn(addendum, false);
+    }
+
+    /**
+     * Subtracts tiles of the given matrix with the same blocks from tiles of
+     * this matrix in parallel, replacing changed tiles like
+     * {@link #addAsgn(BlockMat)}.
+     */
+    void subAsgn(final BlockMat subtrahend) {
+        combineAsgn(subtrahend, true);
+    }
+
+    private void combineAsgn(final BlockMat other, final boolean subtract) {
+        final int cols = blockCols();
+        IntStream.range(0, blockRows() * cols).parallel().forEach(t -> {
+            final int i = t / cols;
+            final int j = t % cols;
+            final Matrix tile = other.tiles[i][j];
+            if (tile == null) {
+                return;
+            }
+            if (tiles[i][j] == null) {
+                tiles[i][j] = subtract ? MatrixMath.mulAsgn(new Mat(tile), -1) : new Mat(tile);
+            } else {
+                tiles[i][j] = subtract ? MatrixMath.sub(tiles[i][j], tile) : MatrixMath.add(tiles[i][j], tile);
+            }
+        });
+    }
+
+    /**
+     * Calculates {@code y = this * x} with row blocks processed in parallel.
+     *
+     * @param x components of vector-column
+     * @param y array for result (overwritten)
+     */
+    void prodCol(final float[] x, final float[] y) {
+        final Vector[] slices = new Vector[blockCols()];
+        for (int j = 0; j < slices.length; j++) {
+            slices[j] = new Vec(Arrays.copyOfRange(x, colOffsets[j], colOffsets[j + 1]));
+        }
+
+        IntStream.range(0, blockRows()).parallel().forEach(i -> {
+            Arrays.fill(y, rowOffsets[i], rowOffsets[i + 1], 0);
+            for (int j = 0; j < slices.length; j++) {
+                if (tiles[i][j] == null) {
+                    continue;
+                }
+                final Vector part = MatrixMath.prodCol(tiles[i][j], slices[j]);
+                for (int r = 0; r < part.size(); r++) {
+                    y[rowOffsets[i] + r] += part.get(r);
+                }
+            }
+        });
+    }
+
+    private static int block(final int[] offsets, final int index) {
+        final int found = Arrays.binarySearch(offsets, index);
+        if (found < 0) {
+            return -found - 2;
+        }
+
+        int i = found;
+        while (offsets[i + 1] == index) {
+            i++;
+        }
+
+        return i;
+    }
+}
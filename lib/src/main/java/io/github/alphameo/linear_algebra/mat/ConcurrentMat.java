@@ -0,0 +1,307 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.concurrent.locks.StampedLock;
+
+import io.github.alphameo.linear_algebra.vec.Vec;
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * Thread-safe implementation of arbitrary matrix ({@link Matrix}) for
+ * read-mostly sharing.
+ * <p>
+ * Rows are guarded by stripes of {@link StampedLock}s. Readers take optimistic
+ * stamps and fall back to read lock only if writer changed the stripe during
+ * reading, so readers do not block each other and usually do not block on
+ * writers. Single elements and whole rows ({@link #readRow(int, float[])},
+ * {@link #writeRow(int, float[])}) are read and written atomically, while
+ * operations over the whole matrix (like {@link MatrixMath#prod}) see rows
+ * consistent one by one.
+ *
+ * @since 3.1.0
+ */
+public class ConcurrentMat implements Matrix {
+
+    private static final int DEFAULT_STRIPES = 16;
+
+    private final float[] entries;
+    private final int height;
+    private final int width;
+    private final StampedLock[] locks;
+
+    /**
+     * Constructs new matrix {@code height} x {@code width} with all 0.
+     *
+     * @param height height of matrix for construction
+     * @param width  width of matrix for construction
+     *
+     * @since 3.1.0
+     */
+    public ConcurrentMat(final int height, final int width) {
+        this(height, width, DEFAULT_STRIPES);
+    }
+
+    /**
+     * Constructs new matrix {@code height} x {@code width} with all 0 and the
+     * given amount of lock stripes.
+     *
+     * @param height  height of matrix for construction
+     * @param width   width of matrix for construction
+     * @param stripes amount of locks shared by rows
+     * @throws IllegalArgumentException if amount of stripes is not positive
+     *
+     * @since 3.1.0
+     */
+    public ConcurrentMat(final int height, final int width, final int stripes) throws IllegalArgumentException {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException(
+                    String.format("Matrix creation denied: amount of stripes %d is not positive", stripes));
+        }
+
+        this.entries = new float[height * width];
+        this.height = height;
+        this.width = width;
+        this.locks = new StampedLock[Math.max(1, Math.min(stripes, height))];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new StampedLock();
+        }
+    }
+
+    /**
+     * Copies the given matrix values into new matrix.
+     *
+     * @param m matrix for copying
+     *
+     * @since 3.1.0
+     */
+    public ConcurrentMat(final Matrix m) {
+        this(m.height(), m.width());
+        for (int r = 0; r < height; r++) {
+            for (int c = 0; c < width; c++) {
+                entries[r * width + c] = m.get(r, c);
+            }
+        }
+    }
+
+    @Override
+    public float get(final int r, final int c) {
+        final int index = index(r, c);
+        final StampedLock lock = lock(r);
+
+        long stamp = lock.tryOptimisticRead();
+        float value = entries[index];
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                value = entries[index];
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        return value;
+    }
+
+    @Override
+    public void set(final int r, final int c, final float value) {
+        final int index = index(r, c);
+        final StampedLock lock = lock(r);
+
+        final long stamp = lock.writeLock();
+        try {
+            entries[index] = value;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Atomically copies row of this matrix into {@code dest}.
+     *
+     * @param r    row index
+     * @param dest array for values of row (at least {@code width} long)
+     * @return array {@code dest}
+     * @throws IllegalArgumentException if array is shorter than row
+     *
+     * @since 3.1.0
+     */
+    public float[] readRow(final int r, final float[] dest) throws IllegalArgumentException {
+        validateRowLength(dest.length, "Row reading denied");
+        final int offset = index(r, 0);
+        final StampedLock lock = lock(r);
+
+        final long stamp = lock.tryOptimisticRead();
+        System.arraycopy(entries, offset, dest, 0, width);
+        if (!lock.validate(stamp)) {
+            final long readStamp = lock.readLock();
+            try {
+                System.arraycopy(entries, offset, dest, 0, width);
+            } finally {
+                lock.unlockRead(readStamp);
+            }
+        }
+
+        return dest;
+    }
+
+    /**
+     * Atomically copies row of this matrix into new vector.
+     *
+     * @param r row index
+     * @return new vector with values of row
+     *
+     * @since 3.1.0
+     */
+    public Vector readRow(final int r) {
+        return new Vec(readRow(r, new float[width]));
+    }
+
+    /**
+     * Atomically replaces row of this matrix.
+     *
+     * @param r      row index
+     * @param values new values of row (at least {@code width} long)
+     * @throws IllegalArgumentException if array is shorter than row
+     *
+     * @since 3.1.0
+     */
+    public void writeRow(final int r, final float[] values) throws IllegalArgumentException {
+        validateRowLength(values.length, "Row writing denied");
+        final int offset = index(r, 0);
+        final StampedLock lock = lock(r);
+
+        final long stamp = lock.writeLock();
+        try {
+            System.arraycopy(values, 0, entries, offset, width);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Atomically replaces row of this matrix.
+     *
+     * @param r      row index
+     * @param values vector with new values of row
+     * @throws IllegalArgumentException if size of vector is not equal to width
+     *
+     * @since 3.1.0
+     */
+    public void writeRow(final int r, final Vector values) throws IllegalArgumentException {
+        if (values.size() != width) {
+            throw new IllegalArgumentException(String.format(
+                    "Row writing denied: vector size %d is not equal to width %d", values.size(), width));
+        }
+        final float[] row = new float[width];
+        for (int i = 0; i < width; i++) {
+            row[i] = values.get(i);
+        }
+        writeRow(r, row);
+    }
+
+    @Override
+    public int width() {
+        return width;
+    }
+
+    @Override
+    public int height() {
+        return height;
+    }
+
+    /**
+     * Transposes this square matrix in place, holding all locks.
+     *
+     * @return transposed matrix {@code this}
+     * @throws IllegalArgumentException if matrix is not square
+     *
+     * @since 3.1.0
+     */
+    @Override
+    public Matrix transpose() throws IllegalArgumentException {
+        if (height != width) {
+            throw new IllegalArgumentException("Transposition denied: concurrent matrix is not square");
+        }
+
+        final long[] stamps = new long[locks.length];
+        for (int i = 0; i < locks.length; i++) {
+            stamps[i] = locks[i].writeLock();
+        }
+        try {
+            Transposer.transposeSquare(entries, height);
+        } finally {
+            for (int i = locks.length - 1; i >= 0; i--) {
+                locks[i].unlockWrite(stamps[i]);
+            }
+        }
+
+        return this;
+    }
+
+    @Override
+    public Matrix clone() {
+        final ConcurrentMat result = new ConcurrentMat(height, width, locks.length);
+        final float[] row = new float[width];
+        for (int r = 0; r < height; r++) {
+            readRow(r, row);
+            System.arraycopy(row, 0, result.entries, r * width, width);
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return MatrixStringer.matrixToString(this);
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + height;
+        result = prime * result + width;
+        for (int r = 0; r < height; r++) {
+            for (int c = 0; c < width; c++) {
+                result = prime * result + Float.floatToIntBits(get(r, c));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final ConcurrentMat other = (ConcurrentMat) obj;
+        return MatrixMath.equals(this, other);
+    }
+
+    private StampedLock lock(final int r) {
+        return locks[r % locks.length];
+    }
+
+    private int index(final int r, final int c) {
+        if (r < 0 || r >= height) {
+            throw new IndexOutOfBoundsException(String.format("Row %d is out of bounds of %d", r, height));
+        }
+        if (c < 0 || c >= width) {
+            throw new IndexOutOfBoundsException(String.format("Column %d is out of bounds of %d", c, width));
+        }
+
+        return r * width + c;
+    }
+
+    private void validateRowLength(final int length, final String errMessage) throws IllegalArgumentException {
+        if (length < width) {
+            throw new IllegalArgumentException(
+                    String.format("%s: array length %d is less than width %d", errMessage, length, width));
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * Implementation of square diagonal matrix ({@link Matrix}), which stores
+ * only main diagonal. Elements outside of it are 0 and cannot be changed.
+ * <p>
+ * {@link MatrixMath#prod(Matrix, Matrix)} scales rows or columns of the other
+ * operand instead of full product, and
+ * {@link MatrixMath#prodCol(Matrix, Vector)}, {@link MatrixMath#det(Matrix)}
+ * and {@link MatrixMath#inv(Matrix)} take {@code O(n)}.
+ *
+ * @since 3.1.0
+ */
+public class DiagonalMat implements Matrix {
+
+    private final float[] diag;
+
+    /**
+     * Constructs new diagonal matrix {@code size} x {@code size} with all 0.
+     *
+     * @param size height and width of matrix
+     *
+     * @since 3.1.0
+     */
+    public DiagonalMat(final int size) {
+        this.diag = new float[size];
+    }
+
+    /**
+     * Constructs new diagonal matrix with the given diagonal elements.
+     *
+     * @param diag elements of main diagonal
+     *
+     * @since 3.1.0
+     */
+    public DiagonalMat(final float... diag) {
+        this.diag = diag.clone();
+    }
+
+    /**
+     * Constructs new diagonal matrix with components of the given vector on
+     * main diagonal.
+     *
+     * @param v vector of diagonal elements
+     *
+     * @since 3.1.0
+     */
+    public DiagonalMat(final Vector v) {
+        this(v.size());
+        for (int i = 0; i < diag.length; i++) {
+            diag[i] = v.get(i);
+        }
+    }
+
+    /**
+     * Returns the backing array of diagonal elements (not a copy).
+     *
+     * @return array of diagonal elements
+     */
+    float[] data() {
+        return diag;
+    }
+
+    @Override
+    public float get(final int r, final int c) {
+        Objects.checkIndex(r, diag.length);
+        Objects.checkIndex(c, diag.length);
+
+        return r == c ? diag[r] : 0;
+    }
+
+    /**
+     * Sets value into the given position.
+     *
+     * @throws UnsupportedOperationException if position is outside of main
+     *                                       diagonal and value is not 0
+     */
+    @Override
+    public void set(final int r, final int c, final float value) throws UnsupportedOperationException {
+        Objects.checkIndex(r, diag.length);
+        Objects.checkIndex(c, diag.length);
+        if (r == c) {
+            diag[r] = value;
+        } else if (value != 0) {
+            throw new UnsupportedOperationException(
+                    String.format("Setting denied: element (%d, %d) is outside of main diagonal", r, c));
+        }
+    }
+
+    @Override
+    public int width() {
+        return diag.length;
+    }
+
+    @Override
+    public int height() {
+        return diag.length;
+    }
+
+    /**
+     * Returns this matrix, as diagonal matrix equals its transposed one.
+     *
+     * @return matrix {@code this}
+     */
+    @Override
+    public Matrix transpose() {
+        return this;
+    }
+
+    @Override
+    public Matrix clone() {
+        return new DiagonalMat(diag);
+    }
+
+    @Override
+    public String toString() {
+        return MatrixStringer.matrixToString(this);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(diag);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final DiagonalMat other = (DiagonalMat) obj;
+        return diag.length == other.diag.length && MatrixMath.equals(this, other);
+    }
+}
@@ -0,0 +1,141 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.Arrays;
+
+/**
+ * General matrix product kernels ({@code c = alpha * op(a) * op(b) + beta * c})
+ * for row-major arrays of matrix elements.
+ * <p>
+ * Each combination of transpose flags has its own loop order, so the operands
+ * are always read along rows and the transposed operand is never materialized.
+ * Zero multipliers of rows are skipped only if the row has no infinite or NaN
+ * elements, so {@code 0 * Inf} and {@code 0 * NaN} still give NaN.
+ *
+ * @since 3.1.0
+ */
+class GemmKernel {
+
+    /**
+     * Calculates {@code c = alpha * op(a) * op(b) + beta * c}.
+     *
+     * @param alpha  scalar multiplier of product
+     * @param a      row-major elements of matrix {@code a}
+     * @param aWidth width of matrix {@code a} (as stored)
+     * @param transA {@code true} if {@code a} is taken transposed
+     * @param b      row-major elements of matrix {@code b}
+     * @param bWidth width of matrix {@code b} (as stored)
+     * @param transB {@code true} if {@code b} is taken transposed
+     * @param beta   scalar multiplier of {@code c}
+     * @param c      row-major elements of destination matrix {@code c}
+     * @param height height of {@code c}
+     * @param width  width of {@code c}
+     * @param inner  common dimension of {@code op(a)} and {@code op(b)}
+     */
+    static void gemm(
+            final float alpha, final float[] a, final int aWidth, final boolean transA,
+            final float[] b, final int bWidth, final boolean transB,
+            final float beta, final float[] c, final int height, final int width, final int inner) {
+        scale(c, height * width, beta);
+        if (alpha == 0) {
+            return;
+        }
+
+        if (!transA && !transB) {
+            final boolean[] finite = finiteRows(b, bWidth, inner, width);
+            for (int i = 0; i < height; i++) {
+                final int cRow = i * width;
+                for (int k = 0; k < inner; k++) {
+                    final float value = alpha * a[i * aWidth + k];
+                    if (value == 0 && finite[k]) {
+                        continue;
+                    }
+                    final int bRow = k * bWidth;
+                    for (int j = 0; j < width; j++) {
+                        c[cRow + j] += value * b[bRow + j];
+                    }
+                }
+            }
+        } else if (transA && !transB) {
+            final boolean[] finite = finiteRows(b, bWidth, inner, width);
+            for (int k = 0; k < inner; k++) {
+                final int aRow = k * aWidth;
+                final int bRow = k * bWidth;
+                for (int i = 0; i < height; i++) {
+                    final float value = alpha * a[aRow + i];
+                    if (value == 0 && finite[k]) {
+                        continue;
+                    }
+                    final int cRow = i * width;
+                    for (int j = 0; j < width; j++) {
+                        c[cRow + j] += value * b[bRow + j];
+                    }
+                }
+            }
+        } else if (!transA) {
+            for (int i = 0; i < height; i++) {
+                final int aRow = i * aWidth;
+                final int cRow = i * width;
+                for (int j = 0; j < width; j++) {
+                    final int bRow = j * bWidth;
+                    float value = 0;
+                    for (int k = 0; k < inner; k++) {
+                        value += a[aRow + k] * b[bRow + k];
+                    }
+                    c[cRow + j] += alpha * value;
+                }
+            }
+        } else {
+            // column j of c is row j of b multiplied by a
+            final float[] col = new float[height];
+            final boolean[] finite = finiteRows(a, aWidth, inner, height);
+            for (int j = 0; j < width; j++) {
+                Arrays.fill(col, 0);
+                final int bRow = j * bWidth;
+                for (int k = 0; k < inner; k++) {
+                    final float value = b[bRow + k];
+                    if (value == 0 && finite[k]) {
+                        continue;
+                    }
+                    final int aRow = k * aWidth;
+                    for (int i = 0; i < height; i++) {
+                        col[i] += value * a[aRow + i];
+                    }
+                }
+                for (int i = 0; i < height; i++) {
+                    c[i * width + j] += alpha * col[i];
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns flags of rows, which have only finite elements among the first
+     * {@code length} ones.
+     */
+    private static boolean[] finiteRows(final float[] m, final int stride, final int rows, final int length) {
+        final boolean[] result = new boolean[rows];
+        for (int r = 0; r < rows; r++) {
+            final int offset = r * stride;
+            boolean finite = true;
+            for (int c = 0; c < length && finite; c++) {
+                finite = Float.isFinite(m[offset + c]);
+            }
+            result[r] = finite;
+        }
+
+        return result;
+    }
+
+    private static void scale(final float[] c, final int size, final float beta) {
+        if (beta == 1) {
+            return;
+        }
+        if (beta == 0) {
+            Arrays.fill(c, 0, size, 0);
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            c[i] *= beta;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import io.github.alphameo.linear_algebra.HalfFormat;
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * Implementation of arbitrary matrix ({@link Matrix}), which stores elements
+ * as 16-bit values of the given {@link HalfFormat} in one row-major array, so
+ * it takes half of memory of {@link Mat}. Elements are rounded on
+ * {@link #set} and widened to {@code float} on {@link #get}.
+ * <p>
+ * Products with vectors ({@link MatrixMath#prodCol(Matrix, Vector)} and
+ * {@link MatrixMath#prodRow(Matrix, Vector)}) read the compressed array
+ * directly and widen elements inside the loop.
+ *
+ * @since 3.1.0
+ */
+public class HalfMat implements Matrix {
+
+    private final HalfFormat format;
+    private short[] entries;
+    private int height;
+    private int width;
+
+    /**
+     * Constructs new matrix {@code height} x {@code width} with all 0.
+     *
+     * @param height height of matrix for construction
+     * @param width  width of matrix for construction
+     * @param format format of stored elements
+     *
+     * @since 3.1.0
+     */
+    public HalfMat(final int height, final int width, final HalfFormat format) {
+        this.format = format;
+        this.entries = new short[height * width];
+        this.height = height;
+        this.width = width;
+    }
+
+    /**
+     * Copies the given matrix values (rounded to the given format) into new
+     * matrix.
+     *
+     * @param m      matrix for copying
+     * @param format format of stored elements
+     *
+     * @since 3.1.0
+     */
+    public HalfMat(final Matrix m, final HalfFormat format) {
+        this(m.height(), m.width(), format);
+        if (m instanceof Mat mat) {
+            final float[] src = mat.data();
+            for (int i = 0; i < entries.length; i++) {
+                entries[i] = format.encode(src[i]);
+            }
+            return;
+        }
+        for (int r = 0; r < height; r++) {
+            for (int c = 0; c < width; c++) {
+                entries[r * width + c] = format.encode(m.get(r, c));
+            }
+        }
+    }
+
+    /**
+     * Returns format of stored elements.
+     *
+     * @return format of elements
+     *
+     * @since 3.1.0
+     */
+    public HalfFormat format() {
+        return format;
+    }
+
+    /**
+     * Returns the backing row-major array of encoded elements (not a copy).
+     *
+     * @return row-major array of elements of this matrix
+     */
+    short[] data() {
+        return entries;
+    }
+
+    @Override
+    public float get(final int r, final int c) {
+        return format.decode(entries[Objects.checkIndex(r, height) * width + Objects.checkIndex(c, width)]);
+    }
+
+    @Override
+    public void set(final int r, final int c, final float value) {
+        entries[Objects.checkIndex(r, height) * width + Objects.checkIndex(c, width)] = format.encode(value);
+    }
+
+    @Override
+    public int width() {
+        return width;
+    }
+
+    @Override
+    public int height() {
+        return height;
+    }
+
+    @Override
+    public Matrix transpose() {
+        final short[] result = new short[entries.length];
+        for (int r = 0; r < height; r++) {
+            for (int c = 0; c < width; c++) {
+                result[c * height + r] = entries[r * width + c];
+            }
+        }
+        entries = result;
+        final int tmp = height;
+        height = width;
+        width = tmp;
+
+        return this;
+    }
+
+    @Override
+    public Matrix clone() {
+        final HalfMat result = new HalfMat(height, width, format);
+        System.arraycopy(entries, 0, result.entries, 0, entries.length);
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return MatrixStringer.matrixToString(this);
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + height;
+        result = prime * result + width;
+        result = prime * result + format.hashCode();
+        result = prime * result + Arrays.hashCode(entries);
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final HalfMat other = (HalfMat) obj;
+        return height == other.height && width == other.width && MatrixMath.equals(this, other);
+    }
+
+    /**
+     * Calculates {@code y = this * x}.
+     *
+     * @param x components of vector-column of size {@code width}
+     * @param y array for result of size {@code height}
+     */
+    void prodCol(final float[] x, final float[] y) {
+        if (format == HalfFormat.FLOAT16) {
+            for (int r = 0; r < height; r++) {
+                final int offset = r * width;
+                float value = 0;
+                for (int c = 0; c < width; c++) {
+                    value += Float.float16ToFloat(entries[offset + c]) * x[c];
+                }
+                y[r] = value;
+            }
+        } else {
+            for (int r = 0; r < height; r++) {
+                final int offset = r * width;
+                float value = 0;
+                for (int c = 0; c < width; c++) {
+                    value += Float.intBitsToFloat(entries[offset + c] << 16) * x[c];
+                }
+                y[r] = value;
+            }
+        }
+    }
+
+    /**
+     * Calculates {@code y = x * this}, reading rows of this matrix
+     * sequentially.
+     *
+     * @param x components of vector-row of size {@code height}
+     * @param y array for result of size {@code width} (overwritten)
+     */
+    void prodRow(final float[] x, final float[] y) {
+        Arrays.fill(y, 0);
+        for (int r = 0; r < height; r++) {
+            final int offset = r * width;
+            final float factor = x[r];
+            if (format == HalfFormat.FLOAT16) {
+                for (int c = 0; c < width; c++) {
+                    y[c] += factor * Float.float16ToFloat(entries[offset + c]);
+                }
+            } else {
+                for (int c = 0; c < width; c++) {
+                    y[c] += factor * Float.intBitsToFloat(entries[offset + c] << 16);
+                }
+            }
+        }
+    }
+}
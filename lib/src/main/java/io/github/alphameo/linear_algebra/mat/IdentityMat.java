@@ -0,0 +1,108 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.Objects;
+
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * Immutable square unit matrix ({@link Matrix}), which stores only its size.
+ * <p>
+ * {@link MatrixMath#prod(Matrix, Matrix)} and
+ * {@link MatrixMath#prodCol(Matrix, Vector)} with it copy the other operand,
+ * and {@link MatrixMath#det(Matrix)} and {@link MatrixMath#inv(Matrix)} take
+ * {@code O(1)}. Unlike {@link MatrixMath#unitMatrix(int)}, it does not
+ * allocate {@code n^2} elements.
+ *
+ * @since 3.1.0
+ */
+public final class IdentityMat implements Matrix {
+
+    private final int size;
+
+    /**
+     * Constructs unit matrix {@code size} x {@code size}.
+     *
+     * @param size height and width of matrix
+     * @throws IllegalArgumentException if size is negative
+     *
+     * @since 3.1.0
+     */
+    public IdentityMat(final int size) throws IllegalArgumentException {
+        if (size < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Matrix creation denied: size %d is negative", size));
+        }
+
+        this.size = size;
+    }
+
+    @Override
+    public float get(final int r, final int c) {
+        Objects.checkIndex(r, size);
+        Objects.checkIndex(c, size);
+
+        return r == c ? 1 : 0;
+    }
+
+    /**
+     * Does nothing, if value equals current element.
+     *
+     * @throws UnsupportedOperationException if value differs from current
+     *                                       element
+     */
+    @Override
+    public void set(final int r, final int c, final float value) throws UnsupportedOperationException {
+        if (value != get(r, c)) {
+            throw new UnsupportedOperationException("Setting denied: unit matrix is immutable");
+        }
+    }
+
+    @Override
+    public int width() {
+        return size;
+    }
+
+    @Override
+    public int height() {
+        return size;
+    }
+
+    /**
+     * Returns this matrix, as unit matrix equals its transposed one.
+     *
+     * @return matrix {@code this}
+     */
+    @Override
+    public Matrix transpose() {
+        return this;
+    }
+
+    @Override
+    public Matrix clone() {
+        return new IdentityMat(size);
+    }
+
+    @Override
+    public String toString() {
+        return MatrixStringer.matrixToString(this);
+    }
+
+    @Override
+    public int hashCode() {
+        return size;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        return size == ((IdentityMat) obj).size;
+    }
+}
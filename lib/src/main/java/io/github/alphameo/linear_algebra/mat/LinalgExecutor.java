@@ -0,0 +1,242 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * Executor of batches of independent matrix jobs (inversions, determinants,
+ * solutions of linear systems).
+ * <p>
+ * Batch is split into chunks, which run concurrently on virtual threads or on
+ * a bounded pool of platform threads. Results are returned in the order of the
+ * arguments. If any job fails, jobs which have not started are skipped,
+ * running chunks are cancelled, and the failure of the earliest failed chunk
+ * is rethrown to the caller.
+ *
+ * <pre>{@code
+ * try (LinalgExecutor executor = new LinalgExecutor()) {
+ *     List<Matrix> inverses = executor.invertAll(matrices);
+ * }
+ * }</pre>
+ *
+ * @since 3.1.0
+ */
+public class LinalgExecutor implements AutoCloseable {
+
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final ExecutorService executor;
+    private final int parallelism;
+    private final boolean owned;
+
+    /**
+     * Constructs executor, which runs chunks on virtual threads.
+     *
+     * @since 3.1.0
+     */
+    public LinalgExecutor() {
+        this(Executors.newVirtualThreadPerTaskExecutor(), Runtime.getRuntime().availableProcessors(), true);
+    }
+
+    /**
+     * Constructs executor with the given amount of platform threads.
+     *
+     * @param threads amount of threads
+     * @throws IllegalArgumentException if amount of threads is not positive
+     *
+     * @since 3.1.0
+     */
+    public LinalgExecutor(final int threads) throws IllegalArgumentException {
+        this(newFixedPool(threads), threads, true);
+    }
+
+    /**
+     * Constructs executor on top of the given executor service, which is not
+     * shut down by {@link #close()}.
+     *
+     * @param executor    executor service for jobs
+     * @param parallelism expected amount of concurrently running jobs
+     * @throws IllegalArgumentException if parallelism is not positive
+     *
+     * @since 3.1.0
+     */
+    public LinalgExecutor(final ExecutorService executor, final int parallelism) throws IllegalArgumentException {
+        this(executor, parallelism, false);
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException(
+                    String.format("Executor creation denied: parallelism %d is not positive", parallelism));
+        }
+    }
+
+    private LinalgExecutor(final ExecutorService executor, final int parallelism, final boolean owned) {
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.owned = owned;
+    }
+
+    /**
+     * Returns invertible matrices of the given matrices.
+     *
+     * @param ms matrices for inversion
+     * @return list of new invertible matrices in order of {@code ms}
+     * @throws UnsupportedOperationException if any matrix is not square
+     * @throws RuntimeException              if any matrix determinant equals
+     *                                       to 0
+     *
+     * @since 3.1.0
+     */
+    public List<Matrix> invertAll(final List<? extends Matrix> ms)
+            throws UnsupportedOperationException, RuntimeException {
+        return mapAll(ms, MatrixMath::inv);
+    }
+
+    /**
+     * Returns determinants of the given matrices.
+     *
+     * @param ms matrices for determinant calculation
+     * @return array of determinants in order of {@code ms}
+     * @throws UnsupportedOperationException if any matrix is not square
+     *
+     * @since 3.1.0
+     */
+    public float[] detAll(final List<? extends Matrix> ms) throws UnsupportedOperationException {
+        final float[] result = new float[ms.size()];
+        run(ms.size(), i -> result[i] = MatrixMath.det(ms.get(i)));
+
+        return result;
+    }
+
+    /**
+     * Returns solutions of linear systems {@code ms[i] * x = bs[i]}.
+     *
+     * @param ms matrices of coefficients
+     * @param bs vector-columns of right-hand sides
+     * @return list of new solution vectors in order of {@code ms}
+     * @throws IllegalArgumentException      if amounts of matrices and vectors
+     *                                       are different or any dimensions do
+     *                                       not match
+     * @throws UnsupportedOperationException if any matrix is not square
+     * @throws RuntimeException              if any matrix is singular
+     *
+     * @since 3.1.0
+     */
+    public List<Vector> solveAll(final List<? extends Matrix> ms, final List<? extends Vector> bs)
+            throws IllegalArgumentException, UnsupportedOperationException, RuntimeException {
+        if (ms.size() != bs.size()) {
+            throw new IllegalArgumentException(String.format(
+                    "Solution denied: %d matrices and %d vectors", ms.size(), bs.size()));
+        }
+
+        final Vector[] result = new Vector[ms.size()];
+        run(ms.size(), i -> result[i] = MatrixMath.solve(ms.get(i), bs.get(i)));
+
+        return Arrays.asList(result);
+    }
+
+    /**
+     * Applies the given job to every argument.
+     *
+     * @param <T>  type of arguments
+     * @param <R>  type of results
+     * @param args arguments of jobs
+     * @param job  job for every argument
+     * @return list of results in order of {@code args}
+     * @throws RuntimeException first exception thrown by job
+     *
+     * @since 3.1.0
+     */
+    public <T, R> List<R> mapAll(final List<? extends T> args, final Function<? super T, ? extends R> job)
+            throws RuntimeException {
+        final Object[] result = new Object[args.size()];
+        run(args.size(), i -> result[i] = job.apply(args.get(i)));
+
+        @SuppressWarnings("unchecked")
+        final List<R> list = (List<R>) Arrays.asList(result);
+        return list;
+    }
+
+    /**
+     * Shuts down threads of this executor if they were created by it.
+     *
+     * @since 3.1.0
+     */
+    @Override
+    public void close() {
+        if (owned) {
+            executor.shutdown();
+        }
+    }
+
+    private interface IndexJob {
+        void run(int index);
+    }
+
+    private void run(final int size, final IndexJob job) throws RuntimeException {
+        if (size == 0) {
+            return;
+        }
+
+        final int chunkSize = Math.max(1, size / (parallelism * CHUNKS_PER_THREAD));
+        final AtomicBoolean failed = new AtomicBoolean();
+        final List<Future<?>> futures = new ArrayList<>((size + chunkSize - 1) / chunkSize);
+        try {
+            for (int start = 0; start < size; start += chunkSize) {
+                final int from = start;
+                final int to = Math.min(size, start + chunkSize);
+                futures.add(executor.submit(() -> {
+                    for (int i = from; i < to && !failed.get(); i++) {
+                        try {
+                            job.run(i);
+                        } catch (final RuntimeException | Error e) {
+                            failed.set(true);
+                            throw e;
+                        }
+                    }
+                }));
+            }
+
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } catch (final ExecutionException e) {
+            cancel(futures);
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException(cause);
+        } catch (final InterruptedException e) {
+            cancel(futures);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Batch execution interrupted");
+        }
+    }
+
+    private static void cancel(final List<Future<?>> futures) {
+        for (final Future<?> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    private static ExecutorService newFixedPool(final int threads) throws IllegalArgumentException {
+        if (threads <= 0) {
+            throw new IllegalArgumentException(
+                    String.format("Executor creation denied: amount of threads %d is not positive", threads));
+        }
+
+        return Executors.newFixedThreadPool(threads);
+    }
+}
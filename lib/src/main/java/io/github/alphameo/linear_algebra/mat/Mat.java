@@ -1,6 +1,7 @@
 package io.github.alphameo.linear_algebra.mat;
 
 import java.util.Arrays;
+import java.util.Objects;
 
 /**
  * Default implementation of arbitrary matrix ({@link Matrix}).
@@ -9,7 +10,9 @@ import java.util.Arrays;
  */
 public class Mat implements Matrix {
 
-    private float[][] entries;
+    private float[] entries;
+    private int height;
+    private int width;
 
     /**
      * Constructs new matrix {@code height} x {@code width} with all 0.
@@ -20,7 +23,9 @@ public class Mat implements Matrix {
      * @since 1.0.0
      */
     public Mat(final int height, final int width) {
-        entries = new float[height][width];
+        this.entries = new float[height * width];
+        this.height = height;
+        this.width = width;
     }
 
     /**
@@ -46,11 +51,11 @@ public class Mat implements Matrix {
     public Mat(final float[][] entries) throws IllegalArgumentException {
         this(entries.length, entries[0].length);
         for (int i = 0; i < entries.length; i++) {
-            if (entries[i].length != entries[0].length) {
+            if (entries[i].length != width) {
                 throw new IllegalArgumentException(
                         "Matrix creation denied: input data has rows with different lengths");
             }
-            this.entries[i] = Arrays.copyOf(entries[i], entries[i].length);
+            System.arraycopy(entries[i], 0, this.entries, i * width, width);
         }
     }
 
@@ -62,56 +67,74 @@ public class Mat implements Matrix {
      * @since 1.0.0
      */
     public Mat(final Matrix m) {
-        entries = new float[m.height()][m.width()];
-        for (int i = 0; i < m.height(); i++) {
-            for (int j = 0; j < m.width(); j++) {
-                entries[i][j] = m.get(i, j);
+        this(m.height(), m.width());
+        if (m instanceof Mat other) {
+            System.arraycopy(other.entries, 0, entries, 0, entries.length);
+            return;
+        }
+        for (int i = 0; i < height; i++) {
+            for (int j = 0; j < width; j++) {
+                entries[i * width + j] = m.get(i, j);
             }
         }
     }
 
+    /**
+     * Returns the backing row-major array of elements (not a copy).
+     *
+     * @return row-major array of elements of this matrix
+     */
+    float[] data() {
+        return entries;
+    }
+
     @Override
     public float get(final int r, final int c) {
-        return entries[r][c];
+        return entries[Objects.checkIndex(r, height) * width + Objects.checkIndex(c, width)];
     }
 
     @Override
     public void set(final int r, final int c, final float value) {
-        entries[r][c] = value;
+        entries[Objects.checkIndex(r, height) * width + Objects.checkIndex(c, width)] = value;
     }
 
     @Override
     public int width() {
-        return entries[0].length;
+        return width;
     }
 
     @Override
     public int height() {
-        return entries.length;
+        return height;
     }
 
+    /**
+     * Transposes this matrix in place: square matrices are transposed by
+     * swapping blocks, other ones by following permutation cycles, so no new
+     * array is allocated.
+     *
+     * @return transposed matrix {@code this}
+     *
+     * @since 1.0.0
+     */
     @Override
     public Matrix transpose() {
-        final float[][] result = new float[entries[0].length][entries.length];
-        for (int i = 0; i < entries.length; i++) {
-            for (int j = 0; i < entries[0].length; j++) {
-                result[j][i] = entries[i][j];
-            }
+        if (height == width) {
+            Transposer.transposeSquare(entries, height);
+        } else {
+            Transposer.transposeInPlace(entries, height, width);
+            final int tmp = height;
+            height = width;
+            width = tmp;
         }
-        entries = result;
 
         return this;
     }
 
     @Override
     public Matrix clone() {
-        final Mat result = new Mat(height(), width());
-
-        for (int i = 0; i < height(); i++) {
-            for (int j = 0; j < width(); j++) {
-                result.set(i, j, this.get(i, j));
-            }
-        }
+        final Mat result = new Mat(height, width);
+        System.arraycopy(entries, 0, result.entries, 0, entries.length);
 
         return result;
     }
@@ -125,7 +148,9 @@ public class Mat implements Matrix {
     public int hashCode() {
         final int prime = 31;
         int result = 1;
-        result = prime * result + Arrays.deepHashCode(entries);
+        result = prime * result + height;
+        result = prime * result + width;
+        result = prime * result + Arrays.hashCode(entries);
         return result;
     }
 
@@ -1,5 +1,10 @@
 package io.github.alphameo.linear_algebra.mat;
 
+import java.util.stream.DoubleStream;
+import java.util.stream.Stream;
+
+import io.github.alphameo.linear_algebra.FloatBinaryOperator;
+import io.github.alphameo.linear_algebra.FloatUnaryOperator;
 import io.github.alphameo.linear_algebra.vec.Vector;
 
 /**
@@ -362,6 +367,23 @@ public interface Matrix extends Cloneable {
         return MatrixMath.inv(this);
     }
 
+    /**
+     * Returns solution of linear system {@code this * x = b}.
+     *
+     * @param b vector-column of right-hand side
+     * @return new vector {@code x}
+     * @throws UnsupportedOperationException if matrix is not square
+     * @throws IllegalArgumentException      if dimension of vector is not equal
+     *                                       to height of matrix
+     * @throws RuntimeException              if matrix is singular
+     *
+     * @since 3.1.0
+     */
+    default Vector solve(final Vector b)
+            throws UnsupportedOperationException, IllegalArgumentException, RuntimeException {
+        return MatrixMath.solve(this, b);
+    }
+
     /**
      * Returns minor matrix from this matrix excluding given row and column
      * from given matrix.
@@ -409,6 +431,96 @@ public interface Matrix extends Cloneable {
         return result;
     }
 
+    /**
+     * Returns sequential stream of views of rows of this matrix.
+     *
+     * @return stream of row views
+     *
+     * @since 3.1.0
+     */
+    default Stream<Vector> rows() {
+        return MatrixMath.rows(this);
+    }
+
+    /**
+     * Returns sequential stream of elements of this matrix in row-major order.
+     *
+     * @return stream of elements
+     *
+     * @since 3.1.0
+     */
+    default DoubleStream elementStream() {
+        return MatrixMath.elementStream(this);
+    }
+
+    /**
+     * Applies the given operator to every element of this matrix.
+     *
+     * @param op operator applied to elements
+     * @return this matrix with mapped elements
+     *
+     * @since 3.1.0
+     */
+    default Matrix mapAsgn(final FloatUnaryOperator op) {
+        return MatrixMath.mapAsgn(this, op);
+    }
+
+    /**
+     * Returns new matrix with the given operator applied to every element of
+     * this matrix.
+     *
+     * @param op operator applied to elements
+     * @return new matrix with mapped elements
+     *
+     * @since 3.1.0
+     */
+    default Matrix map(final FloatUnaryOperator op) {
+        return MatrixMath.map(this, op);
+    }
+
+    /**
+     * Replaces every element of this matrix with result of the given operator
+     * applied to it and the corresponding element of the given matrix.
+     *
+     * @param m  matrix with right operands
+     * @param op operator applied to pairs of elements
+     * @return this matrix with combined elements
+     * @throws IllegalArgumentException if matrices have different sizes
+     *
+     * @since 3.1.0
+     */
+    default Matrix zipAsgn(final Matrix m, final FloatBinaryOperator op) throws IllegalArgumentException {
+        return MatrixMath.zipAsgn(this, m, op);
+    }
+
+    /**
+     * Returns new matrix with results of the given operator applied to
+     * corresponding elements of this matrix and the given matrix.
+     *
+     * @param m  matrix with right operands
+     * @param op operator applied to pairs of elements
+     * @return new matrix with combined elements
+     * @throws IllegalArgumentException if matrices have different sizes
+     *
+     * @since 3.1.0
+     */
+    default Matrix zip(final Matrix m, final FloatBinaryOperator op) throws IllegalArgumentException {
+        return MatrixMath.zip(this, m, op);
+    }
+
+    /**
+     * Reduces elements of this matrix with the given associative operator.
+     *
+     * @param identity identity value of operator
+     * @param op       associative operator
+     * @return result of reduction
+     *
+     * @since 3.1.0
+     */
+    default float reduce(final float identity, final FloatBinaryOperator op) {
+        return MatrixMath.reduce(this, identity, op);
+    }
+
     /**
      * Returns {@code true} if this matrix is square.
      * 
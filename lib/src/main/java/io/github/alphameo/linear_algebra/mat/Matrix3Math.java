@@ -6,6 +6,7 @@ import static io.github.alphameo.linear_algebra.mat.Matrix3Row.*;
 import io.github.alphameo.linear_algebra.Validator;
 import io.github.alphameo.linear_algebra.vec.Vec3;
 import io.github.alphameo.linear_algebra.vec.Vector3;
+import io.github.alphameo.linear_algebra.vec.Vector3Math;
 
 /**
  * Class with static functions for 3x3 matrices.
@@ -305,6 +306,38 @@ public final class Matrix3Math {
         return result;
     }
 
+    /**
+     * Writes the result of product of the given matrices into {@code dest} and
+     * returns it.
+     *
+     * @param m1   left matrix for product
+     * @param m2   right matrix for product
+     * @param dest matrix for result, which must not be one of operands
+     * @return matrix {@code dest} with product of matrix {@code m1} and matrix
+     *         {@code m2}
+     * @throws IllegalArgumentException if {@code dest} is one of operands
+     *
+     * @since 3.1.0
+     */
+    public static Matrix3 prod(final Matrix3 m1, final Matrix3 m2, final Matrix3 dest)
+            throws IllegalArgumentException {
+        if (dest == m1 || dest == m2) {
+            throw new IllegalArgumentException("Matrix product denied: target matrix is one of operands");
+        }
+
+        for (final Matrix3Row r : ROWS) {
+            for (final Matrix3Col c : COLS) {
+                float value = 0;
+                for (int i = 0; i < COLS.length; i++) {
+                    value += m1.get(r, COLS[i]) * m2.get(ROWS[i], c);
+                }
+                dest.set(r, c, value);
+            }
+        }
+
+        return dest;
+    }
+
     /**
      * Returns the result of product of the given matrix and the given
      * vector-column.
@@ -332,21 +365,39 @@ public final class Matrix3Math {
      * @since 3.0.0
      */
     public static Vector3 prodCol(final Matrix3 m, final Vector3 vCol) {
-        final Vector3 result = new Vec3();
+        return prodCol(m, vCol, new Vec3());
+    }
+
+    /**
+     * Writes the result of the product of the given matrix and the given
+     * vector-column into {@code dest}.
+     *
+     * @param m    matrix (left)
+     * @param vCol vector-column (right)
+     * @param dest vector for result (may be {@code vCol})
+     * @return vector {@code dest} with result of product of matrix {@code m} and
+     *         vector {@code vCol}
+     *
+     * @since 3.1.0
+     */
+    public static Vector3 prodCol(final Matrix3 m, final Vector3 vCol, final Vector3 dest) {
+        final float x = vCol.x();
+        final float y = vCol.y();
+        final float z = vCol.z();
 
-        result.setX(m.get(R0, C0) * vCol.x()
-                + m.get(R0, C1) * vCol.y()
-                + m.get(R0, C2) * vCol.z());
+        dest.setX(m.get(R0, C0) * x
+                + m.get(R0, C1) * y
+                + m.get(R0, C2) * z);
 
-        result.setY(m.get(R1, C0) * vCol.x()
-                + m.get(R1, C1) * vCol.y()
-                + m.get(R1, C2) * vCol.z());
+        dest.setY(m.get(R1, C0) * x
+                + m.get(R1, C1) * y
+                + m.get(R1, C2) * z);
 
-        result.setZ(m.get(R2, C0) * vCol.x()
-                + m.get(R2, C1) * vCol.y()
-                + m.get(R2, C2) * vCol.z());
+        dest.setZ(m.get(R2, C0) * x
+                + m.get(R2, C1) * y
+                + m.get(R2, C2) * z);
 
-        return result;
+        return dest;
     }
 
     /**
@@ -360,21 +411,39 @@ public final class Matrix3Math {
      * @since 3.0.0
      */
     public static Vector3 prodRow(final Matrix3 m, final Vector3 vRow) {
-        final Vector3 result = new Vec3();
+        return prodRow(m, vRow, new Vec3());
+    }
 
-        result.setX(m.get(R0, C0) * vRow.x()
-                + m.get(R1, C0) * vRow.y()
-                + m.get(R2, C0) * vRow.z());
+    /**
+     * Writes the result of product of the given vector-row and the given matrix
+     * into {@code dest}.
+     *
+     * @param m    matrix (right)
+     * @param vRow vector-row (left)
+     * @param dest vector for result (may be {@code vRow})
+     * @return vector {@code dest} with result of product of vector {@code vRow}
+     *         and matrix {@code m}
+     *
+     * @since 3.1.0
+     */
+    public static Vector3 prodRow(final Matrix3 m, final Vector3 vRow, final Vector3 dest) {
+        final float x = vRow.x();
+        final float y = vRow.y();
+        final float z = vRow.z();
 
-        result.setY(m.get(R0, C1) * vRow.x()
-                + m.get(R1, C1) * vRow.y()
-                + m.get(R2, C1) * vRow.z());
+        dest.setX(m.get(R0, C0) * x
+                + m.get(R1, C0) * y
+                + m.get(R2, C0) * z);
 
-        result.setZ(m.get(R0, C2) * vRow.x()
-                + m.get(R1, C2) * vRow.y()
-                + m.get(R2, C2) * vRow.z());
+        dest.setY(m.get(R0, C1) * x
+                + m.get(R1, C1) * y
+                + m.get(R2, C1) * z);
 
-        return result;
+        dest.setZ(m.get(R0, C2) * x
+                + m.get(R1, C2) * y
+                + m.get(R2, C2) * z);
+
+        return dest;
     }
 
     /**
@@ -477,6 +546,90 @@ public final class Matrix3Math {
         return result;
     }
 
+    /**
+     * Returns the given matrix raised to the given integer power, calculated by
+     * repeated squaring with three reused buffers. Negative power is the power
+     * of the inverse matrix, and zero power is the unit matrix.
+     *
+     * @param m matrix
+     * @param k exponent
+     * @return new matrix {@code m^k}
+     * @throws RuntimeException if power is negative and matrix determinant
+     *                          equals to 0
+     *
+     * @since 3.1.0
+     */
+    public static Matrix3 pow(final Matrix3 m, final int k) throws RuntimeException {
+        Matrix3 base = k < 0 ? inv(m) : new Mat3(m);
+        Matrix3 result = unitMatrix();
+        Matrix3 buffer = new Mat3();
+        long e = Math.abs((long) k);
+        while (e > 0) {
+            if ((e & 1) != 0) {
+                prod(result, base, buffer);
+                final Matrix3 tmp = result;
+                result = buffer;
+                buffer = tmp;
+            }
+            e >>= 1;
+            if (e > 0) {
+                prod(base, base, buffer);
+                final Matrix3 tmp = base;
+                base = buffer;
+                buffer = tmp;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns exponential {@code e^m} of the given matrix, calculated by
+     * scaling and squaring with diagonal Padé approximation of degree 6 (see
+     * {@link MatrixMath#expm(Matrix)}).
+     *
+     * @param m matrix
+     * @return new matrix {@code e^m}
+     *
+     * @since 3.1.0
+     */
+    public static Matrix3 expm(final Matrix3 m) {
+        final int s = MatrixMath.expmScaling(m);
+        final Matrix3 a = mul(m, Math.scalb(1f, -s));
+
+        final Matrix3 numerator = unitMatrix();
+        final Matrix3 denominator = unitMatrix();
+        Matrix3 power = new Mat3(a);
+        Matrix3 buffer = new Mat3();
+        for (int i = 1; i <= MatrixMath.PADE_DEGREE; i++) {
+            if (i > 1) {
+                prod(a, power, buffer);
+                final Matrix3 tmp = power;
+                power = buffer;
+                buffer = tmp;
+            }
+            final float c = MatrixMath.PADE_COEFFICIENTS[i];
+            final float sign = i % 2 == 0 ? c : -c;
+            for (final Matrix3Row r : ROWS) {
+                for (final Matrix3Col col : COLS) {
+                    final float p = power.get(r, col);
+                    numerator.set(r, col, numerator.get(r, col) + c * p);
+                    denominator.set(r, col, denominator.get(r, col) + sign * p);
+                }
+            }
+        }
+
+        Matrix3 result = prod(inv(denominator), numerator);
+        for (int i = 0; i < s; i++) {
+            prod(result, result, buffer);
+            final Matrix3 tmp = result;
+            result = buffer;
+            buffer = tmp;
+        }
+
+        return result;
+    }
+
     /**
      * Returns minor matrix from the given matrix excluding given row and column
      * from given matrix.
@@ -704,6 +857,129 @@ public final class Matrix3Math {
         return toMatrix4(m, Matrix4Row.R3, Matrix4Col.C3);
     }
 
+    /**
+     * Sets scaling matrix into {@code dest}.
+     *
+     * @param dest matrix for result
+     * @param x    scale along x-axis
+     * @param y    scale along y-axis
+     * @param z    scale along z-axis
+     * @return matrix {@code dest} with scaling
+     *
+     * @since 3.1.0
+     */
+    public static Matrix3 setScaling(final Matrix3 dest, final float x, final float y, final float z) {
+        setRow(dest, R0, x, 0, 0);
+        setRow(dest, R1, 0, y, 0);
+        setRow(dest, R2, 0, 0, z);
+
+        return dest;
+    }
+
+    /**
+     * Sets matrix of rotation around the given axis into {@code dest}.
+     *
+     * @param dest  matrix for result
+     * @param axis  axis of rotation (must not be zero vector)
+     * @param angle angle of rotation in radians (counterclockwise)
+     * @return matrix {@code dest} with rotation for column-vectors
+     * @throws ArithmeticException if length of the axis is approximately equal 0
+     *
+     * @since 3.1.0
+     */
+    public static Matrix3 setRotation(final Matrix3 dest, final Vector3 axis, final float angle)
+            throws ArithmeticException {
+        setRow(dest, R0, 1, 0, 0);
+        setRow(dest, R1, 0, 1, 0);
+        setRow(dest, R2, 0, 0, 1);
+        rotateColsAsgn(dest, axis, angle);
+
+        return dest;
+    }
+
+    /**
+     * Multiplies matrix {@code m} by scaling matrix from the right
+     * ({@code m = m * S}) without construction of scaling matrix.
+     *
+     * @param m matrix for transformation
+     * @param x scale along x-axis
+     * @param y scale along y-axis
+     * @param z scale along z-axis
+     * @return modified matrix {@code m}
+     *
+     * @since 3.1.0
+     */
+    public static Matrix3 scaleAsgn(final Matrix3 m, final float x, final float y, final float z) {
+        for (final Matrix3Row r : ROWS) {
+            m.set(r, C0, m.get(r, C0) * x);
+            m.set(r, C1, m.get(r, C1) * y);
+            m.set(r, C2, m.get(r, C2) * z);
+        }
+
+        return m;
+    }
+
+    /**
+     * Multiplies matrix {@code m} by matrix of rotation around the given axis
+     * from the right ({@code m = m * R}) without construction of rotation
+     * matrix.
+     *
+     * @param m     matrix for transformation
+     * @param axis  axis of rotation (must not be zero vector)
+     * @param angle angle of rotation in radians (counterclockwise)
+     * @return modified matrix {@code m}
+     * @throws ArithmeticException if length of the axis is approximately equal 0
+     *
+     * @since 3.1.0
+     */
+    public static Matrix3 rotateAsgn(final Matrix3 m, final Vector3 axis, final float angle)
+            throws ArithmeticException {
+        rotateColsAsgn(m, axis, angle);
+
+        return m;
+    }
+
+    /**
+     * Multiplies first three columns of matrix {@code m} by matrix of rotation
+     * around the given axis (Rodrigues' rotation formula) from the right.
+     *
+     * @throws ArithmeticException if length of the axis is approximately equal 0
+     */
+    static void rotateColsAsgn(final Matrix m, final Vector3 axis, final float angle) throws ArithmeticException {
+        final float len = Vector3Math.len(axis);
+        Validator.validateDivisor(len);
+        final float x = axis.x() / len;
+        final float y = axis.y() / len;
+        final float z = axis.z() / len;
+        final float c = (float) Math.cos(angle);
+        final float s = (float) Math.sin(angle);
+        final float t = 1 - c;
+        final float r00 = t * x * x + c;
+        final float r01 = t * x * y - s * z;
+        final float r02 = t * x * z + s * y;
+        final float r10 = t * x * y + s * z;
+        final float r11 = t * y * y + c;
+        final float r12 = t * y * z - s * x;
+        final float r20 = t * x * z - s * y;
+        final float r21 = t * y * z + s * x;
+        final float r22 = t * z * z + c;
+        for (int r = 0; r < m.height(); r++) {
+            final float m0 = m.get(r, 0);
+            final float m1 = m.get(r, 1);
+            final float m2 = m.get(r, 2);
+            m.set(r, 0, m0 * r00 + m1 * r10 + m2 * r20);
+            m.set(r, 1, m0 * r01 + m1 * r11 + m2 * r21);
+            m.set(r, 2, m0 * r02 + m1 * r12 + m2 * r22);
+        }
+    }
+
+    private static void setRow(final Matrix3 dest, final Matrix3Row r,
+            final float v0, final float v1, final float v2) {
+        dest.set(r, C0, v0);
+        dest.set(r, C1, v1);
+        dest.set(r, C2, v2);
+    }
+
     /**
      * Constructs {@code height}x{@code width}vector with all 0 components.
      * 
@@ -0,0 +1,58 @@
+package io.github.alphameo.linear_algebra.mat;
+
+/**
+ * Enum of structural kinds of 4x4 transformation matrices, from the most
+ * specific to the most general one.
+ * <p>
+ * Every kind includes all the previous ones, e.g. translation matrix is also
+ * rigid and affine.
+ *
+ * @since 3.1.0
+ */
+public enum Matrix4Kind {
+    /**
+     * Identity matrix
+     *
+     * @since 3.1.0
+     */
+    IDENTITY,
+    /**
+     * Identity matrix with translation in the last column
+     *
+     * @since 3.1.0
+     */
+    TRANSLATION,
+    /**
+     * Orthogonal upper left 3x3 block (rotation or reflection), translation in
+     * the last column and [0 0 0 1] last row
+     *
+     * @since 3.1.0
+     */
+    RIGID,
+    /**
+     * Arbitrary upper left 3x3 block, translation in the last column and
+     * [0 0 0 1] last row
+     *
+     * @since 3.1.0
+     */
+    AFFINE,
+    /**
+     * Arbitrary matrix
+     *
+     * @since 3.1.0
+     */
+    GENERAL;
+
+    /**
+     * Returns the most specific kind, which includes both kinds (kind of product
+     * of matrices of these kinds).
+     *
+     * @param other second kind
+     * @return the most specific kind including {@code this} and {@code other}
+     *
+     * @since 3.1.0
+     */
+    public Matrix4Kind join(final Matrix4Kind other) {
+        return ordinal() >= other.ordinal() ? this : other;
+    }
+}
@@ -5,6 +5,7 @@ import static io.github.alphameo.linear_algebra.mat.Matrix4Col.*;
 
 import io.github.alphameo.linear_algebra.Validator;
 import io.github.alphameo.linear_algebra.vec.Vec4;
+import io.github.alphameo.linear_algebra.vec.Vector3;
 import io.github.alphameo.linear_algebra.vec.Vector4;
 
 /**
@@ -292,6 +293,11 @@ public final class Matrix4Math {
      * @since 1.0.0
      */
     public static Matrix4 prod(final Matrix4 m1, final Matrix4 m2) {
+        if (m1 instanceof AffineMat4 a1 && m2 instanceof AffineMat4 a2
+                && a1.kind().join(a2.kind()) != Matrix4Kind.GENERAL) {
+            return prodAffine(a1, a2);
+        }
+
         final Matrix4 result = new Mat4();
         for (final Matrix4Row r : ROWS) {
             for (final Matrix4Col c : COLS) {
@@ -306,6 +312,38 @@ public final class Matrix4Math {
         return result;
     }
 
+    /**
+     * Writes the result of product of the given matrices into {@code dest} and
+     * returns it.
+     *
+     * @param m1   left matrix for product
+     * @param m2   right matrix for product
+     * @param dest matrix for result, which must not be one of operands
+     * @return matrix {@code dest} with product of matrix {@code m1} and matrix
+     *         {@code m2}
+     * @throws IllegalArgumentException if {@code dest} is one of operands
+     *
+     * @since 3.1.0
+     */
+    public static Matrix4 prod(final Matrix4 m1, final Matrix4 m2, final Matrix4 dest)
+            throws IllegalArgumentException {
+        if (dest == m1 || dest == m2) {
+            throw new IllegalArgumentException("Matrix product denied: target matrix is one of operands");
+        }
+
+        for (final Matrix4Row r : ROWS) {
+            for (final Matrix4Col c : COLS) {
+                float value = 0;
+                for (int i = 0; i < COLS.length; i++) {
+                    value += m1.get(r, COLS[i]) * m2.get(ROWS[i], c);
+                }
+                dest.set(r, c, value);
+            }
+        }
+
+        return dest;
+    }
+
     /**
      * Returns the result of product of the given matrix and the given
      * vector-column.
@@ -333,29 +371,52 @@ public final class Matrix4Math {
      * @since 3.0.0
      */
     public static Vector4 prodCol(final Matrix4 m, final Vector4 vCol) {
-        final Vector4 result = new Vec4();
+        return prodCol(m, vCol, new Vec4());
+    }
+
+    /**
+     * Writes the result of the product of the given matrix and the given
+     * vector-column into {@code dest}.
+     *
+     * @param m    matrix (left)
+     * @param vCol vector-column (right)
+     * @param dest vector for result (may be {@code vCol})
+     * @return vector {@code dest} with result of product of matrix {@code m} and
+     *         vector {@code vCol}
+     *
+     * @since 3.1.0
+     */
+    public static Vector4 prodCol(final Matrix4 m, final Vector4 vCol, final Vector4 dest) {
+        if (m instanceof AffineMat4 a && a.kind() != Matrix4Kind.GENERAL) {
+            return prodColAffine(a, vCol, dest);
+        }
 
-        result.setX(m.get(R0, C0) * vCol.x()
-                + m.get(R0, C1) * vCol.y()
-                + m.get(R0, C2) * vCol.z()
-                + m.get(R0, C3) * vCol.w());
+        final float x = vCol.x();
+        final float y = vCol.y();
+        final float z = vCol.z();
+        final float w = vCol.w();
 
-        result.setY(m.get(R1, C0) * vCol.x()
-                + m.get(R1, C1) * vCol.y()
-                + m.get(R1, C2) * vCol.z()
-                + m.get(R1, C3) * vCol.w());
+        dest.setX(m.get(R0, C0) * x
+                + m.get(R0, C1) * y
+                + m.get(R0, C2) * z
+                + m.get(R0, C3) * w);
 
-        result.setZ(m.get(R2, C0) * vCol.x()
-                + m.get(R2, C1) * vCol.y()
-                + m.get(R2, C2) * vCol.z()
-                + m.get(R2, C3) * vCol.w());
+        dest.setY(m.get(R1, C0) * x
+                + m.get(R1, C1) * y
+                + m.get(R1, C2) * z
+                + m.get(R1, C3) * w);
 
-        result.setW(m.get(R3, C0) * vCol.x()
-                + m.get(R3, C1) * vCol.y()
-                + m.get(R3, C2) * vCol.z()
-                + m.get(R3, C3) * vCol.w());
+        dest.setZ(m.get(R2, C0) * x
+                + m.get(R2, C1) * y
+                + m.get(R2, C2) * z
+                + m.get(R2, C3) * w);
 
-        return result;
+        dest.setW(m.get(R3, C0) * x
+                + m.get(R3, C1) * y
+                + m.get(R3, C2) * z
+                + m.get(R3, C3) * w);
+
+        return dest;
     }
 
     /**
@@ -369,29 +430,48 @@ public final class Matrix4Math {
      * @since 3.0.0
      */
     public static Vector4 prodRow(final Matrix4 m, final Vector4 vRow) {
-        final Vector4 result = new Vec4();
-
-        result.setX(m.get(R0, C0) * vRow.x()
-                + m.get(R1, C0) * vRow.y()
-                + m.get(R2, C0) * vRow.z()
-                + m.get(R3, C0) * vRow.w());
-
-        result.setY(m.get(R0, C1) * vRow.x()
-                + m.get(R1, C1) * vRow.y()
-                + m.get(R2, C1) * vRow.z()
-                + m.get(R3, C1) * vRow.w());
-
-        result.setZ(m.get(R0, C2) * vRow.x()
-                + m.get(R1, C2) * vRow.y()
-                + m.get(R2, C2) * vRow.z()
-                + m.get(R3, C2) * vRow.w());
-
-        result.setW(m.get(R0, C3) * vRow.x()
-                + m.get(R1, C3) * vRow.y()
-                + m.get(R2, C3) * vRow.z()
-                + m.get(R3, C3) * vRow.w());
+        return prodRow(m, vRow, new Vec4());
+    }
 
-        return result;
+    /**
+     * Writes the result of product of the given vector-row and the given matrix
+     * into {@code dest}.
+     *
+     * @param m    matrix (right)
+     * @param vRow vector-row (left)
+     * @param dest vector for result (may be {@code vRow})
+     * @return vector {@code dest} with result of product of vector {@code vRow}
+     *         and matrix {@code m}
+     *
+     * @since 3.1.0
+     */
+    public static Vector4 prodRow(final Matrix4 m, final Vector4 vRow, final Vector4 dest) {
+        final float x = vRow.x();
+        final float y = vRow.y();
+        final float z = vRow.z();
+        final float w = vRow.w();
+
+        dest.setX(m.get(R0, C0) * x
+                + m.get(R1, C0) * y
+                + m.get(R2, C0) * z
+                + m.get(R3, C0) * w);
+
+        dest.setY(m.get(R0, C1) * x
+                + m.get(R1, C1) * y
+                + m.get(R2, C1) * z
+                + m.get(R3, C1) * w);
+
+        dest.setZ(m.get(R0, C2) * x
+                + m.get(R1, C2) * y
+                + m.get(R2, C2) * z
+                + m.get(R3, C2) * w);
+
+        dest.setW(m.get(R0, C3) * x
+                + m.get(R1, C3) * y
+                + m.get(R2, C3) * z
+                + m.get(R3, C3) * w);
+
+        return dest;
     }
 
     /**
@@ -482,6 +562,10 @@ public final class Matrix4Math {
      * @since 1.0.0
      */
     public static Matrix4 inv(final Matrix4 m) throws RuntimeException {
+        if (m instanceof AffineMat4 a && a.kind() != Matrix4Kind.GENERAL) {
+            return invAffine(a);
+        }
+
         final Matrix4 result = cofactorMatrix(m);
         final float determinant = det(m);
 
@@ -493,6 +577,204 @@ public final class Matrix4Math {
         return result;
     }
 
+    private static Matrix4 prodAffine(final AffineMat4 m1, final AffineMat4 m2) {
+        final Matrix4Kind kind = m1.kind().join(m2.kind());
+        if (m1.kind() == Matrix4Kind.IDENTITY) {
+            return m2.clone();
+        }
+        if (m2.kind() == Matrix4Kind.IDENTITY) {
+            return m1.clone();
+        }
+
+        final float[] a = m1.data();
+        final float[] b = m2.data();
+        final float[] r = new float[16];
+        if (kind == Matrix4Kind.TRANSLATION) {
+            r[0] = 1;
+            r[5] = 1;
+            r[10] = 1;
+            r[3] = a[3] + b[3];
+            r[7] = a[7] + b[7];
+            r[11] = a[11] + b[11];
+        } else {
+            // last rows are [0 0 0 1], so only 3x4 block is multiplied
+            for (int i = 0; i < 12; i += 4) {
+                for (int j = 0; j < 4; j++) {
+                    r[i + j] = a[i] * b[j] + a[i + 1] * b[4 + j] + a[i + 2] * b[8 + j];
+                }
+                r[i + 3] += a[i + 3];
+            }
+        }
+        r[15] = 1;
+
+        return AffineMat4.wrap(r, kind);
+    }
+
+    private static Vector4 prodColAffine(final AffineMat4 m, final Vector4 vCol, final Vector4 dest) {
+        final float[] e = m.data();
+        final float x = vCol.x();
+        final float y = vCol.y();
+        final float z = vCol.z();
+        final float w = vCol.w();
+
+        switch (m.kind()) {
+            case IDENTITY:
+                dest.setX(x);
+                dest.setY(y);
+                dest.setZ(z);
+                break;
+            case TRANSLATION:
+                dest.setX(x + e[3] * w);
+                dest.setY(y + e[7] * w);
+                dest.setZ(z + e[11] * w);
+                break;
+            default:
+                dest.setX(e[0] * x + e[1] * y + e[2] * z + e[3] * w);
+                dest.setY(e[4] * x + e[5] * y + e[6] * z + e[7] * w);
+                dest.setZ(e[8] * x + e[9] * y + e[10] * z + e[11] * w);
+                break;
+        }
+        dest.setW(w);
+
+        return dest;
+    }
+
+    private static Matrix4 invAffine(final AffineMat4 m) throws RuntimeException {
+        final float[] e = m.data();
+        final float[] r = new float[16];
+        r[15] = 1;
+
+        switch (m.kind()) {
+            case IDENTITY:
+                return new AffineMat4();
+            case TRANSLATION:
+                return AffineMat4.translation(-e[3], -e[7], -e[11]);
+            case RIGID:
+                // inverse of orthogonal block is its transpose
+                r[0] = e[0];
+                r[1] = e[4];
+                r[2] = e[8];
+                r[4] = e[1];
+                r[5] = e[5];
+                r[6] = e[9];
+                r[8] = e[2];
+                r[9] = e[6];
+                r[10] = e[10];
+                break;
+            default:
+                final float c00 = e[5] * e[10] - e[6] * e[9];
+                final float c01 = e[6] * e[8] - e[4] * e[10];
+                final float c02 = e[4] * e[9] - e[5] * e[8];
+                final float determinant = e[0] * c00 + e[1] * c01 + e[2] * c02;
+                if (determinant == 0) {
+                    throw new RuntimeException("Invertible matrix does not exist: determinant is 0");
+                }
+                final float invDet = 1 / determinant;
+
+                r[0] = c00 * invDet;
+                r[1] = (e[2] * e[9] - e[1] * e[10]) * invDet;
+                r[2] = (e[1] * e[6] - e[2] * e[5]) * invDet;
+                r[4] = c01 * invDet;
+                r[5] = (e[0] * e[10] - e[2] * e[8]) * invDet;
+                r[6] = (e[2] * e[4] - e[0] * e[6]) * invDet;
+                r[8] = c02 * invDet;
+                r[9] = (e[1] * e[8] - e[0] * e[9]) * invDet;
+                r[10] = (e[0] * e[5] - e[1] * e[4]) * invDet;
+                break;
+        }
+
+        // translation of inverse is -inv(A) * t
+        r[3] = -(r[0] * e[3] + r[1] * e[7] + r[2] * e[11]);
+        r[7] = -(r[4] * e[3] + r[5] * e[7] + r[6] * e[11]);
+        r[11] = -(r[8] * e[3] + r[9] * e[7] + r[10] * e[11]);
+
+        return AffineMat4.wrap(r, m.kind());
+    }
+
+    /**
+     * Returns the given matrix raised to the given integer power, calculated by
+     * repeated squaring with three reused buffers. Negative power is the power
+     * of the inverse matrix, and zero power is the unit matrix.
+     *
+     * @param m matrix
+     * @param k exponent
+     * @return new matrix {@code m^k}
+     * @throws RuntimeException if power is negative and matrix determinant
+     *                          equals to 0
+     *
+     * @since 3.1.0
+     */
+    public static Matrix4 pow(final Matrix4 m, final int k) throws RuntimeException {
+        Matrix4 base = k < 0 ? inv(m) : new Mat4(m);
+        Matrix4 result = unitMatrix();
+        Matrix4 buffer = new Mat4();
+        long e = Math.abs((long) k);
+        while (e > 0) {
+            if ((e & 1) != 0) {
+                prod(result, base, buffer);
+                final Matrix4 tmp = result;
+                result = buffer;
+                buffer = tmp;
+            }
+            e >>= 1;
+            if (e > 0) {
+                prod(base, base, buffer);
+                final Matrix4 tmp = base;
+                base = buffer;
+                buffer = tmp;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns exponential {@code e^m} of the given matrix, calculated by
+     * scaling and squaring with diagonal Padé approximation of degree 6 (see
+     * {@link MatrixMath#expm(Matrix)}).
+     *
+     * @param m matrix
+     * @return new matrix {@code e^m}
+     *
+     * @since 3.1.0
+     */
+    public static Matrix4 expm(final Matrix4 m) {
+        final int s = MatrixMath.expmScaling(m);
+        final Matrix4 a = mul(m, Math.scalb(1f, -s));
+
+        final Matrix4 numerator = unitMatrix();
+        final Matrix4 denominator = unitMatrix();
+        Matrix4 power = new Mat4(a);
+        Matrix4 buffer = new Mat4();
+        for (int i = 1; i <= MatrixMath.PADE_DEGREE; i++) {
+            if (i > 1) {
+                prod(a, power, buffer);
+                final Matrix4 tmp = power;
+                power = buffer;
+                buffer = tmp;
+            }
+            final float c = MatrixMath.PADE_COEFFICIENTS[i];
+            final float sign = i % 2 == 0 ? c : -c;
+            for (final Matrix4Row r : ROWS) {
+                for (final Matrix4Col col : COLS) {
+                    final float p = power.get(r, col);
+                    numerator.set(r, col, numerator.get(r, col) + c * p);
+                    denominator.set(r, col, denominator.get(r, col) + sign * p);
+                }
+            }
+        }
+
+        Matrix4 result = prod(inv(denominator), numerator);
+        for (int i = 0; i < s; i++) {
+            prod(result, result, buffer);
+            final Matrix4 tmp = result;
+            result = buffer;
+            buffer = tmp;
+        }
+
+        return result;
+    }
+
     /**
      * Returns minor matrix from the given matrix excluding given row and column
      * from given matrix.
@@ -506,7 +788,25 @@ public final class Matrix4Math {
      * @since 1.0.0
      */
     public static Matrix3 minorMatrix(final Matrix4 m, final Matrix4Row r, final Matrix4Col c) {
-        final Matrix3 result = new Mat3();
+        return minorMatrix(m, r, c, new Mat3());
+    }
+
+    /**
+     * Writes minor matrix from the given matrix excluding given row and column
+     * into {@code dest}.
+     *
+     * @param m    matrix for minor matrix construction
+     * @param r    row to exclude
+     * @param c    column to exclude
+     * @param dest matrix for result
+     * @return matrix {@code dest} with minor matrix excluding row {@code r} and
+     *         column {@code c} from matrix {@code m}
+     *
+     * @since 3.1.0
+     */
+    public static Matrix3 minorMatrix(final Matrix4 m, final Matrix4Row r, final Matrix4Col c,
+            final Matrix3 dest) {
+        final Matrix3 result = dest;
         int destRow = 0;
         int destCol = 0;
         for (int i = 0; i < m.width(); i++) {
@@ -545,7 +845,16 @@ public final class Matrix4Math {
      */
     public static float cofactor(final Matrix4 m, final Matrix4Row r, final Matrix4Col c) {
         final int coefficient = (r.ordinal() + c.ordinal()) % 2 == 0 ? 1 : -1;
-        return coefficient * Matrix3Math.det(minorMatrix(m, r, c));
+        final Matrix4Row r0 = ROWS[r.ordinal() == 0 ? 1 : 0];
+        final Matrix4Row r1 = ROWS[r.ordinal() <= 1 ? 2 : 1];
+        final Matrix4Row r2 = ROWS[r.ordinal() <= 2 ? 3 : 2];
+        final Matrix4Col c0 = COLS[c.ordinal() == 0 ? 1 : 0];
+        final Matrix4Col c1 = COLS[c.ordinal() <= 1 ? 2 : 1];
+        final Matrix4Col c2 = COLS[c.ordinal() <= 2 ? 3 : 2];
+
+        return coefficient * (m.get(r0, c0) * (m.get(r1, c1) * m.get(r2, c2) - m.get(r1, c2) * m.get(r2, c1))
+                - m.get(r0, c1) * (m.get(r1, c0) * m.get(r2, c2) - m.get(r1, c2) * m.get(r2, c0))
+                + m.get(r0, c2) * (m.get(r1, c0) * m.get(r2, c1) - m.get(r1, c1) * m.get(r2, c0)));
     }
 
     /**
@@ -654,6 +963,260 @@ public final class Matrix4Math {
         return equalsEpsilon(m1, m2, Validator.EPS);
     }
 
+    /**
+     * Sets translation matrix into {@code dest}.
+     *
+     * @param dest matrix for result
+     * @param x    translation along x-axis
+     * @param y    translation along y-axis
+     * @param z    translation along z-axis
+     * @return matrix {@code dest} with translation for column-vectors
+     *
+     * @since 3.1.0
+     */
+    public static Matrix4 setTranslation(final Matrix4 dest, final float x, final float y, final float z) {
+        setRow(dest, R0, 1, 0, 0, x);
+        setRow(dest, R1, 0, 1, 0, y);
+        setRow(dest, R2, 0, 0, 1, z);
+        setRow(dest, R3, 0, 0, 0, 1);
+
+        return dest;
+    }
+
+    /**
+     * Sets scaling matrix into {@code dest}.
+     *
+     * @param dest matrix for result
+     * @param x    scale along x-axis
+     * @param y    scale along y-axis
+     * @param z    scale along z-axis
+     * @return matrix {@code dest} with scaling
+     *
+     * @since 3.1.0
+     */
+    public static Matrix4 setScaling(final Matrix4 dest, final float x, final float y, final float z) {
+        setRow(dest, R0, x, 0, 0, 0);
+        setRow(dest, R1, 0, y, 0, 0);
+        setRow(dest, R2, 0, 0, z, 0);
+        setRow(dest, R3, 0, 0, 0, 1);
+
+        return dest;
+    }
+
+    /**
+     * Sets matrix of rotation around the given axis into {@code dest}.
+     *
+     * @param dest  matrix for result
+     * @param axis  axis of rotation (must not be zero vector)
+     * @param angle angle of rotation in radians (counterclockwise)
+     * @return matrix {@code dest} with rotation for column-vectors
+     * @throws ArithmeticException if length of the axis is approximately equal 0
+     *
+     * @since 3.1.0
+     */
+    public static Matrix4 setRotation(final Matrix4 dest, final Vector3 axis, final float angle)
+            throws ArithmeticException {
+        setRow(dest, R0, 1, 0, 0, 0);
+        setRow(dest, R1, 0, 1, 0, 0);
+        setRow(dest, R2, 0, 0, 1, 0);
+        setRow(dest, R3, 0, 0, 0, 1);
+        Matrix3Math.rotateColsAsgn(dest, axis, angle);
+
+        return dest;
+    }
+
+    /**
+     * Sets view matrix of camera into {@code dest} (right-handed, camera looks
+     * along negative z-axis).
+     *
+     * @param dest   matrix for result
+     * @param eye    position of camera
+     * @param target point camera looks at
+     * @param up     direction of up
+     * @return matrix {@code dest} with view transformation
+     * @throws ArithmeticException if {@code eye} equals {@code target} or
+     *                             {@code up} is parallel to view direction
+     *
+     * @since 3.1.0
+     */
+    public static Matrix4 setLookAt(final Matrix4 dest, final Vector3 eye, final Vector3 target, final Vector3 up)
+            throws ArithmeticException {
+        float fx = target.x() - eye.x();
+        float fy = target.y() - eye.y();
+        float fz = target.z() - eye.z();
+        final float fLen = (float) Math.sqrt(fx * fx + fy * fy + fz * fz);
+        Validator.validateDivisor(fLen);
+        fx /= fLen;
+        fy /= fLen;
+        fz /= fLen;
+
+        // side = forward x up
+        float sx = fy * up.z() - fz * up.y();
+        float sy = fz * up.x() - fx * up.z();
+        float sz = fx * up.y() - fy * up.x();
+        final float sLen = (float) Math.sqrt(sx * sx + sy * sy + sz * sz);
+        Validator.validateDivisor(sLen);
+        sx /= sLen;
+        sy /= sLen;
+        sz /= sLen;
+
+        // true up = side x forward
+        final float ux = sy * fz - sz * fy;
+        final float uy = sz * fx - sx * fz;
+        final float uz = sx * fy - sy * fx;
+
+        final float ex = eye.x();
+        final float ey = eye.y();
+        final float ez = eye.z();
+        setRow(dest, R0, sx, sy, sz, -(sx * ex + sy * ey + sz * ez));
+        setRow(dest, R1, ux, uy, uz, -(ux * ex + uy * ey + uz * ez));
+        setRow(dest, R2, -fx, -fy, -fz, fx * ex + fy * ey + fz * ez);
+        setRow(dest, R3, 0, 0, 0, 1);
+
+        return dest;
+    }
+
+    /**
+     * Sets perspective projection matrix into {@code dest} (right-handed view
+     * space, clip space depth in [-1, 1]).
+     *
+     * @param dest   matrix for result
+     * @param fovY   vertical field of view in radians
+     * @param aspect ratio of width to height of viewport
+     * @param near   distance to near clipping plane
+     * @param far    distance to far clipping plane
+     * @return matrix {@code dest} with perspective projection
+     * @throws IllegalArgumentException if field of view is not in (0, PI),
+     *                                  aspect is 0 or near equals far
+     *
+     * @since 3.1.0
+     */
+    public static Matrix4 setPerspective(final Matrix4 dest, final float fovY, final float aspect,
+            final float near, final float far) throws IllegalArgumentException {
+        if (fovY <= 0 || fovY >= Math.PI) {
+            throw new IllegalArgumentException(
+                    String.format("Perspective creation denied: field of view %f is not in (0, PI)", fovY));
+        }
+        if (aspect == 0 || near == far) {
+            throw new IllegalArgumentException(String.format(
+                    "Perspective creation denied: aspect=%f, near=%f, far=%f", aspect, near, far));
+        }
+
+        final float f = 1 / (float) Math.tan(fovY / 2);
+        final float depth = near - far;
+        setRow(dest, R0, f / aspect, 0, 0, 0);
+        setRow(dest, R1, 0, f, 0, 0);
+        setRow(dest, R2, 0, 0, (far + near) / depth, 2 * far * near / depth);
+        setRow(dest, R3, 0, 0, -1, 0);
+
+        return dest;
+    }
+
+    /**
+     * Sets orthographic projection matrix into {@code dest} (right-handed view
+     * space, clip space depth in [-1, 1]).
+     *
+     * @param dest   matrix for result
+     * @param left   left clipping plane
+     * @param right  right clipping plane
+     * @param bottom bottom clipping plane
+     * @param top    top clipping plane
+     * @param near   distance to near clipping plane
+     * @param far    distance to far clipping plane
+     * @return matrix {@code dest} with orthographic projection
+     * @throws IllegalArgumentException if opposite clipping planes are equal
+     *
+     * @since 3.1.0
+     */
+    public static Matrix4 setOrthographic(final Matrix4 dest, final float left, final float right,
+            final float bottom, final float top, final float near, final float far)
+            throws IllegalArgumentException {
+        if (left == right || bottom == top || near == far) {
+            throw new IllegalArgumentException(
+                    "Orthographic projection creation denied: opposite clipping planes are equal");
+        }
+
+        final float w = right - left;
+        final float h = top - bottom;
+        final float d = far - near;
+        setRow(dest, R0, 2 / w, 0, 0, -(right + left) / w);
+        setRow(dest, R1, 0, 2 / h, 0, -(top + bottom) / h);
+        setRow(dest, R2, 0, 0, -2 / d, -(far + near) / d);
+        setRow(dest, R3, 0, 0, 0, 1);
+
+        return dest;
+    }
+
+    /**
+     * Multiplies matrix {@code m} by translation matrix from the right
+     * ({@code m = m * T}) without construction of translation matrix.
+     *
+     * @param m matrix for transformation
+     * @param x translation along x-axis
+     * @param y translation along y-axis
+     * @param z translation along z-axis
+     * @return modified matrix {@code m}
+     *
+     * @since 3.1.0
+     */
+    public static Matrix4 translateAsgn(final Matrix4 m, final float x, final float y, final float z) {
+        for (final Matrix4Row r : ROWS) {
+            m.set(r, C3, m.get(r, C0) * x + m.get(r, C1) * y + m.get(r, C2) * z + m.get(r, C3));
+        }
+
+        return m;
+    }
+
+    /**
+     * Multiplies matrix {@code m} by scaling matrix from the right
+     * ({@code m = m * S}) without construction of scaling matrix.
+     *
+     * @param m matrix for transformation
+     * @param x scale along x-axis
+     * @param y scale along y-axis
+     * @param z scale along z-axis
+     * @return modified matrix {@code m}
+     *
+     * @since 3.1.0
+     */
+    public static Matrix4 scaleAsgn(final Matrix4 m, final float x, final float y, final float z) {
+        for (final Matrix4Row r : ROWS) {
+            m.set(r, C0, m.get(r, C0) * x);
+            m.set(r, C1, m.get(r, C1) * y);
+            m.set(r, C2, m.get(r, C2) * z);
+        }
+
+        return m;
+    }
+
+    /**
+     * Multiplies matrix {@code m} by matrix of rotation around the given axis
+     * from the right ({@code m = m * R}) without construction of rotation
+     * matrix.
+     *
+     * @param m     matrix for transformation
+     * @param axis  axis of rotation (must not be zero vector)
+     * @param angle angle of rotation in radians (counterclockwise)
+     * @return modified matrix {@code m}
+     * @throws ArithmeticException if length of the axis is approximately equal 0
+     *
+     * @since 3.1.0
+     */
+    public static Matrix4 rotateAsgn(final Matrix4 m, final Vector3 axis, final float angle)
+            throws ArithmeticException {
+        Matrix3Math.rotateColsAsgn(m, axis, angle);
+
+        return m;
+    }
+
+    private static void setRow(final Matrix4 dest, final Matrix4Row r,
+            final float v0, final float v1, final float v2, final float v3) {
+        dest.set(r, C0, v0);
+        dest.set(r, C1, v1);
+        dest.set(r, C2, v2);
+        dest.set(r, C3, v3);
+    }
+
     /**
      * Constructs {@code height}x{@code width}vector with all 0 components.
      * 
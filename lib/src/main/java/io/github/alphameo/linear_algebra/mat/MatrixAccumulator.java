@@ -0,0 +1,282 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe accumulator of matrix sums for many concurrent writers.
+ * <p>
+ * Like {@link java.util.concurrent.atomic.LongAdder}, it keeps several
+ * partial buffers (stripes). A writer adds into the first stripe it can lock
+ * without waiting, and new stripes are created only on contention, so
+ * uncontended use costs one buffer. {@link #snapshot()} returns the sum of all
+ * stripes; it is exact only if no writers run concurrently, otherwise it
+ * contains some subset of concurrent additions.
+ *
+ * @since 3.1.0
+ */
+public class MatrixAccumulator {
+
+    private static final ThreadLocal<int[]> PROBE = ThreadLocal.withInitial(
+            () -> new int[] { ThreadLocalRandom.current().nextInt() | 1 });
+
+    private final int height;
+    private final int width;
+    private final AtomicReferenceArray<Stripe> stripes;
+    private final AtomicInteger active = new AtomicInteger(1);
+
+    /**
+     * Constructs accumulator of {@code height} x {@code width} matrices with
+     * amount of stripes limited by amount of available processors.
+     *
+     * @param height height of accumulated matrices
+     * @param width  width of accumulated matrices
+     *
+     * @since 3.1.0
+     */
+    public MatrixAccumulator(final int height, final int width) {
+        this(height, width, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs accumulator of {@code height} x {@code width} matrices.
+     *
+     * @param height     height of accumulated matrices
+     * @param width      width of accumulated matrices
+     * @param maxStripes maximal amount of partial buffers
+     * @throws IllegalArgumentException if maximal amount of stripes is not
+     *                                  positive
+     *
+     * @since 3.1.0
+     */
+    public MatrixAccumulator(final int height, final int width, final int maxStripes)
+            throws IllegalArgumentException {
+        if (maxStripes <= 0) {
+            throw new IllegalArgumentException(
+                    String.format("Accumulator creation denied: amount of stripes %d is not positive", maxStripes));
+        }
+
+        this.height = height;
+        this.width = width;
+        this.stripes = new AtomicReferenceArray<>(maxStripes);
+    }
+
+    /**
+     * Returns height of accumulated matrices.
+     *
+     * @return height of accumulated matrices
+     *
+     * @since 3.1.0
+     */
+    public int height() {
+        return height;
+    }
+
+    /**
+     * Returns width of accumulated matrices.
+     *
+     * @return width of accumulated matrices
+     *
+     * @since 3.1.0
+     */
+    public int width() {
+        return width;
+    }
+
+    /**
+     * Adds value to the element of accumulated sum.
+     *
+     * @param r     row index
+     * @param c     column index
+     * @param value value to be added
+     *
+     * @since 3.1.0
+     */
+    public void add(final int r, final int c, final float value) {
+        if (r < 0 || r >= height || c < 0 || c >= width) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Position (%d, %d) is out of %dx%d bounds", r, c, height, width));
+        }
+
+        final Stripe stripe = acquire();
+        try {
+            stripe.entries[r * width + c] += value;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Adds the given matrix to accumulated sum.
+     *
+     * @param addendum matrix to be added
+     * @return this accumulator
+     * @throws IllegalArgumentException if sizes of matrix and accumulator are
+     *                                  different
+     *
+     * @since 3.1.0
+     */
+    public MatrixAccumulator addAsgn(final Matrix addendum) throws IllegalArgumentException {
+        validateSizes(addendum, "Addition denied");
+
+        final Stripe stripe = acquire();
+        try {
+            final float[] entries = stripe.entries;
+            if (addendum instanceof Mat mat) {
+                final float[] data = mat.data();
+                for (int i = 0; i < entries.length; i++) {
+                    entries[i] += data[i];
+                }
+            } else {
+                for (int r = 0; r < height; r++) {
+                    for (int c = 0; c < width; c++) {
+                        entries[r * width + c] += addendum.get(r, c);
+                    }
+                }
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+
+        return this;
+    }
+
+    /**
+     * Returns accumulated sum.
+     *
+     * @return new matrix with sum of all additions
+     *
+     * @since 3.1.0
+     */
+    public Matrix snapshot() {
+        return snapshot(new Mat(height, width));
+    }
+
+    /**
+     * Writes accumulated sum into {@code dest}.
+     *
+     * @param dest matrix for result
+     * @return matrix {@code dest} with sum of all additions
+     * @throws IllegalArgumentException if sizes of matrix and accumulator are
+     *                                  different
+     *
+     * @since 3.1.0
+     */
+    public Matrix snapshot(final Matrix dest) throws IllegalArgumentException {
+        validateSizes(dest, "Snapshot denied");
+
+        final float[] sum = new float[height * width];
+        for (int i = 0; i < active.get(); i++) {
+            final Stripe stripe = stripes.get(i);
+            if (stripe == null) {
+                continue;
+            }
+            stripe.lock.lock();
+            try {
+                final float[] entries = stripe.entries;
+                for (int j = 0; j < sum.length; j++) {
+                    sum[j] += entries[j];
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+
+        if (dest instanceof Mat mat) {
+            System.arraycopy(sum, 0, mat.data(), 0, sum.length);
+        } else {
+            for (int r = 0; r < height; r++) {
+                for (int c = 0; c < width; c++) {
+                    dest.set(r, c, sum[r * width + c]);
+                }
+            }
+        }
+
+        return dest;
+    }
+
+    /**
+     * Resets accumulated sum to 0.
+     *
+     * @since 3.1.0
+     */
+    public void reset() {
+        for (int i = 0; i < active.get(); i++) {
+            final Stripe stripe = stripes.get(i);
+            if (stripe == null) {
+                continue;
+            }
+            stripe.lock.lock();
+            try {
+                Arrays.fill(stripe.entries, 0);
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Returns locked stripe: first probes active stripes without waiting,
+     * then activates new stripe, and waits only if all stripes are in use.
+     */
+    private Stripe acquire() {
+        final int[] probe = PROBE.get();
+        int attempts = 0;
+        while (true) {
+            final int count = active.get();
+            final Stripe stripe = stripe((probe[0] & Integer.MAX_VALUE) % count);
+            if (stripe.lock.tryLock()) {
+                return stripe;
+            }
+
+            // xorshift moves thread to another stripe after collision
+            int h = probe[0];
+            h ^= h << 13;
+            h ^= h >>> 17;
+            h ^= h << 5;
+            probe[0] = h;
+
+            if (++attempts < count) {
+                continue;
+            }
+            if (count < stripes.length()) {
+                active.compareAndSet(count, count + 1);
+                attempts = 0;
+                continue;
+            }
+
+            stripe.lock.lock();
+            return stripe;
+        }
+    }
+
+    private Stripe stripe(final int index) {
+        Stripe stripe = stripes.get(index);
+        if (stripe == null) {
+            stripes.compareAndSet(index, null, new Stripe(height * width));
+            stripe = stripes.get(index);
+        }
+
+        return stripe;
+    }
+
+    private void validateSizes(final Matrix m, final String errMessage) throws IllegalArgumentException {
+        if (m.height() != height || m.width() != width) {
+            throw new IllegalArgumentException(String.format("%s: matrices with different sizes (%dx%d and %dx%d)",
+                    errMessage, height, width, m.height(), m.width()));
+        }
+    }
+
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final float[] entries;
+
+        Stripe(final int size) {
+            entries = new float[size];
+        }
+    }
+}
@@ -1,8 +1,19 @@
 package io.github.alphameo.linear_algebra.mat;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import io.github.alphameo.linear_algebra.FloatBinaryOperator;
+import io.github.alphameo.linear_algebra.FloatSpliterator;
+import io.github.alphameo.linear_algebra.FloatUnaryOperator;
 import io.github.alphameo.linear_algebra.Validator;
+import io.github.alphameo.linear_algebra.Workspace;
 import io.github.alphameo.linear_algebra.vec.Vec;
 import io.github.alphameo.linear_algebra.vec.Vector;
+import io.github.alphameo.linear_algebra.vec.VectorMath;
 
 /**
  * Class with static functions for arbitrary matrices.
@@ -19,6 +30,37 @@ public final class MatrixMath {
     public MatrixMath() {
     }
 
+    /**
+     * Minimal amount of elements of dense matrix, for which element-wise
+     * operations ({@link #mapAsgn}, {@link #zipAsgn}, {@link #reduce}) are
+     * executed in parallel.
+     *
+     * @since 3.1.0
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    /**
+     * Default size of blocks, which are multiplied by the standard kernel inside
+     * {@link #prodStrassen(Matrix, Matrix)}.
+     *
+     * @since 3.1.0
+     */
+    public static final int STRASSEN_CUTOFF = 128;
+
+    private static final int PARALLEL_BLOCK = 1 << 13;
+
+    /**
+     * Degree of diagonal Padé approximation of exponential.
+     */
+    static final int PADE_DEGREE = 6;
+
+    /**
+     * Coefficients of numerator of diagonal Padé approximation of {@code e^x}:
+     * element {@code i} is coefficient of {@code x^i}, and coefficient of
+     * denominator is the same with sign {@code (-1)^i}.
+     */
+    static final float[] PADE_COEFFICIENTS = padeCoefficients(PADE_DEGREE);
+
     /**
      * Transposes the given square matrix and returns it.
      *
@@ -33,6 +75,11 @@ public final class MatrixMath {
             throw new IllegalArgumentException("Inapplicable method ::transposeSquare for non-square matrix");
         }
 
+        if (m instanceof Mat mat) {
+            Transposer.transposeSquare(mat.data(), mat.width());
+            return m;
+        }
+
         float tmp;
         for (int i = 0; i < m.width(); i++) {
             for (int j = i + 1; j < m.width(); j++) {
@@ -47,6 +94,9 @@ public final class MatrixMath {
 
     /**
      * Returns the result of the transpose operation of the given matrix.
+     * <p>
+     * Elements are copied in tiles, so both matrices are walked in a cache
+     * friendly order.
      *
      * @param m matrix for transpose
      * @return new matrix with elements of transposed matrix {@code m}
@@ -54,10 +104,24 @@ public final class MatrixMath {
      * @since 1.0.0
      */
     public static Matrix transposed(final Matrix m) {
-        Matrix result = new Mat(m.width(), m.height());
-        for (int r = 0; r < m.height(); r++) {
-            for (int c = 0; c < m.width(); c++) {
-                result.set(c, r, m.get(r, c));
+        final Mat result = new Mat(m.width(), m.height());
+        if (m instanceof Mat mat) {
+            Transposer.transpose(mat.data(), m.height(), m.width(), result.data());
+            return result;
+        }
+
+        final float[] dest = result.data();
+        final int height = m.height();
+        final int width = m.width();
+        for (int br = 0; br < height; br += Transposer.BLOCK) {
+            final int rEnd = Math.min(br + Transposer.BLOCK, height);
+            for (int bc = 0; bc < width; bc += Transposer.BLOCK) {
+                final int cEnd = Math.min(bc + Transposer.BLOCK, width);
+                for (int r = br; r < rEnd; r++) {
+                    for (int c = bc; c < cEnd; c++) {
+                        dest[c * height + r] = m.get(r, c);
+                    }
+                }
             }
         }
 
@@ -97,7 +161,7 @@ public final class MatrixMath {
      * @since 1.0.0
      */
     public static Matrix swappedRows(final Matrix m, final int r1, final int r2) {
-        return swapRows(m.clone(), r1, r2);
+        return swapRows(copy(m), r1, r2);
     }
 
     /**
@@ -133,7 +197,7 @@ public final class MatrixMath {
      * @since 1.0.0
      */
     public static Matrix swappedCols(final Matrix m, final int c1, final int c2) {
-        return swapCols(m.clone(), c1, c2);
+        return swapCols(copy(m), c1, c2);
     }
 
     /**
@@ -167,7 +231,7 @@ public final class MatrixMath {
      * @since 1.0.0
      */
     public static Matrix mul(final Matrix m, final float multiplier) {
-        return mulAsgn(m.clone(), multiplier);
+        return mulAsgn(copy(m), multiplier);
     }
 
     /**
@@ -204,7 +268,7 @@ public final class MatrixMath {
      * @since 1.0.0
      */
     public static Matrix div(final Matrix m, final float divisor) throws ArithmeticException {
-        return divAsgn(m.clone(), divisor);
+        return divAsgn(copy(m), divisor);
     }
 
     /**
@@ -220,6 +284,10 @@ public final class MatrixMath {
      */
     public static Matrix addAsgn(final Matrix target, final Matrix addendum) throws IllegalArgumentException {
         Validator.validateMatrixSizes(target, addendum, "Addition denied");
+        if (target instanceof BlockMat blocks && addendum instanceof BlockMat other && blocks.samePartition(other)) {
+            blocks.addAsgn(other);
+            return target;
+        }
         for (int r = 0; r < target.height(); r++) {
             for (int c = 0; c < addendum.width(); c++) {
                 target.set(r, c, target.get(r, c) + addendum.get(r, c));
@@ -242,7 +310,7 @@ public final class MatrixMath {
      * @since 1.0.0
      */
     public static Matrix add(final Matrix target, final Matrix addendum) throws IllegalArgumentException {
-        return addAsgn(target.clone(), addendum);
+        return addAsgn(copy(target), addendum);
     }
 
     /**
@@ -258,6 +326,10 @@ public final class MatrixMath {
      */
     public static Matrix subAsgn(final Matrix target, final Matrix subtrahend) throws IllegalArgumentException {
         Validator.validateMatrixSizes(target, subtrahend, "Subtraction denied");
+        if (target instanceof BlockMat blocks && subtrahend instanceof BlockMat other && blocks.samePartition(other)) {
+            blocks.subAsgn(other);
+            return target;
+        }
         for (int r = 0; r < target.height(); r++) {
             for (int c = 0; c < subtrahend.width(); c++) {
                 target.set(r, c, target.get(r, c) - subtrahend.get(r, c));
@@ -280,7 +352,7 @@ public final class MatrixMath {
      * @since 1.0.0
      */
     public static Matrix sub(final Matrix target, final Matrix subtrahend) throws IllegalArgumentException {
-        return subAsgn(target.clone(), subtrahend);
+        return subAsgn(copy(target), subtrahend);
     }
 
     /**
@@ -300,20 +372,199 @@ public final class MatrixMath {
                     String.format("Matrix product denied: matrices with sizes %dx%d and %dx%d", m1.height(),
                             m1.width(), m2.height(), m2.width()));
         }
+        if (m1 instanceof BlockMat blocks && m2 instanceof BlockMat other && blocks.multipliable(other)) {
+            return blocks.prod(other);
+        }
+        if (m1 instanceof IdentityMat) {
+            return new Mat(m2);
+        }
+        if (m2 instanceof IdentityMat) {
+            return new Mat(m1);
+        }
+        if (m1 instanceof DiagonalMat diagonal) {
+            return scaleRowsAsgn(new Mat(m2), new Vec(diagonal.data()));
+        }
+        if (m2 instanceof DiagonalMat diagonal) {
+            return scaleColsAsgn(new Mat(m1), diagonal.data());
+        }
+        if (m1 instanceof PermutationMat permutation) {
+            return permuteRows(m2, permutation.data());
+        }
+        if (m2 instanceof PermutationMat permutation) {
+            return permuteCols(m1, permutation.data());
+        }
+        if (m1 instanceof QuantizedMat quantized) {
+            final Mat result = new Mat(m1.height(), m2.width());
+            quantized.prod(m2, result.data());
+            return result;
+        }
+        if (m1 instanceof SymmetricMat symmetric) {
+            final Mat result = new Mat(m1.height(), m2.width());
+            symmetric.prod(elements(m2), m2.width(), result.data());
+            return result;
+        }
+        if (m1 instanceof TriangularMat triangular) {
+            final Mat result = new Mat(m1.height(), m2.width());
+            triangular.prod(elements(m2), m2.width(), result.data());
+            return result;
+        }
 
-        final Matrix result = new Mat(m1.height(), m2.width());
-        for (int r = 0; r < m1.height(); r++) {
-            for (int c = 0; c < m2.width(); c++) {
+        return gemm(1, m1, false, m2, false, 0, new Mat(m1.height(), m2.width()));
+    }
+
+    /**
+     * Returns the result of product of the given matrices, each of which can be
+     * taken transposed without materializing the transposed matrix.
+     *
+     * @param m1     left matrix for product
+     * @param trans1 {@code true} if the left matrix is taken transposed
+     * @param m2     right matrix for product
+     * @param trans2 {@code true} if the right matrix is taken transposed
+     * @return new matrix with product of matrix {@code op(m1)} and matrix
+     *         {@code op(m2)}
+     * @throws IllegalArgumentException if the width of the left operand is not
+     *                                  equal to the height of the right operand
+     *
+     * @since 3.1.0
+     */
+    public static Matrix prod(final Matrix m1, final boolean trans1, final Matrix m2, final boolean trans2)
+            throws IllegalArgumentException {
+        final int height = trans1 ? m1.width() : m1.height();
+        final int width = trans2 ? m2.height() : m2.width();
+
+        return gemm(1, m1, trans1, m2, trans2, 0, new Mat(height, width));
+    }
+
+    /**
+     * Calculates general matrix product
+     * {@code target = alpha * op(m1) * op(m2) + beta * target} and returns
+     * target matrix, where {@code op(m)} is {@code m} or transposed {@code m}.
+     * <p>
+     * If {@code beta} is 0, previous values of target matrix are ignored.
+     *
+     * @param alpha  scalar multiplier of product
+     * @param m1     left matrix for product
+     * @param trans1 {@code true} if the left matrix is taken transposed
+     * @param m2     right matrix for product
+     * @param trans2 {@code true} if the right matrix is taken transposed
+     * @param beta   scalar multiplier of target matrix
+     * @param target destination matrix, which must not be one of operands
+     * @return matrix {@code target} with result of the operation
+     * @throws IllegalArgumentException if the sizes of operands do not match each
+     *                                  other or the target matrix, or the target
+     *                                  matrix is one of operands
+     *
+     * @since 3.1.0
+     */
+    public static Matrix gemm(final float alpha, final Matrix m1, final boolean trans1, final Matrix m2,
+            final boolean trans2, final float beta, final Matrix target) throws IllegalArgumentException {
+        final int height = trans1 ? m1.width() : m1.height();
+        final int inner = trans1 ? m1.height() : m1.width();
+        final int inner2 = trans2 ? m2.width() : m2.height();
+        final int width = trans2 ? m2.height() : m2.width();
+        if (inner != inner2) {
+            throw new IllegalArgumentException(
+                    String.format("Matrix product denied: operands with sizes %dx%d and %dx%d", height, inner,
+                            inner2, width));
+        }
+        if (target.height() != height || target.width() != width) {
+            throw new IllegalArgumentException(
+                    String.format("Matrix product denied: product with size %dx%d into matrix with size %dx%d",
+                            height, width, target.height(), target.width()));
+        }
+        if (target == m1 || target == m2) {
+            throw new IllegalArgumentException("Matrix product denied: target matrix is one of operands");
+        }
+
+        if (m1 instanceof Mat a && m2 instanceof Mat b && target instanceof Mat c) {
+            GemmKernel.gemm(alpha, a.data(), m1.width(), trans1, b.data(), m2.width(), trans2,
+                    beta, c.data(), height, width, inner);
+            return target;
+        }
+
+        for (int r = 0; r < height; r++) {
+            for (int c = 0; c < width; c++) {
                 float value = 0;
-                for (int i = 0; i < m1.width(); i++) {
-                    value += m1.get(r, i) * m2.get(i, c);
+                for (int i = 0; i < inner; i++) {
+                    value += (trans1 ? m1.get(i, r) : m1.get(r, i)) * (trans2 ? m2.get(c, i) : m2.get(i, c));
                 }
 
-                result.set(r, c, value);
+                target.set(r, c, beta == 0 ? alpha * value : alpha * value + beta * target.get(r, c));
             }
         }
 
-        return result;
+        return target;
+    }
+
+    /**
+     * Returns the result of product of the given matrices calculated via
+     * Strassen-Winograd algorithm.
+     * <p>
+     * Matrices are padded to the square blocks and recursively split until the
+     * block size is not greater than {@link #STRASSEN_CUTOFF}, then the standard
+     * kernel is used. It is profitable only for very large matrices and is
+     * slightly less accurate than {@link #prod(Matrix, Matrix)}.
+     *
+     * @param m1 left matrix for product
+     * @param m2 right matrix for product
+     * @return product of matrix {@code m1} and matrix {@code m2}
+     * @throws IllegalArgumentException if the left matrix width is not equal to
+     *                                  the right matrix height
+     *
+     * @since 3.1.0
+     */
+    public static Matrix prodStrassen(final Matrix m1, final Matrix m2) throws IllegalArgumentException {
+        return prodStrassen(m1, m2, STRASSEN_CUTOFF, null);
+    }
+
+    /**
+     * Returns the result of product of the given matrices calculated via
+     * Strassen-Winograd algorithm with seven sub-products executed in parallel
+     * inside the given pool.
+     *
+     * @param m1   left matrix for product
+     * @param m2   right matrix for product
+     * @param pool fork-join pool for the parallel execution
+     * @return product of matrix {@code m1} and matrix {@code m2}
+     * @throws IllegalArgumentException if the left matrix width is not equal to
+     *                                  the right matrix height
+     *
+     * @since 3.1.0
+     */
+    public static Matrix prodStrassen(final Matrix m1, final Matrix m2, final ForkJoinPool pool)
+            throws IllegalArgumentException {
+        return prodStrassen(m1, m2, STRASSEN_CUTOFF, pool);
+    }
+
+    /**
+     * Returns the result of product of the given matrices calculated via
+     * Strassen-Winograd algorithm with the given cutoff.
+     *
+     * @param m1     left matrix for product
+     * @param m2     right matrix for product
+     * @param cutoff maximal size of blocks multiplied by the standard kernel
+     * @param pool   fork-join pool for the parallel execution, or {@code null}
+     *               for the sequential execution
+     * @return product of matrix {@code m1} and matrix {@code m2}
+     * @throws IllegalArgumentException if the left matrix width is not equal to
+     *                                  the right matrix height or cutoff is not
+     *                                  positive
+     *
+     * @since 3.1.0
+     */
+    public static Matrix prodStrassen(final Matrix m1, final Matrix m2, final int cutoff, final ForkJoinPool pool)
+            throws IllegalArgumentException {
+        if (m1.width() != m2.height()) {
+            throw new IllegalArgumentException(
+                    String.format("Matrix product denied: matrices with sizes %dx%d and %dx%d", m1.height(),
+                            m1.width(), m2.height(), m2.width()));
+        }
+        if (cutoff < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Matrix product denied: Strassen cutoff must be positive, but given is %d", cutoff));
+        }
+
+        return new StrassenMultiplier(cutoff, pool).prod(m1, m2);
     }
 
     /**
@@ -353,6 +604,55 @@ public final class MatrixMath {
                             "Matrix and vector-column product denied: matrix with size %dx%d and %d-dimensional vector",
                             m.height(), m.width(), vCol.size()));
         }
+        if (m instanceof IdentityMat) {
+            return new Vec(vCol);
+        }
+        if (m instanceof BlockMat blocks) {
+            final float[] result = new float[m.height()];
+            blocks.prodCol(components(vCol), result);
+            return new Vec(result);
+        }
+        if (m instanceof DiagonalMat diagonal) {
+            return VectorMath.hadamardAsgn(new Vec(diagonal.data()), vCol);
+        }
+        if (m instanceof PermutationMat permutation) {
+            final int[] p = permutation.data();
+            final Vector result = new Vec(p.length);
+            for (int r = 0; r < p.length; r++) {
+                result.set(r, vCol.get(p[r]));
+            }
+            return result;
+        }
+        if (m instanceof HalfMat half) {
+            final float[] result = new float[m.height()];
+            half.prodCol(components(vCol), result);
+            return new Vec(result);
+        }
+        if (m instanceof QuantizedMat quantized) {
+            final float[] result = new float[m.height()];
+            quantized.prodCol(components(vCol), result);
+            return new Vec(result);
+        }
+        if (m instanceof TridiagonalMat tridiagonal) {
+            final float[] result = new float[m.height()];
+            tridiagonal.prodCol(components(vCol), result);
+            return new Vec(result);
+        }
+        if (m instanceof BandedMat banded) {
+            final float[] result = new float[m.height()];
+            banded.prodCol(components(vCol), result);
+            return new Vec(result);
+        }
+        if (m instanceof SymmetricMat symmetric) {
+            final float[] result = new float[m.height()];
+            symmetric.prodCol(components(vCol), result);
+            return new Vec(result);
+        }
+        if (m instanceof TriangularMat triangular) {
+            final float[] result = new float[m.height()];
+            triangular.prodCol(components(vCol), result);
+            return new Vec(result);
+        }
 
         final Vector result = new Vec(m.height());
         for (int i = 0; i < m.height(); i++) {
@@ -386,6 +686,35 @@ public final class MatrixMath {
                             "Matrix and vector-row product denied: matrix with size %dx%d and %d-dimensional vector",
                             m.height(), m.width(), vRow.size()));
         }
+        if (m instanceof IdentityMat) {
+            return new Vec(vRow);
+        }
+        if (m instanceof DiagonalMat diagonal) {
+            return VectorMath.hadamardAsgn(new Vec(diagonal.data()), vRow);
+        }
+        if (m instanceof PermutationMat permutation) {
+            final int[] p = permutation.data();
+            final Vector result = new Vec(p.length);
+            for (int r = 0; r < p.length; r++) {
+                result.set(p[r], vRow.get(r));
+            }
+            return result;
+        }
+        if (m instanceof HalfMat half) {
+            final float[] result = new float[m.width()];
+            half.prodRow(components(vRow), result);
+            return new Vec(result);
+        }
+        if (m instanceof SymmetricMat symmetric) {
+            final float[] result = new float[m.width()];
+            symmetric.prodCol(components(vRow), result);
+            return new Vec(result);
+        }
+        if (m instanceof TriangularMat triangular) {
+            final float[] result = new float[m.width()];
+            triangular.prodRow(components(vRow), result);
+            return new Vec(result);
+        }
 
         final Vector result = new Vec(m.width());
         for (int i = 0; i < m.width(); i++) {
@@ -400,6 +729,175 @@ public final class MatrixMath {
         return result;
     }
 
+    /**
+     * Returns the result of product of the given chain of matrices.
+     * <p>
+     * The order of multiplications is chosen by dynamic programming over the
+     * sizes of matrices, so the number of scalar multiplications is minimal.
+     *
+     * @param ms chain of matrices for product (from left to right)
+     * @return new matrix, which represents product of all matrices {@code ms}
+     * @throws IllegalArgumentException if the chain is empty or the width of
+     *                                  any matrix is not equal to the height of
+     *                                  the next one
+     *
+     * @since 3.1.0
+     */
+    public static Matrix prodChain(final Matrix... ms) throws IllegalArgumentException {
+        validateChain(ms, null);
+        if (ms.length == 1) {
+            return ms[0].clone();
+        }
+
+        final int[][] splits = chainSplits(chainDims(ms, null));
+        return chainProd(ms, splits, 0, ms.length - 1);
+    }
+
+    /**
+     * Returns the result of product of the given chain of matrices and the given
+     * vector-column ({@code ms[0] * ... * ms[n - 1] * vCol}).
+     * <p>
+     * The order of multiplications is chosen by dynamic programming over the
+     * sizes of matrices, so chains of square matrices are evaluated from right to
+     * left as matrix-vector products without any matrix-matrix product.
+     * Intermediate vectors are kept in two reusable buffers.
+     *
+     * @param vCol vector-column (right)
+     * @param ms   chain of matrices for product (from left to right)
+     * @return new vector with result of product of matrices {@code ms} and vector
+     *         {@code vCol}
+     * @throws IllegalArgumentException if the chain is empty or the width of
+     *                                  any matrix is not equal to the height of
+     *                                  the next one (or to dimension of the
+     *                                  given vector-column for the last one)
+     *
+     * @since 3.1.0
+     */
+    public static Vector prodChainCol(final Vector vCol, final Matrix... ms) throws IllegalArgumentException {
+        validateChain(ms, vCol);
+
+        final int n = ms.length;
+        final int[][] splits = chainSplits(chainDims(ms, vCol));
+
+        // The vector is operand n, so the plan splits the chain into matrix blocks
+        // which are applied to the vector one by one from right to left.
+        final int[] blockEnds = new int[n];
+        int blockCount = 0;
+        int start = 0;
+        while (start < n) {
+            final int end = splits[start][n];
+            blockEnds[blockCount++] = end;
+            start = end + 1;
+        }
+
+        int maxHeight = vCol.size();
+        for (final Matrix m : ms) {
+            maxHeight = Math.max(maxHeight, m.height());
+        }
+
+        float[] src = new float[maxHeight];
+        float[] dest = new float[maxHeight];
+        for (int i = 0; i < vCol.size(); i++) {
+            src[i] = vCol.get(i);
+        }
+
+        for (int b = blockCount - 1; b >= 0; b--) {
+            final int blockStart = b == 0 ? 0 : blockEnds[b - 1] + 1;
+            final Matrix block = blockStart == blockEnds[b]
+                    ? ms[blockStart]
+                    : chainProd(ms, splits, blockStart, blockEnds[b]);
+
+            for (int r = 0; r < block.height(); r++) {
+                float value = 0;
+                for (int c = 0; c < block.width(); c++) {
+                    value += block.get(r, c) * src[c];
+                }
+
+                dest[r] = value;
+            }
+
+            final float[] tmp = src;
+            src = dest;
+            dest = tmp;
+        }
+
+        final Vector result = new Vec(ms[0].height());
+        for (int i = 0; i < result.size(); i++) {
+            result.set(i, src[i]);
+        }
+
+        return result;
+    }
+
+    private static void validateChain(final Matrix[] ms, final Vector vCol) throws IllegalArgumentException {
+        if (ms.length == 0) {
+            throw new IllegalArgumentException("Matrix chain product denied: chain is empty");
+        }
+        for (int i = 0; i < ms.length - 1; i++) {
+            if (ms[i].width() != ms[i + 1].height()) {
+                throw new IllegalArgumentException(
+                        String.format("Matrix chain product denied: matrices %d and %d with sizes %dx%d and %dx%d",
+                                i, i + 1, ms[i].height(), ms[i].width(), ms[i + 1].height(), ms[i + 1].width()));
+            }
+        }
+        if (vCol != null && ms[ms.length - 1].width() != vCol.size()) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "Matrix chain and vector-column product denied: matrix with size %dx%d and %d-dimensional vector",
+                            ms[ms.length - 1].height(), ms[ms.length - 1].width(), vCol.size()));
+        }
+    }
+
+    private static int[] chainDims(final Matrix[] ms, final Vector vCol) {
+        final int count = vCol == null ? ms.length : ms.length + 1;
+        final int[] dims = new int[count + 1];
+        for (int i = 0; i < ms.length; i++) {
+            dims[i] = ms[i].height();
+        }
+        dims[ms.length] = ms[ms.length - 1].width();
+        if (vCol != null) {
+            dims[count] = 1;
+        }
+
+        return dims;
+    }
+
+    // splits[i][j] is the last operand of the left part in the cheapest
+    // parenthesization of operands i..j (operand k has size dims[k]xdims[k + 1])
+    private static int[][] chainSplits(final int[] dims) {
+        final int n = dims.length - 1;
+        final long[][] costs = new long[n][n];
+        final int[][] splits = new int[n][n];
+
+        for (int len = 2; len <= n; len++) {
+            for (int i = 0; i + len - 1 < n; i++) {
+                final int j = i + len - 1;
+                costs[i][j] = Long.MAX_VALUE;
+                for (int k = i; k < j; k++) {
+                    final long cost = costs[i][k] + costs[k + 1][j] + (long) dims[i] * dims[k + 1] * dims[j + 1];
+                    if (cost < costs[i][j]) {
+                        costs[i][j] = cost;
+                        splits[i][j] = k;
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            splits[i][i] = i;
+        }
+
+        return splits;
+    }
+
+    private static Matrix chainProd(final Matrix[] ms, final int[][] splits, final int i, final int j) {
+        if (i == j) {
+            return ms[i];
+        }
+
+        final int k = splits[i][j];
+        return prod(chainProd(ms, splits, i, k), chainProd(ms, splits, k + 1, j));
+    }
+
     /**
      * Triangulates given matrix and returns it.
      * 
@@ -456,7 +954,10 @@ public final class MatrixMath {
      * @since 1.0.0
      */
     public static Matrix triangulated(final Matrix m) {
-        return triangulate(m.clone());
+        if (m instanceof VersionedMat versioned) {
+            return versioned.triangulated();
+        }
+        return triangulate(copy(m));
     }
 
     private static float det2(final Matrix m) {
@@ -516,6 +1017,18 @@ public final class MatrixMath {
      * @since 1.0.0
      */
     public static float det(final Matrix m) throws UnsupportedOperationException {
+        if (m instanceof VersionedMat versioned) {
+            return versioned.det();
+        }
+        if (m instanceof IdentityMat) {
+            return 1;
+        }
+        if (m instanceof DiagonalMat diagonal) {
+            return reduceRange(diagonal.data(), 0, m.height(), 1, (a, b) -> a * b);
+        }
+        if (m instanceof PermutationMat permutation) {
+            return permutation.sign();
+        }
         if (!square(m)) {
             throw new UnsupportedOperationException("Determinant does not exists: matrix is not square");
         }
@@ -540,6 +1053,26 @@ public final class MatrixMath {
      * @since 1.0.0
      */
     public static Matrix inv(final Matrix m) throws UnsupportedOperationException, RuntimeException {
+        if (m instanceof VersionedMat versioned) {
+            return versioned.inv();
+        }
+        if (m instanceof IdentityMat) {
+            return m.clone();
+        }
+        if (m instanceof DiagonalMat diagonal) {
+            final float[] d = diagonal.data();
+            final float[] result = new float[d.length];
+            for (int i = 0; i < d.length; i++) {
+                if (d[i] == 0) {
+                    throw new RuntimeException("Invertible matrix does not exist: determinant is 0");
+                }
+                result[i] = 1 / d[i];
+            }
+            return new DiagonalMat(result);
+        }
+        if (m instanceof PermutationMat permutation) {
+            return new PermutationMat(permutation.inverse());
+        }
         if (!square(m)) {
             throw new UnsupportedOperationException("Invertible matrix does not exists: matrix is not square");
         }
@@ -560,92 +1093,328 @@ public final class MatrixMath {
     }
 
     /**
-     * Returns minor matrix from the given matrix excluding given row and column
-     * from given matrix.
-     * 
-     * @param m matrix for minor matrix construction
-     * @param r row index to exclude
-     * @param c column index to exclude
-     * @return new minor matrix excluding row {@code r} and column {@code c}
-     *         from matrix {@code m}
+     * Returns solution of linear system {@code m * x = b} calculated by Gaussian
+     * elimination with partial pivoting. Matrix {@code m} is not changed.
+     * <p>
+     * Systems with {@link TridiagonalMat} are solved by Thomas algorithm (with
+     * fallback to pivoting on pivot approximately equal 0) and systems with
+     * {@link BandedMat} by banded LU decomposition, both in time
+     * linear in size of matrix, and systems with {@link TriangularMat} by
+     * substitution.
+     *
+     * @param m square matrix of coefficients
+     * @param b vector-column of right-hand side
+     * @return new vector {@code x}
      * @throws UnsupportedOperationException if matrix is not square
+     * @throws IllegalArgumentException      if dimension of vector is not equal
+     *                                       to height of matrix
+     * @throws RuntimeException              if matrix is singular
      *
-     * @since 1.0.0
+     * @since 3.1.0
      */
-    public static Matrix minorMatrix(final Matrix m, final int r, final int c) throws UnsupportedOperationException {
+    public static Vector solve(final Matrix m, final Vector b)
+            throws UnsupportedOperationException, IllegalArgumentException, RuntimeException {
         if (!square(m)) {
-            throw new UnsupportedOperationException("Minors do not exist: matrix is not square");
+            throw new UnsupportedOperationException("Solution does not exist: matrix is not square");
         }
-
-        final Matrix result = new Mat(m.width() - 1);
-        int destRow = 0;
-        int destCol = 0;
-        for (int i = 0; i < m.width(); i++) {
-            if (i == r) {
-                continue;
-            }
-            for (int j = 0; j < m.width(); j++) {
-                if (j == c) {
-                    continue;
-                }
-
-                result.set(destRow, destCol, m.get(i, j));
-                destCol++;
-            }
-            destCol = 0;
-            destRow++;
+        final int n = m.height();
+        if (b.size() != n) {
+            throw new IllegalArgumentException(String.format(
+                    "Solution denied: matrix with size %dx%d and %d-dimensional vector", n, n, b.size()));
         }
-        return result;
+        if (m instanceof TridiagonalMat tridiagonal) {
+            final float[] x = components(b);
+            tridiagonal.solveAsgn(x);
+            return new Vec(x);
+        }
+        if (m instanceof BandedMat banded) {
+            final float[] x = components(b);
+            banded.solveAsgn(x);
+            return new Vec(x);
+        }
+        if (m instanceof TriangularMat triangular) {
+            final float[] x = components(b);
+            triangular.solveAsgn(x, 1);
+            return new Vec(x);
+        }
+
+        final float[] x = components(b);
+        solveAsgn(new Mat(m).data(), x, n, 1);
+        return new Vec(x);
     }
 
     /**
-     * Returns cofactor (algebraic complement) from the given matrix for position of
-     * given row and column.
-     * 
-     * @param m matrix for cofactor calculation
-     * @param r index of row for cofactor calculation
-     * @param c index of column for cofactor calculation
-     * @return cofactor value for row {@code r} and column {@code c} for the given
-     *         positions in the given matrix
+     * Returns solution of matrix equation {@code m * x = b} (linear systems for
+     * all columns of {@code b}) calculated by Gaussian elimination with partial
+     * pivoting, or by substitution for {@link TriangularMat}. Matrices
+     * {@code m} and {@code b} are not changed.
+     *
+     * @param m square matrix of coefficients
+     * @param b matrix of right-hand sides
+     * @return new matrix {@code x}
      * @throws UnsupportedOperationException if matrix is not square
+     * @throws IllegalArgumentException      if height of {@code b} is not equal
+     *                                       to height of {@code m}
+     * @throws RuntimeException              if matrix is singular
      *
-     * @since 1.0.0
+     * @since 3.1.0
      */
-    public static float cofactor(final Matrix m, final int r, final int c) throws UnsupportedOperationException {
+    public static Matrix solve(final Matrix m, final Matrix b)
+            throws UnsupportedOperationException, IllegalArgumentException, RuntimeException {
         if (!square(m)) {
-            throw new UnsupportedOperationException("Can not find cofactor: matrix is not square");
+            throw new UnsupportedOperationException("Solution does not exist: matrix is not square");
+        }
+        final int n = m.height();
+        if (b.height() != n) {
+            throw new IllegalArgumentException(String.format(
+                    "Solution denied: matrices with sizes %dx%d and %dx%d", n, n, b.height(), b.width()));
         }
 
-        final int coefficient = (r + c) % 2 == 0 ? 1 : -1;
-        return coefficient * detCof(minorMatrix(m, r, c));
+        final Mat x = new Mat(b);
+        if (m instanceof TriangularMat triangular) {
+            triangular.solveAsgn(x.data(), b.width());
+            return x;
+        }
+
+        solveAsgn(new Mat(m).data(), x.data(), n, b.width());
+        return x;
     }
 
     /**
-     * Returns matrix of cofactors (algebraic complements) for the given matrix.
-     * 
-     * @param m matrix for matrix of cofactors construction
-     * @return new matrix of cofactors for matrix {@code m}
+     * Returns the given square matrix raised to the given integer power,
+     * calculated by repeated squaring ({@code O(log |k|)} products into scratch
+     * buffers of the thread {@link Workspace}). Negative power is the power of
+     * the inverse matrix, and zero power is the unit matrix.
+     *
+     * @param m square matrix
+     * @param k exponent
+     * @return new matrix {@code m^k}
      * @throws UnsupportedOperationException if matrix is not square
+     * @throws RuntimeException              if power is negative and matrix is
+     *                                       singular
      *
-     * @since 1.0.0
+     * @since 3.1.0
      */
-    public static Matrix cofactorMatrix(final Matrix m) throws UnsupportedOperationException {
+    public static Matrix pow(final Matrix m, final int k) throws UnsupportedOperationException, RuntimeException {
         if (!square(m)) {
-            throw new UnsupportedOperationException("Cofactor matrix does not exist: matrix is not square");
+            throw new UnsupportedOperationException("Power does not exist: matrix is not square");
         }
 
-        final Matrix result = new Mat(m.height(), m.width());
-        for (int r = 0; r < m.height(); r++) {
-            for (int c = 0; c < m.width(); c++) {
-                result.set(r, c, cofactor(m, r, c));
+        final int n = m.height();
+        final Workspace ws = Workspace.current();
+        final int mark = ws.mark();
+        try {
+            Mat base = scratch(ws, m);
+            if (k < 0) {
+                final Mat identity = unitMat(n);
+                solveAsgn(base.data(), identity.data(), n, n);
+                base = identity;
             }
-        }
-
-        return result;
-    }
 
-    /**
-     * Returns {@code true} if the given matrix is square.
+            Mat result = null;
+            Mat buffer = scratch(ws, n);
+            long e = Math.abs((long) k);
+            while (e > 0) {
+                if ((e & 1) != 0) {
+                    if (result == null) {
+                        result = scratch(ws, base);
+                    } else {
+                        gemm(1, result, false, base, false, 0, buffer);
+                        final Mat tmp = result;
+                        result = buffer;
+                        buffer = tmp;
+                    }
+                }
+                e >>= 1;
+                if (e > 0) {
+                    gemm(1, base, false, base, false, 0, buffer);
+                    final Mat tmp = base;
+                    base = buffer;
+                    buffer = tmp;
+                }
+            }
+
+            return result == null ? unitMat(n) : new Mat(result);
+        } finally {
+            ws.release(mark);
+        }
+    }
+
+    /**
+     * Returns exponential {@code e^m} of the given square matrix, calculated by
+     * scaling and squaring with diagonal Padé approximation of degree 6: matrix
+     * is divided by {@code 2^s}, so its infinity norm is at most 0.5, then the
+     * approximation is squared {@code s} times.
+     *
+     * @param m square matrix
+     * @return new matrix {@code e^m}
+     * @throws UnsupportedOperationException if matrix is not square
+     *
+     * @since 3.1.0
+     */
+    public static Matrix expm(final Matrix m) throws UnsupportedOperationException {
+        if (!square(m)) {
+            throw new UnsupportedOperationException("Exponential does not exist: matrix is not square");
+        }
+
+        final int n = m.height();
+        final int s = expmScaling(m);
+        final Workspace ws = Workspace.current();
+        final int mark = ws.mark();
+        try {
+            final Mat a = scratch(ws, m);
+            if (s > 0) {
+                mulAsgn(a, Math.scalb(1f, -s));
+            }
+
+            final Mat numerator = unitMat(n);
+            final Mat denominator = scratch(ws, numerator);
+            Mat power = scratch(ws, a);
+            Mat buffer = scratch(ws, n);
+            for (int i = 1; i <= PADE_DEGREE; i++) {
+                if (i > 1) {
+                    gemm(1, a, false, power, false, 0, buffer);
+                    final Mat tmp = power;
+                    power = buffer;
+                    buffer = tmp;
+                }
+                final float c = PADE_COEFFICIENTS[i];
+                final float[] p = power.data();
+                final float[] num = numerator.data();
+                final float[] den = denominator.data();
+                final float sign = i % 2 == 0 ? c : -c;
+                for (int j = 0; j < p.length; j++) {
+                    num[j] += c * p[j];
+                    den[j] += sign * p[j];
+                }
+            }
+
+            solveAsgn(denominator.data(), numerator.data(), n, n);
+            Mat result = numerator;
+            for (int i = 0; i < s; i++) {
+                gemm(1, result, false, result, false, 0, buffer);
+                final Mat tmp = result;
+                result = buffer;
+                buffer = tmp;
+            }
+            if (result != numerator) {
+                System.arraycopy(result.data(), 0, numerator.data(), 0, n * n);
+            }
+
+            return numerator;
+        } finally {
+            ws.release(mark);
+        }
+    }
+
+    /**
+     * Returns {@code s}, for which infinity norm of {@code m / 2^s} is at most
+     * 0.5.
+     */
+    static int expmScaling(final Matrix m) {
+        final float norm = normInf(m);
+        return norm > 0.5f ? Math.getExponent(norm) + 2 : 0;
+    }
+
+    private static float[] padeCoefficients(final int degree) {
+        final float[] result = new float[degree + 1];
+        double coefficient = 1;
+        result[0] = 1;
+        for (int i = 1; i <= degree; i++) {
+            coefficient *= (double) (degree - i + 1) / (i * (2 * degree - i + 1));
+            result[i] = (float) coefficient;
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns minor matrix from the given matrix excluding given row and column
+     * from given matrix.
+     * 
+     * @param m matrix for minor matrix construction
+     * @param r row index to exclude
+     * @param c column index to exclude
+     * @return new minor matrix excluding row {@code r} and column {@code c}
+     *         from matrix {@code m}
+     * @throws UnsupportedOperationException if matrix is not square
+     *
+     * @since 1.0.0
+     */
+    public static Matrix minorMatrix(final Matrix m, final int r, final int c) throws UnsupportedOperationException {
+        if (!square(m)) {
+            throw new UnsupportedOperationException("Minors do not exist: matrix is not square");
+        }
+
+        final Matrix result = new Mat(m.width() - 1);
+        int destRow = 0;
+        int destCol = 0;
+        for (int i = 0; i < m.width(); i++) {
+            if (i == r) {
+                continue;
+            }
+            for (int j = 0; j < m.width(); j++) {
+                if (j == c) {
+                    continue;
+                }
+
+                result.set(destRow, destCol, m.get(i, j));
+                destCol++;
+            }
+            destCol = 0;
+            destRow++;
+        }
+        return result;
+    }
+
+    /**
+     * Returns cofactor (algebraic complement) from the given matrix for position of
+     * given row and column.
+     * 
+     * @param m matrix for cofactor calculation
+     * @param r index of row for cofactor calculation
+     * @param c index of column for cofactor calculation
+     * @return cofactor value for row {@code r} and column {@code c} for the given
+     *         positions in the given matrix
+     * @throws UnsupportedOperationException if matrix is not square
+     *
+     * @since 1.0.0
+     */
+    public static float cofactor(final Matrix m, final int r, final int c) throws UnsupportedOperationException {
+        if (!square(m)) {
+            throw new UnsupportedOperationException("Can not find cofactor: matrix is not square");
+        }
+
+        final int coefficient = (r + c) % 2 == 0 ? 1 : -1;
+        return coefficient * detCof(minorMatrix(m, r, c));
+    }
+
+    /**
+     * Returns matrix of cofactors (algebraic complements) for the given matrix.
+     * 
+     * @param m matrix for matrix of cofactors construction
+     * @return new matrix of cofactors for matrix {@code m}
+     * @throws UnsupportedOperationException if matrix is not square
+     *
+     * @since 1.0.0
+     */
+    public static Matrix cofactorMatrix(final Matrix m) throws UnsupportedOperationException {
+        if (!square(m)) {
+            throw new UnsupportedOperationException("Cofactor matrix does not exist: matrix is not square");
+        }
+
+        final Matrix result = new Mat(m.height(), m.width());
+        for (int r = 0; r < m.height(); r++) {
+            for (int c = 0; c < m.width(); c++) {
+                result.set(r, c, cofactor(m, r, c));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns {@code true} if the given matrix is square.
      * 
      * @param m matrix for analysis
      * @return {@code true} if matrix {@code m} is square, and {@code false}
@@ -689,6 +1458,9 @@ public final class MatrixMath {
      * @since 1.0.0
      */
     public static boolean diagonal(final Matrix m) {
+        if (m instanceof DiagonalMat || m instanceof IdentityMat) {
+            return true;
+        }
         if (!square(m)) {
             return false;
         }
@@ -751,79 +1523,1069 @@ public final class MatrixMath {
     }
 
     /**
-     * Constructs {@code height}x{@code width}vector with all 0 components.
-     * 
-     * @throws ArithmeticException if {@code divisor} approximately equals 0
-     * @param height height of matrix to be constructed
-     * @param width  width of matrix to be constructed
-     * @return new {@code height}-x-{@code width} matrix with all 0 elements
+     * Returns sequential stream of views of rows of the given matrix. Changes
+     * made through views are written to the matrix. Parallel stream splits rows
+     * into contiguous ranges.
      *
-     * @since 1.0.0
+     * @param m matrix for streaming
+     * @return stream of row views
+     *
+     * @since 3.1.0
      */
-    public static Matrix zeroMatrix(final int height, final int width) {
-        return new Mat(height, width);
+    public static Stream<Vector> rows(final Matrix m) {
+        return IntStream.range(0, m.height()).mapToObj(r -> new RowView(m, r));
     }
 
     /**
-     * Constructs {@code size}-x-{@code size} matrix with all 1 on main iagonal.
-     * 
-     * @param size height and width of matrix to be constructed
-     * @return new square {@code size}x{@code size} matrix with 1 on main diagonal
+     * Returns sequential stream of elements of the given matrix in row-major
+     * order (widened to {@code double}). Parallel stream splits elements into
+     * contiguous blocks ({@link FloatSpliterator}).
      *
-     * @since 1.0.0
+     * @param m matrix for streaming
+     * @return stream of elements
+     *
+     * @since 3.1.0
      */
-    public static Matrix unitMatrix(final int size) {
-        final Matrix result = new Mat(size);
-        for (int i = 0; i < size; i++) {
-            result.set(i, i, 1);
+    public static DoubleStream elementStream(final Matrix m) {
+        final int width = m.width();
+        final int size = m.height() * width;
+        final FloatSpliterator spliterator;
+        if (m instanceof Mat mat) {
+            spliterator = new FloatSpliterator(mat.data(), 0, size);
+        } else {
+            spliterator = new FloatSpliterator(i -> m.get(i / width, i % width), 0, size);
         }
 
-        return result;
+        return StreamSupport.doubleStream(spliterator, false);
     }
 
     /**
-     * Constructs matrix from the given vector-rows.
-     * 
-     * @param vs vectors for matrix construction taken as rows
-     * @return new matrix with values from vectors {@code vsCEyy}
-     * @throws IllegalArgumentException if vectors have different lengths
+     * Applies the given operator to every element of the given matrix and
+     * returns it. Dense matrices ({@link Mat}) with at least
+     * {@link #PARALLEL_THRESHOLD} elements are processed in parallel, so the
+     * operator must not have side effects.
      *
-     * @since 2.1.0
+     * @param m  matrix to be mapped
+     * @param op operator applied to elements
+     * @return matrix {@code m} with mapped elements
+     *
+     * @since 3.1.0
      */
-    public static Matrix fromVecRows(Vector... vs) throws IllegalArgumentException {
-        Mat result = new Mat(vs.length, vs[0].size());
-        for (int r = 0; r < vs.length; r++) {
-            if (vs[r].size() != vs[0].size()) {
-                throw new IllegalArgumentException("Matrix creation denied: vectors with different sizes");
+    public static Matrix mapAsgn(final Matrix m, final FloatUnaryOperator op) {
+        if (m instanceof Mat mat) {
+            final float[] a = mat.data();
+            final int size = m.height() * m.width();
+            if (size < PARALLEL_THRESHOLD) {
+                mapRange(a, 0, size, op);
+            } else {
+                IntStream.range(0, blockCount(size)).parallel()
+                        .forEach(b -> mapRange(a, b * PARALLEL_BLOCK, Math.min(size, (b + 1) * PARALLEL_BLOCK), op));
             }
-            for (int c = 0; c < vs[0].size(); c++) {
-                result.set(r, c, vs[r].get(c));
+
+            return m;
+        }
+
+        for (int r = 0; r < m.height(); r++) {
+            for (int c = 0; c < m.width(); c++) {
+                m.set(r, c, op.applyAsFloat(m.get(r, c)));
             }
         }
 
-        return result;
+        return m;
     }
 
     /**
-     * Constructs matrix from the given vector-columns.
-     * 
-     * @param vs vectors for matrix construction taken as columns
-     * @return new matrix with values from vectors {@code vsCEyy}
-     * @throws IllegalArgumentException if vectors have different lengths
+     * Returns new matrix with the given operator applied to every element of
+     * the given matrix.
      *
-     * @since 2.1.0
+     * @param m  matrix to be mapped
+     * @param op operator applied to elements
+     * @return new matrix with mapped elements of matrix {@code m}
+     *
+     * @since 3.1.0
      */
-    public static Matrix fromVecCols(Vector... vs) throws IllegalArgumentException {
-        Mat result = new Mat(vs[0].size(), vs.length);
-        for (int c = 0; c < vs.length; c++) {
-            if (vs[c].size() != vs[0].size()) {
-                throw new IllegalArgumentException("Matrix creation denied: vectors with different sizes");
+    public static Matrix map(final Matrix m, final FloatUnaryOperator op) {
+        return mapAsgn(copy(m), op);
+    }
+
+    /**
+     * Replaces every element of the target matrix with result of the given
+     * operator applied to it and the corresponding element of the other matrix
+     * and returns the target matrix. Dense matrices ({@link Mat}) with at least
+     * {@link #PARALLEL_THRESHOLD} elements are processed in parallel, so the
+     * operator must not have side effects.
+     *
+     * @param target matrix to be changed (left operands)
+     * @param other  matrix with right operands
+     * @param op     operator applied to pairs of elements
+     * @return matrix {@code target} with combined elements
+     * @throws IllegalArgumentException if matrices have different sizes
+     *
+     * @since 3.1.0
+     */
+    public static Matrix zipAsgn(final Matrix target, final Matrix other, final FloatBinaryOperator op)
+            throws IllegalArgumentException {
+        return zipAsgn(target, other, op, "Zipping denied");
+    }
+
+    private static Matrix zipAsgn(final Matrix target, final Matrix other, final FloatBinaryOperator op,
+            final String denial) throws IllegalArgumentException {
+        Validator.validateMatrixSizes(target, other, denial);
+        if (target instanceof Mat t && other instanceof Mat o) {
+            final float[] a = t.data();
+            final float[] b = o.data();
+            final int size = target.height() * target.width();
+            if (size < PARALLEL_THRESHOLD) {
+                zipRange(a, b, 0, size, op);
+            } else {
+                IntStream.range(0, blockCount(size)).parallel()
+                        .forEach(i -> zipRange(a, b, i * PARALLEL_BLOCK,
+                                Math.min(size, (i + 1) * PARALLEL_BLOCK), op));
             }
-            for (int r = 0; r < vs[0].size(); r++) {
-                result.set(r, c, vs[c].get(r));
+
+            return target;
+        }
+
+        for (int r = 0; r < target.height(); r++) {
+            for (int c = 0; c < target.width(); c++) {
+                target.set(r, c, op.applyAsFloat(target.get(r, c), other.get(r, c)));
+            }
+        }
+
+        return target;
+    }
+
+    /**
+     * Returns new matrix with results of the given operator applied to
+     * corresponding elements of the given matrices.
+     *
+     * @param m1 matrix with left operands
+     * @param m2 matrix with right operands
+     * @param op operator applied to pairs of elements
+     * @return new matrix with combined elements
+     * @throws IllegalArgumentException if matrices have different sizes
+     *
+     * @since 3.1.0
+     */
+    public static Matrix zip(final Matrix m1, final Matrix m2, final FloatBinaryOperator op)
+            throws IllegalArgumentException {
+        return zipAsgn(copy(m1), m2, op);
+    }
+
+    /**
+     * Reduces elements of the given matrix in row-major order with the given
+     * operator. Dense matrices ({@link Mat}) with at least
+     * {@link #PARALLEL_THRESHOLD} elements are reduced in parallel by blocks,
+     * so (as for {@link java.util.stream.Stream#reduce}) the operator must be
+     * associative and {@code identity} must be its identity value.
+     *
+     * @param m        matrix to be reduced
+     * @param identity identity value of operator
+     * @param op       associative operator
+     * @return result of reduction ({@code identity} for empty matrix)
+     *
+     * @since 3.1.0
+     */
+    public static float reduce(final Matrix m, final float identity, final FloatBinaryOperator op) {
+        if (m instanceof Mat mat) {
+            final float[] a = mat.data();
+            final int size = m.height() * m.width();
+            if (size < PARALLEL_THRESHOLD) {
+                return reduceRange(a, 0, size, identity, op);
+            }
+
+            final float[] partial = new float[blockCount(size)];
+            IntStream.range(0, partial.length).parallel()
+                    .forEach(b -> partial[b] = reduceRange(a, b * PARALLEL_BLOCK,
+                            Math.min(size, (b + 1) * PARALLEL_BLOCK), identity, op));
+
+            return reduceRange(partial, 0, partial.length, identity, op);
+        }
+
+        float result = identity;
+        for (int r = 0; r < m.height(); r++) {
+            for (int c = 0; c < m.width(); c++) {
+                result = op.applyAsFloat(result, m.get(r, c));
             }
         }
 
         return result;
     }
+
+    /**
+     * Multiplies elements of the target matrix by the corresponding elements
+     * of the other matrix (Hadamard product) and returns the target matrix.
+     *
+     * @param target matrix to be multiplied
+     * @param other  matrix of multipliers
+     * @return matrix {@code target} after element-wise multiplication
+     * @throws IllegalArgumentException if matrices have different sizes
+     *
+     * @since 3.1.0
+     */
+    public static Matrix hadamardAsgn(final Matrix target, final Matrix other) throws IllegalArgumentException {
+        return zipAsgn(target, other, (a, b) -> a * b, "Hadamard product denied");
+    }
+
+    /**
+     * Returns Hadamard (element-wise) product of the given matrices.
+     *
+     * @param m1 first matrix
+     * @param m2 second matrix
+     * @return new matrix with element-wise products
+     * @throws IllegalArgumentException if matrices have different sizes
+     *
+     * @since 3.1.0
+     */
+    public static Matrix hadamard(final Matrix m1, final Matrix m2) throws IllegalArgumentException {
+        return hadamardAsgn(copy(m1), m2);
+    }
+
+    /**
+     * Adds the given vector to every row of the given matrix and returns it.
+     *
+     * @param m matrix to be changed
+     * @param v vector added to rows
+     * @return matrix {@code m} after addition
+     * @throws IllegalArgumentException if size of vector is not equal to width
+     *                                  of matrix
+     *
+     * @since 3.1.0
+     */
+    public static Matrix addRowVectorAsgn(final Matrix m, final Vector v) throws IllegalArgumentException {
+        if (v.size() != m.width()) {
+            throw new IllegalArgumentException(String.format(
+                    "Row addition denied: matrix with size %dx%d and %d-dimensional vector",
+                    m.height(), m.width(), v.size()));
+        }
+
+        final int width = m.width();
+        final float[] row = components(v);
+        if (m instanceof Mat mat) {
+            final float[] a = mat.data();
+            for (int r = 0; r < m.height(); r++) {
+                final int offset = r * width;
+                for (int c = 0; c < width; c++) {
+                    a[offset + c] += row[c];
+                }
+            }
+
+            return m;
+        }
+
+        for (int r = 0; r < m.height(); r++) {
+            for (int c = 0; c < width; c++) {
+                m.set(r, c, m.get(r, c) + row[c]);
+            }
+        }
+
+        return m;
+    }
+
+    /**
+     * Adds the given vector to every column of the given matrix (component
+     * {@code r} is added to all elements of row {@code r}) and returns it.
+     *
+     * @param m matrix to be changed
+     * @param v vector added to columns
+     * @return matrix {@code m} after addition
+     * @throws IllegalArgumentException if size of vector is not equal to height
+     *                                  of matrix
+     *
+     * @since 3.1.0
+     */
+    public static Matrix addColVectorAsgn(final Matrix m, final Vector v) throws IllegalArgumentException {
+        if (v.size() != m.height()) {
+            throw new IllegalArgumentException(String.format(
+                    "Column addition denied: matrix with size %dx%d and %d-dimensional vector",
+                    m.height(), m.width(), v.size()));
+        }
+
+        final int width = m.width();
+        if (m instanceof Mat mat) {
+            final float[] a = mat.data();
+            for (int r = 0; r < m.height(); r++) {
+                final int offset = r * width;
+                final float addendum = v.get(r);
+                for (int c = 0; c < width; c++) {
+                    a[offset + c] += addendum;
+                }
+            }
+
+            return m;
+        }
+
+        for (int r = 0; r < m.height(); r++) {
+            final float addendum = v.get(r);
+            for (int c = 0; c < width; c++) {
+                m.set(r, c, m.get(r, c) + addendum);
+            }
+        }
+
+        return m;
+    }
+
+    /**
+     * Multiplies every row of the given matrix by the corresponding component
+     * of the given vector ({@code diag(v) * m}) and returns it.
+     *
+     * @param m matrix to be changed
+     * @param v vector of row multipliers
+     * @return matrix {@code m} with scaled rows
+     * @throws IllegalArgumentException if size of vector is not equal to height
+     *                                  of matrix
+     *
+     * @since 3.1.0
+     */
+    public static Matrix scaleRowsAsgn(final Matrix m, final Vector v) throws IllegalArgumentException {
+        if (v.size() != m.height()) {
+            throw new IllegalArgumentException(String.format(
+                    "Row scaling denied: matrix with size %dx%d and %d-dimensional vector",
+                    m.height(), m.width(), v.size()));
+        }
+
+        final int width = m.width();
+        if (m instanceof Mat mat) {
+            final float[] a = mat.data();
+            for (int r = 0; r < m.height(); r++) {
+                final int offset = r * width;
+                final float multiplier = v.get(r);
+                for (int c = 0; c < width; c++) {
+                    a[offset + c] *= multiplier;
+                }
+            }
+
+            return m;
+        }
+
+        for (int r = 0; r < m.height(); r++) {
+            final float multiplier = v.get(r);
+            for (int c = 0; c < width; c++) {
+                m.set(r, c, m.get(r, c) * multiplier);
+            }
+        }
+
+        return m;
+    }
+
+    /**
+     * Performs rank-1 update {@code m += alpha * x * y^T} of the given matrix
+     * and returns it.
+     *
+     * @param m     matrix to be updated
+     * @param alpha scalar multiplier
+     * @param x     vector-column (left factor)
+     * @param y     vector-row (right factor)
+     * @return matrix {@code m} after update
+     * @throws IllegalArgumentException if size of {@code x} is not equal to
+     *                                  height of matrix or size of {@code y} is
+     *                                  not equal to width of matrix
+     *
+     * @since 3.1.0
+     */
+    public static Matrix ger(final Matrix m, final float alpha, final Vector x, final Vector y)
+            throws IllegalArgumentException {
+        if (x.size() != m.height() || y.size() != m.width()) {
+            throw new IllegalArgumentException(String.format(
+                    "Rank-1 update denied: matrix with size %dx%d and vectors with sizes %d and %d",
+                    m.height(), m.width(), x.size(), y.size()));
+        }
+
+        final int width = m.width();
+        final float[] row = components(y);
+        if (m instanceof Mat mat) {
+            final float[] a = mat.data();
+            for (int r = 0; r < m.height(); r++) {
+                final int offset = r * width;
+                final float factor = alpha * x.get(r);
+                for (int c = 0; c < width; c++) {
+                    a[offset + c] += factor * row[c];
+                }
+            }
+
+            return m;
+        }
+
+        for (int r = 0; r < m.height(); r++) {
+            final float factor = alpha * x.get(r);
+            for (int c = 0; c < width; c++) {
+                m.set(r, c, m.get(r, c) + factor * row[c]);
+            }
+        }
+
+        return m;
+    }
+
+    /**
+     * Returns trace (sum of elements of main diagonal) of the given matrix.
+     *
+     * @param m matrix
+     * @return trace of matrix {@code m}
+     * @throws UnsupportedOperationException if matrix is not square
+     *
+     * @since 3.1.0
+     */
+    public static float trace(final Matrix m) throws UnsupportedOperationException {
+        if (!square(m)) {
+            throw new UnsupportedOperationException("Trace does not exist: matrix is not square");
+        }
+
+        float result = 0;
+        for (int i = 0; i < m.height(); i++) {
+            result += m.get(i, i);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns Frobenius norm (square root of sum of squares of elements) of the
+     * given matrix. Squares are accumulated in {@code double}. Dense matrices
+     * ({@link Mat}) with at least {@link #PARALLEL_THRESHOLD} elements are
+     * processed in parallel.
+     *
+     * @param m matrix
+     * @return Frobenius norm of matrix {@code m}
+     *
+     * @since 3.1.0
+     */
+    public static float normFrobenius(final Matrix m) {
+        if (m instanceof VersionedMat versioned) {
+            return versioned.normFrobenius();
+        }
+        if (m instanceof Mat mat) {
+            final float[] a = mat.data();
+            final int size = m.height() * m.width();
+            if (size < PARALLEL_THRESHOLD) {
+                return (float) Math.sqrt(sumSquares(a, 0, size));
+            }
+
+            return (float) Math.sqrt(IntStream.range(0, blockCount(size)).parallel()
+                    .mapToDouble(b -> sumSquares(a, b * PARALLEL_BLOCK, Math.min(size, (b + 1) * PARALLEL_BLOCK)))
+                    .sum());
+        }
+
+        double result = 0;
+        for (int r = 0; r < m.height(); r++) {
+            for (int c = 0; c < m.width(); c++) {
+                final float e = m.get(r, c);
+                result += e * e;
+            }
+        }
+
+        return (float) Math.sqrt(result);
+    }
+
+    /**
+     * Returns 1-norm (maximal sum of absolute values of elements of column) of
+     * the given matrix.
+     *
+     * @param m matrix
+     * @return 1-norm of matrix {@code m}
+     *
+     * @since 3.1.0
+     */
+    public static float norm1(final Matrix m) {
+        if (m instanceof VersionedMat versioned) {
+            return versioned.norm1();
+        }
+        final int width = m.width();
+        final float[] sums = new float[width];
+        if (m instanceof Mat mat) {
+            final float[] a = mat.data();
+            for (int r = 0; r < m.height(); r++) {
+                final int offset = r * width;
+                for (int c = 0; c < width; c++) {
+                    sums[c] += Math.abs(a[offset + c]);
+                }
+            }
+        } else {
+            for (int r = 0; r < m.height(); r++) {
+                for (int c = 0; c < width; c++) {
+                    sums[c] += Math.abs(m.get(r, c));
+                }
+            }
+        }
+
+        float result = 0;
+        for (final float s : sums) {
+            result = Math.max(result, s);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns infinity norm (maximal sum of absolute values of elements of
+     * row) of the given matrix. Rows of dense matrices ({@link Mat}) with at
+     * least {@link #PARALLEL_THRESHOLD} elements are processed in parallel.
+     *
+     * @param m matrix
+     * @return infinity norm of matrix {@code m}
+     *
+     * @since 3.1.0
+     */
+    public static float normInf(final Matrix m) {
+        if (m instanceof VersionedMat versioned) {
+            return versioned.normInf();
+        }
+        final int width = m.width();
+        if (m instanceof Mat mat) {
+            final float[] a = mat.data();
+            IntStream rows = IntStream.range(0, m.height());
+            if (m.height() * width >= PARALLEL_THRESHOLD) {
+                rows = rows.parallel();
+            }
+
+            return (float) rows.mapToDouble(r -> sumAbs(a, r * width, (r + 1) * width)).max().orElse(0);
+        }
+
+        float result = 0;
+        for (int r = 0; r < m.height(); r++) {
+            float sum = 0;
+            for (int c = 0; c < width; c++) {
+                sum += Math.abs(m.get(r, c));
+            }
+            result = Math.max(result, sum);
+        }
+
+        return result;
+    }
+
+    /**
+     * Writes sums of rows of the given matrix into the given vector and
+     * returns it. Rows of dense matrices ({@link Mat}) with at least
+     * {@link #PARALLEL_THRESHOLD} elements are processed in parallel.
+     *
+     * @param m    matrix
+     * @param dest vector for result
+     * @return vector {@code dest} with sums of rows
+     * @throws IllegalArgumentException if size of vector is not equal to height
+     *                                  of matrix
+     *
+     * @since 3.1.0
+     */
+    public static Vector rowSums(final Matrix m, final Vector dest) throws IllegalArgumentException {
+        if (dest.size() != m.height()) {
+            throw new IllegalArgumentException(String.format(
+                    "Row summation denied: matrix with size %dx%d and %d-dimensional vector",
+                    m.height(), m.width(), dest.size()));
+        }
+
+        final int width = m.width();
+        if (m instanceof Mat mat) {
+            final float[] a = mat.data();
+            final float[] sums = new float[m.height()];
+            IntStream rows = IntStream.range(0, m.height());
+            if (m.height() * width >= PARALLEL_THRESHOLD) {
+                rows = rows.parallel();
+            }
+            rows.forEach(r -> sums[r] = sum(a, r * width, (r + 1) * width));
+            for (int r = 0; r < sums.length; r++) {
+                dest.set(r, sums[r]);
+            }
+
+            return dest;
+        }
+
+        for (int r = 0; r < m.height(); r++) {
+            float sum = 0;
+            for (int c = 0; c < width; c++) {
+                sum += m.get(r, c);
+            }
+            dest.set(r, sum);
+        }
+
+        return dest;
+    }
+
+    /**
+     * Returns new vector with sums of rows of the given matrix.
+     *
+     * @param m matrix
+     * @return new vector with sums of rows
+     *
+     * @since 3.1.0
+     */
+    public static Vector rowSums(final Matrix m) {
+        return rowSums(m, new Vec(m.height()));
+    }
+
+    /**
+     * Writes sums of columns of the given matrix into the given vector and
+     * returns it. Dense matrices ({@link Mat}) are summed row by row, so the
+     * backing array is read sequentially.
+     *
+     * @param m    matrix
+     * @param dest vector for result
+     * @return vector {@code dest} with sums of columns
+     * @throws IllegalArgumentException if size of vector is not equal to width
+     *                                  of matrix
+     *
+     * @since 3.1.0
+     */
+    public static Vector colSums(final Matrix m, final Vector dest) throws IllegalArgumentException {
+        if (dest.size() != m.width()) {
+            throw new IllegalArgumentException(String.format(
+                    "Column summation denied: matrix with size %dx%d and %d-dimensional vector",
+                    m.height(), m.width(), dest.size()));
+        }
+
+        final int width = m.width();
+        final float[] sums = new float[width];
+        if (m instanceof Mat mat) {
+            final float[] a = mat.data();
+            for (int r = 0; r < m.height(); r++) {
+                final int offset = r * width;
+                for (int c = 0; c < width; c++) {
+                    sums[c] += a[offset + c];
+                }
+            }
+        } else {
+            for (int r = 0; r < m.height(); r++) {
+                for (int c = 0; c < width; c++) {
+                    sums[c] += m.get(r, c);
+                }
+            }
+        }
+        for (int c = 0; c < width; c++) {
+            dest.set(c, sums[c]);
+        }
+
+        return dest;
+    }
+
+    /**
+     * Returns new vector with sums of columns of the given matrix.
+     *
+     * @param m matrix
+     * @return new vector with sums of columns
+     *
+     * @since 3.1.0
+     */
+    public static Vector colSums(final Matrix m) {
+        return colSums(m, new Vec(m.width()));
+    }
+
+    /**
+     * Returns minimal element of the given matrix.
+     *
+     * @param m matrix
+     * @return minimal element of matrix {@code m}
+     * @throws UnsupportedOperationException if matrix is empty
+     *
+     * @since 3.1.0
+     */
+    public static float min(final Matrix m) throws UnsupportedOperationException {
+        final int i = argMin(m);
+        return m.get(i / m.width(), i % m.width());
+    }
+
+    /**
+     * Returns maximal element of the given matrix.
+     *
+     * @param m matrix
+     * @return maximal element of matrix {@code m}
+     * @throws UnsupportedOperationException if matrix is empty
+     *
+     * @since 3.1.0
+     */
+    public static float max(final Matrix m) throws UnsupportedOperationException {
+        final int i = argMax(m);
+        return m.get(i / m.width(), i % m.width());
+    }
+
+    /**
+     * Returns row-major index ({@code r * width + c}) of the first minimal
+     * element of the given matrix. Dense matrices ({@link Mat}) with at least
+     * {@link #PARALLEL_THRESHOLD} elements are searched in parallel.
+     *
+     * @param m matrix
+     * @return row-major index of minimal element
+     * @throws UnsupportedOperationException if matrix is empty
+     *
+     * @since 3.1.0
+     */
+    public static int argMin(final Matrix m) throws UnsupportedOperationException {
+        return argExtremum(m, -1);
+    }
+
+    /**
+     * Returns row-major index ({@code r * width + c}) of the first maximal
+     * element of the given matrix. Dense matrices ({@link Mat}) with at least
+     * {@link #PARALLEL_THRESHOLD} elements are searched in parallel.
+     *
+     * @param m matrix
+     * @return row-major index of maximal element
+     * @throws UnsupportedOperationException if matrix is empty
+     *
+     * @since 3.1.0
+     */
+    public static int argMax(final Matrix m) throws UnsupportedOperationException {
+        return argExtremum(m, 1);
+    }
+
+    /**
+     * Constructs {@code height}x{@code width}vector with all 0 components.
+     * 
+     * @throws ArithmeticException if {@code divisor} approximately equals 0
+     * @param height height of matrix to be constructed
+     * @param width  width of matrix to be constructed
+     * @return new {@code height}-x-{@code width} matrix with all 0 elements
+     *
+     * @since 1.0.0
+     */
+    public static Matrix zeroMatrix(final int height, final int width) {
+        return new Mat(height, width);
+    }
+
+    /**
+     * Constructs {@code size}-x-{@code size} matrix with all 1 on main iagonal.
+     * 
+     * @param size height and width of matrix to be constructed
+     * @return new square {@code size}x{@code size} matrix with 1 on main diagonal
+     *
+     * @since 1.0.0
+     */
+    public static Matrix unitMatrix(final int size) {
+        final Matrix result = new Mat(size);
+        for (int i = 0; i < size; i++) {
+            result.set(i, i, 1);
+        }
+
+        return result;
+    }
+
+    /**
+     * Constructs matrix from the given vector-rows.
+     * 
+     * @param vs vectors for matrix construction taken as rows
+     * @return new matrix with values from vectors {@code vsCEyy}
+     * @throws IllegalArgumentException if vectors have different lengths
+     *
+     * @since 2.1.0
+     */
+    public static Matrix fromVecRows(Vector... vs) throws IllegalArgumentException {
+        Mat result = new Mat(vs.length, vs[0].size());
+        for (int r = 0; r < vs.length; r++) {
+            if (vs[r].size() != vs[0].size()) {
+                throw new IllegalArgumentException("Matrix creation denied: vectors with different sizes");
+            }
+            for (int c = 0; c < vs[0].size(); c++) {
+                result.set(r, c, vs[r].get(c));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Constructs matrix from the given vector-columns.
+     * 
+     * @param vs vectors for matrix construction taken as columns
+     * @return new matrix with values from vectors {@code vsCEyy}
+     * @throws IllegalArgumentException if vectors have different lengths
+     *
+     * @since 2.1.0
+     */
+    public static Matrix fromVecCols(Vector... vs) throws IllegalArgumentException {
+        Mat result = new Mat(vs[0].size(), vs.length);
+        for (int c = 0; c < vs.length; c++) {
+            if (vs[c].size() != vs[0].size()) {
+                throw new IllegalArgumentException("Matrix creation denied: vectors with different sizes");
+            }
+            for (int r = 0; r < vs[0].size(); r++) {
+                result.set(r, c, vs[c].get(r));
+            }
+        }
+
+        return result;
+    }
+
+    private static int blockCount(final int size) {
+        return (size + PARALLEL_BLOCK - 1) / PARALLEL_BLOCK;
+    }
+
+    private static void mapRange(final float[] a, final int from, final int to, final FloatUnaryOperator op) {
+        for (int i = from; i < to; i++) {
+            a[i] = op.applyAsFloat(a[i]);
+        }
+    }
+
+    private static void zipRange(final float[] a, final float[] b, final int from, final int to,
+            final FloatBinaryOperator op) {
+        for (int i = from; i < to; i++) {
+            a[i] = op.applyAsFloat(a[i], b[i]);
+        }
+    }
+
+    private static float reduceRange(final float[] a, final int from, final int to, final float identity,
+            final FloatBinaryOperator op) {
+        float result = identity;
+        for (int i = from; i < to; i++) {
+            result = op.applyAsFloat(result, a[i]);
+        }
+
+        return result;
+    }
+
+    private static int argExtremum(final Matrix m, final int sign) throws UnsupportedOperationException {
+        final int size = m.height() * m.width();
+        if (size == 0) {
+            throw new UnsupportedOperationException("Extremum does not exist: matrix is empty");
+        }
+
+        if (m instanceof Mat mat) {
+            final float[] a = mat.data();
+            if (size < PARALLEL_THRESHOLD) {
+                return argExtremum(a, 0, size, sign);
+            }
+
+            return IntStream.range(0, blockCount(size)).parallel()
+                    .map(b -> argExtremum(a, b * PARALLEL_BLOCK, Math.min(size, (b + 1) * PARALLEL_BLOCK), sign))
+                    .reduce((i, j) -> sign * a[j] > sign * a[i] ? j : i).getAsInt();
+        }
+
+        final int width = m.width();
+        int result = 0;
+        float best = sign * m.get(0, 0);
+        for (int i = 1; i < size; i++) {
+            final float e = sign * m.get(i / width, i % width);
+            if (e > best) {
+                best = e;
+                result = i;
+            }
+        }
+
+        return result;
+    }
+
+    private static int argExtremum(final float[] a, final int from, final int to, final int sign) {
+        int result = from;
+        float best = sign * a[from];
+        for (int i = from + 1; i < to; i++) {
+            final float e = sign * a[i];
+            if (e > best) {
+                best = e;
+                result = i;
+            }
+        }
+
+        return result;
+    }
+
+    private static float sum(final float[] a, final int from, final int to) {
+        float s0 = 0;
+        float s1 = 0;
+        float s2 = 0;
+        float s3 = 0;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            s0 += a[i];
+            s1 += a[i + 1];
+            s2 += a[i + 2];
+            s3 += a[i + 3];
+        }
+        for (; i < to; i++) {
+            s0 += a[i];
+        }
+
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    private static float sumAbs(final float[] a, final int from, final int to) {
+        float s0 = 0;
+        float s1 = 0;
+        float s2 = 0;
+        float s3 = 0;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            s0 += Math.abs(a[i]);
+            s1 += Math.abs(a[i + 1]);
+            s2 += Math.abs(a[i + 2]);
+            s3 += Math.abs(a[i + 3]);
+        }
+        for (; i < to; i++) {
+            s0 += Math.abs(a[i]);
+        }
+
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    private static double sumSquares(final float[] a, final int from, final int to) {
+        double s0 = 0;
+        double s1 = 0;
+        double s2 = 0;
+        double s3 = 0;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            s0 += a[i] * a[i];
+            s1 += a[i + 1] * a[i + 1];
+            s2 += a[i + 2] * a[i + 2];
+            s3 += a[i + 3] * a[i + 3];
+        }
+        for (; i < to; i++) {
+            s0 += a[i] * a[i];
+        }
+
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    private static float[] components(final Vector v) {
+        final float[] result = new float[v.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = v.get(i);
+        }
+
+        return result;
+    }
+
+    /**
+     * Solves {@code a * x = b} for {@code width} right-hand sides by Gaussian
+     * elimination with partial pivoting. Array {@code a} is destroyed, and
+     * array {@code b} is replaced with {@code x}.
+     */
+    private static void solveAsgn(final float[] a, final float[] b, final int n, final int width)
+            throws RuntimeException {
+        for (int k = 0; k < n; k++) {
+            int pivot = k;
+            for (int r = k + 1; r < n; r++) {
+                if (Math.abs(a[r * n + k]) > Math.abs(a[pivot * n + k])) {
+                    pivot = r;
+                }
+            }
+            if (a[pivot * n + k] == 0) {
+                throw new RuntimeException("Solution does not exist: matrix is singular");
+            }
+            if (pivot != k) {
+                swapRanges(a, k * n, pivot * n, n);
+                swapRanges(b, k * width, pivot * width, width);
+            }
+
+            final float diag = a[k * n + k];
+            for (int r = k + 1; r < n; r++) {
+                final float factor = a[r * n + k] / diag;
+                if (factor == 0) {
+                    continue;
+                }
+                for (int c = k + 1; c < n; c++) {
+                    a[r * n + c] -= factor * a[k * n + c];
+                }
+                for (int c = 0; c < width; c++) {
+                    b[r * width + c] -= factor * b[k * width + c];
+                }
+            }
+        }
+
+        for (int r = n - 1; r >= 0; r--) {
+            for (int i = r + 1; i < n; i++) {
+                final float factor = a[r * n + i];
+                for (int c = 0; c < width; c++) {
+                    b[r * width + c] -= factor * b[i * width + c];
+                }
+            }
+            final float diag = a[r * n + r];
+            for (int c = 0; c < width; c++) {
+                b[r * width + c] /= diag;
+            }
+        }
+    }
+
+    private static void swapRanges(final float[] a, final int from1, final int from2, final int length) {
+        for (int i = 0; i < length; i++) {
+            final float tmp = a[from1 + i];
+            a[from1 + i] = a[from2 + i];
+            a[from2 + i] = tmp;
+        }
+    }
+
+    private static Mat unitMat(final int n) {
+        final Mat result = new Mat(n, n);
+        final float[] a = result.data();
+        for (int i = 0; i < n; i++) {
+            a[i * n + i] = 1;
+        }
+
+        return result;
+    }
+
+    private static Mat scratch(final Workspace ws, final int n) {
+        return (Mat) ws.mat(n, n);
+    }
+
+    private static Mat scratch(final Workspace ws, final Matrix m) {
+        final Mat result = (Mat) ws.mat(m.height(), m.width());
+        System.arraycopy(elements(m), 0, result.data(), 0, result.data().length);
+
+        return result;
+    }
+
+    private static float[] elements(final Matrix m) {
+        if (m instanceof Mat mat) {
+            return mat.data();
+        }
+
+        final int width = m.width();
+        final float[] result = new float[m.height() * width];
+        for (int r = 0; r < m.height(); r++) {
+            for (int c = 0; c < width; c++) {
+                result[r * width + c] = m.get(r, c);
+            }
+        }
+
+        return result;
+    }
+
+    private static Matrix scaleColsAsgn(final Mat m, final float[] d) {
+        final float[] a = m.data();
+        final int width = m.width();
+        for (int r = 0; r < m.height(); r++) {
+            final int offset = r * width;
+            for (int c = 0; c < width; c++) {
+                a[offset + c] *= d[c];
+            }
+        }
+
+        return m;
+    }
+
+    private static Matrix permuteRows(final Matrix m, final int[] p) {
+        final float[] src = elements(m);
+        final int width = m.width();
+        final Mat result = new Mat(p.length, width);
+        for (int r = 0; r < p.length; r++) {
+            System.arraycopy(src, p[r] * width, result.data(), r * width, width);
+        }
+
+        return result;
+    }
+
+    private static Matrix permuteCols(final Matrix m, final int[] p) {
+        final float[] src = elements(m);
+        final int width = m.width();
+        final Mat result = new Mat(m.height(), width);
+        final float[] dest = result.data();
+        for (int r = 0; r < m.height(); r++) {
+            final int offset = r * width;
+            for (int k = 0; k < width; k++) {
+                dest[offset + p[k]] = src[offset + k];
+            }
+        }
+
+        return result;
+    }
+
+    private static Matrix copy(final Matrix m) {
+        return restrictedStorage(m) ? new Mat(m) : m.clone();
+    }
+
+    /**
+     * Returns {@code true} if storage of the given matrix cannot hold arbitrary
+     * float values, so results of element-wise operations need dense copy of it.
+     */
+    static boolean restrictedStorage(final Matrix m) {
+        return m instanceof QuantizedMat || m instanceof TridiagonalMat || m instanceof BandedMat
+                || m instanceof SymmetricMat || m instanceof TriangularMat || m instanceof IdentityMat
+                || m instanceof DiagonalMat || m instanceof PermutationMat || m instanceof HalfMat;
+    }
 }
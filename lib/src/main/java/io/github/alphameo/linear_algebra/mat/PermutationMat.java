@@ -0,0 +1,178 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * Square permutation matrix ({@link Matrix}), which stores only permutation:
+ * row {@code r} has 1 in column {@code p[r]} and 0 in others, so product
+ * {@code P * m} takes row {@code p[r]} of {@code m} as its row {@code r}.
+ * Elements cannot be changed.
+ * <p>
+ * {@link MatrixMath#prod(Matrix, Matrix)} and
+ * {@link MatrixMath#prodCol(Matrix, Vector)} with it reorder rows or columns
+ * of the other operand, {@link MatrixMath#inv(Matrix)} returns inverse
+ * permutation and {@link MatrixMath#det(Matrix)} returns sign of permutation.
+ *
+ * @since 3.1.0
+ */
+public class PermutationMat implements Matrix {
+
+    private int[] permutation;
+
+    /**
+     * Constructs permutation matrix from the given permutation.
+     *
+     * @param permutation column of 1 in every row (copied)
+     * @throws IllegalArgumentException if array is not permutation of
+     *                                  {@code 0..n-1}
+     *
+     * @since 3.1.0
+     */
+    public PermutationMat(final int... permutation) throws IllegalArgumentException {
+        final boolean[] seen = new boolean[permutation.length];
+        for (final int p : permutation) {
+            if (p < 0 || p >= permutation.length || seen[p]) {
+                throw new IllegalArgumentException(String.format(
+                        "Matrix creation denied: %s is not permutation", Arrays.toString(permutation)));
+            }
+            seen[p] = true;
+        }
+
+        this.permutation = permutation.clone();
+    }
+
+    /**
+     * Returns column of 1 in the given row.
+     *
+     * @param r row index
+     * @return column index of 1 in row {@code r}
+     *
+     * @since 3.1.0
+     */
+    public int column(final int r) {
+        return permutation[Objects.checkIndex(r, permutation.length)];
+    }
+
+    /**
+     * Returns the backing array of permutation (not a copy).
+     *
+     * @return permutation
+     */
+    int[] data() {
+        return permutation;
+    }
+
+    /**
+     * Returns sign of permutation ({@code 1} for even and {@code -1} for odd).
+     *
+     * @return sign of permutation, which is determinant of matrix
+     *
+     * @since 3.1.0
+     */
+    public int sign() {
+        final boolean[] visited = new boolean[permutation.length];
+        int sign = 1;
+        for (int i = 0; i < permutation.length; i++) {
+            if (visited[i]) {
+                continue;
+            }
+            int length = 0;
+            for (int j = i; !visited[j]; j = permutation[j]) {
+                visited[j] = true;
+                length++;
+            }
+            if (length % 2 == 0) {
+                sign = -sign;
+            }
+        }
+
+        return sign;
+    }
+
+    @Override
+    public float get(final int r, final int c) {
+        Objects.checkIndex(c, permutation.length);
+
+        return column(r) == c ? 1 : 0;
+    }
+
+    /**
+     * Does nothing, if value equals current element.
+     *
+     * @throws UnsupportedOperationException if value differs from current
+     *                                       element
+     */
+    @Override
+    public void set(final int r, final int c, final float value) throws UnsupportedOperationException {
+        if (value != get(r, c)) {
+            throw new UnsupportedOperationException("Setting denied: permutation matrix cannot be changed");
+        }
+    }
+
+    @Override
+    public int width() {
+        return permutation.length;
+    }
+
+    @Override
+    public int height() {
+        return permutation.length;
+    }
+
+    /**
+     * Replaces permutation with the inverse one, which is transposed matrix.
+     *
+     * @return transposed matrix {@code this}
+     */
+    @Override
+    public Matrix transpose() {
+        permutation = inverse();
+        return this;
+    }
+
+    @Override
+    public Matrix clone() {
+        return new PermutationMat(permutation);
+    }
+
+    @Override
+    public String toString() {
+        return MatrixStringer.matrixToString(this);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(permutation);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        return Arrays.equals(permutation, ((PermutationMat) obj).permutation);
+    }
+
+    /**
+     * Returns inverse permutation.
+     *
+     * @return new array with inverse permutation
+     */
+    int[] inverse() {
+        final int[] result = new int[permutation.length];
+        for (int r = 0; r < permutation.length; r++) {
+            result[permutation[r]] = r;
+        }
+
+        return result;
+    }
+}
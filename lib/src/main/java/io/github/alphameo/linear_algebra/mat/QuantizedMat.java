@@ -0,0 +1,271 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * Implementation of arbitrary matrix ({@link Matrix}), which stores elements
+ * as 8-bit integers with scale and zero point of every row (asymmetric
+ * quantization): element is {@code (q - zeroPoint) * scale}. It takes a
+ * quarter of memory of {@link Mat}.
+ * <p>
+ * Quantization parameters of row are chosen on construction from the range of
+ * its elements; {@link #set} of value outside of that range quantizes the row
+ * again with the extended range.
+ * Products with vectors and matrices
+ * ({@link MatrixMath#prodCol(Matrix, Vector)},
+ * {@link MatrixMath#prod(Matrix, Matrix)}) quantize the right operand
+ * symmetrically per column, accumulate products of 8-bit values in
+ * {@code int} and rescale once per element of result.
+ *
+ * @since 3.1.0
+ */
+public class QuantizedMat implements Matrix {
+
+    private static final int Q_MIN = -128;
+    private static final int Q_MAX = 127;
+
+    private byte[] entries;
+    private float[] scales;
+    private int[] zeroPoints;
+    private int height;
+    private int width;
+
+    /**
+     * Constructs quantized copy of the given matrix.
+     *
+     * @param m matrix for quantization
+     *
+     * @since 3.1.0
+     */
+    public QuantizedMat(final Matrix m) {
+        quantize(m);
+    }
+
+    private QuantizedMat() {
+    }
+
+    private void quantize(final Matrix m) {
+        height = m.height();
+        width = m.width();
+        entries = new byte[height * width];
+        scales = new float[height];
+        zeroPoints = new int[height];
+        final float[] values = new float[width];
+        for (int r = 0; r < height; r++) {
+            for (int c = 0; c < width; c++) {
+                values[c] = m.get(r, c);
+            }
+            quantizeRow(r, values);
+        }
+    }
+
+    private void quantizeRow(final int r, final float[] values) {
+        float min = 0;
+        float max = 0;
+        for (final float value : values) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+
+        final float scale = max > min ? (max - min) / (Q_MAX - Q_MIN) : 1;
+        scales[r] = scale;
+        zeroPoints[r] = Math.round(Q_MIN - min / scale);
+        for (int c = 0; c < width; c++) {
+            entries[r * width + c] = encode(values[c], r);
+        }
+    }
+
+    /**
+     * Returns scale of the given row.
+     *
+     * @param r row index
+     * @return scale of row {@code r}
+     *
+     * @since 3.1.0
+     */
+    public float scale(final int r) {
+        return scales[Objects.checkIndex(r, height)];
+    }
+
+    /**
+     * Returns zero point (quantized value of 0) of the given row.
+     *
+     * @param r row index
+     * @return zero point of row {@code r}
+     *
+     * @since 3.1.0
+     */
+    public int zeroPoint(final int r) {
+        return zeroPoints[Objects.checkIndex(r, height)];
+    }
+
+    @Override
+    public float get(final int r, final int c) {
+        final int i = Objects.checkIndex(r, height) * width + Objects.checkIndex(c, width);
+        return (entries[i] - zeroPoints[r]) * scales[r];
+    }
+
+    /**
+     * Sets value quantized with parameters of row {@code r}. If value is
+     * outside of the range of the row, the whole row is quantized again.
+     */
+    @Override
+    public void set(final int r, final int c, final float value) {
+        final int i = Objects.checkIndex(r, height) * width + Objects.checkIndex(c, width);
+        final float q = value / scales[r] + zeroPoints[r];
+        if (q >= Q_MIN - 0.5f && q < Q_MAX + 0.5f) {
+            entries[i] = encode(value, r);
+            return;
+        }
+
+        final float[] values = new float[width];
+        for (int col = 0; col < width; col++) {
+            values[col] = get(r, col);
+        }
+        values[c] = value;
+        quantizeRow(r, values);
+    }
+
+    @Override
+    public int width() {
+        return width;
+    }
+
+    @Override
+    public int height() {
+        return height;
+    }
+
+    /**
+     * Transposes this matrix and quantizes it again with parameters of new
+     * rows.
+     *
+     * @return transposed matrix {@code this}
+     */
+    @Override
+    public Matrix transpose() {
+        quantize(MatrixMath.transposed(new Mat(this)));
+        return this;
+    }
+
+    @Override
+    public Matrix clone() {
+        final QuantizedMat result = new QuantizedMat();
+        result.height = height;
+        result.width = width;
+        result.entries = entries.clone();
+        result.scales = scales.clone();
+        result.zeroPoints = zeroPoints.clone();
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return MatrixStringer.matrixToString(this);
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + height;
+        result = prime * result + width;
+        result = prime * result + Arrays.hashCode(entries);
+        result = prime * result + Arrays.hashCode(scales);
+        result = prime * result + Arrays.hashCode(zeroPoints);
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final QuantizedMat other = (QuantizedMat) obj;
+        return height == other.height && width == other.width && MatrixMath.equals(this, other);
+    }
+
+    /**
+     * Calculates {@code y = this * x}.
+     *
+     * @param x components of vector-column of size {@code width}
+     * @param y array for result of size {@code height}
+     */
+    void prodCol(final float[] x, final float[] y) {
+        final byte[] xq = new byte[width];
+        final float xScale = quantizeSymmetric(x, xq);
+        int xSum = 0;
+        for (final byte q : xq) {
+            xSum += q;
+        }
+
+        for (int r = 0; r < height; r++) {
+            y[r] = scales[r] * xScale * (dot(r * width, xq) - zeroPoints[r] * xSum);
+        }
+    }
+
+    /**
+     * Calculates {@code this * m} into the given row-major array.
+     *
+     * @param m      right matrix with height equal to {@code width}
+     * @param result array for result of size {@code height * m.width()}
+     */
+    void prod(final Matrix m, final float[] result) {
+        final int resultWidth = m.width();
+        final byte[] column = new byte[width];
+        final float[] values = new float[width];
+        for (int c = 0; c < resultWidth; c++) {
+            for (int i = 0; i < width; i++) {
+                values[i] = m.get(i, c);
+            }
+            final float xScale = quantizeSymmetric(values, column);
+            int xSum = 0;
+            for (final byte q : column) {
+                xSum += q;
+            }
+
+            for (int r = 0; r < height; r++) {
+                result[r * resultWidth + c] = scales[r] * xScale * (dot(r * width, column) - zeroPoints[r] * xSum);
+            }
+        }
+    }
+
+    private int dot(final int offset, final byte[] xq) {
+        int sum = 0;
+        for (int c = 0; c < width; c++) {
+            sum += entries[offset + c] * xq[c];
+        }
+
+        return sum;
+    }
+
+    private byte encode(final float value, final int r) {
+        final int q = Math.round(value / scales[r]) + zeroPoints[r];
+        return (byte) Math.max(Q_MIN, Math.min(Q_MAX, q));
+    }
+
+    private static float quantizeSymmetric(final float[] x, final byte[] dest) {
+        float max = 0;
+        for (final float value : x) {
+            max = Math.max(max, Math.abs(value));
+        }
+
+        final float scale = max > 0 ? max / Q_MAX : 1;
+        final float inv = 1 / scale;
+        for (int i = 0; i < x.length; i++) {
+            dest[i] = (byte) Math.round(x[i] * inv);
+        }
+
+        return scale;
+    }
+}
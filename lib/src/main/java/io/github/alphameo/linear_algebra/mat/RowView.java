@@ -0,0 +1,69 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import io.github.alphameo.linear_algebra.vec.Vec;
+import io.github.alphameo.linear_algebra.vec.Vector;
+import io.github.alphameo.linear_algebra.vec.VectorMath;
+
+/**
+ * Vector view of matrix row: reads and writes go to the matrix.
+ *
+ * @since 3.1.0
+ */
+class RowView implements Vector {
+
+    private final Matrix matrix;
+    private final int row;
+
+    RowView(final Matrix matrix, final int row) {
+        this.matrix = matrix;
+        this.row = row;
+    }
+
+    @Override
+    public float get(final int i) {
+        return matrix.get(row, i);
+    }
+
+    @Override
+    public void set(final int i, final float value) {
+        matrix.set(row, i, value);
+    }
+
+    @Override
+    public int size() {
+        return matrix.width();
+    }
+
+    @Override
+    public Vector clone() {
+        return new Vec(this);
+    }
+
+    @Override
+    public String toString() {
+        return clone().toString();
+    }
+
+    @Override
+    public int hashCode() {
+        return clone().hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final RowView other = (RowView) obj;
+        if (other.size() != size()) {
+            return false;
+        }
+        return VectorMath.equals(this, other);
+    }
+}
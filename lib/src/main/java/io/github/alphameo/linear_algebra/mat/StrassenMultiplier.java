@@ -0,0 +1,235 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Strassen-Winograd matrix multiplication over padded square arrays.
+ *
+ * @since 3.1.0
+ */
+class StrassenMultiplier {
+
+    private final int cutoff;
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs multiplier with the given cutoff.
+     *
+     * @param cutoff size of blocks multiplied by the standard kernel
+     * @param pool   pool for the parallel execution of seven sub-products, or
+     *               {@code null} for the sequential execution
+     */
+    StrassenMultiplier(final int cutoff, final ForkJoinPool pool) {
+        this.cutoff = cutoff;
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the result of product of the given matrices.
+     *
+     * @param m1 left matrix for product
+     * @param m2 right matrix for product
+     * @return product of matrix {@code m1} and matrix {@code m2}
+     */
+    Matrix prod(final Matrix m1, final Matrix m2) {
+        final int maxSize = Math.max(Math.max(m1.height(), m1.width()), m2.width());
+
+        int levels = 0;
+        int blockSize = maxSize;
+        while (blockSize > cutoff) {
+            blockSize = (blockSize + 1) / 2;
+            levels++;
+        }
+        final int size = blockSize << levels;
+
+        final float[][] a = toPadded(m1, size);
+        final float[][] b = toPadded(m2, size);
+        final float[][] c;
+        if (pool == null) {
+            c = multiply(a, b, cutoff);
+        } else {
+            c = pool.invoke(new ProductTask(a, b, cutoff));
+        }
+
+        final Matrix result = new Mat(m1.height(), m2.width());
+        for (int r = 0; r < result.height(); r++) {
+            for (int col = 0; col < result.width(); col++) {
+                result.set(r, col, c[r][col]);
+            }
+        }
+
+        return result;
+    }
+
+    private static float[][] multiply(final float[][] a, final float[][] b, final int cutoff) {
+        final int n = a.length;
+        if (n <= cutoff || n % 2 != 0) {
+            return standard(a, b);
+        }
+
+        final Operands o = new Operands(a, b);
+        return o.combine(
+                multiply(o.a11, o.b11, cutoff),
+                multiply(o.a12, o.b21, cutoff),
+                multiply(o.s4, o.b22, cutoff),
+                multiply(o.a22, o.t4, cutoff),
+                multiply(o.s1, o.t1, cutoff),
+                multiply(o.s2, o.t2, cutoff),
+                multiply(o.s3, o.t3, cutoff));
+    }
+
+    private static final class ProductTask extends RecursiveTask<float[][]> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final float[][] a;
+        private final float[][] b;
+        private final int cutoff;
+
+        ProductTask(final float[][] a, final float[][] b, final int cutoff) {
+            this.a = a;
+            this.b = b;
+            this.cutoff = cutoff;
+        }
+
+        @Override
+        protected float[][] compute() {
+            final int n = a.length;
+            if (n <= 2 * cutoff || n % 2 != 0) {
+                return multiply(a, b, cutoff);
+            }
+
+            final Operands o = new Operands(a, b);
+            final ProductTask p1 = new ProductTask(o.a11, o.b11, cutoff);
+            final ProductTask p2 = new ProductTask(o.a12, o.b21, cutoff);
+            final ProductTask p3 = new ProductTask(o.s4, o.b22, cutoff);
+            final ProductTask p4 = new ProductTask(o.a22, o.t4, cutoff);
+            final ProductTask p5 = new ProductTask(o.s1, o.t1, cutoff);
+            final ProductTask p6 = new ProductTask(o.s2, o.t2, cutoff);
+            final ProductTask p7 = new ProductTask(o.s3, o.t3, cutoff);
+            invokeAll(p1, p2, p3, p4, p5, p6, p7);
+
+            return o.combine(p1.join(), p2.join(), p3.join(), p4.join(), p5.join(), p6.join(), p7.join());
+        }
+    }
+
+    /**
+     * Quadrants and Winograd's pre-additions of the operands.
+     */
+    private static class Operands {
+
+        private final int half;
+        private final float[][] a11, a12, a22, b11, b21, b22;
+        private final float[][] s1, s2, s3, s4, t1, t2, t3, t4;
+
+        Operands(final float[][] a, final float[][] b) {
+            half = a.length / 2;
+
+            a11 = quadrant(a, 0, 0);
+            a12 = quadrant(a, 0, half);
+            final float[][] a21 = quadrant(a, half, 0);
+            a22 = quadrant(a, half, half);
+            b11 = quadrant(b, 0, 0);
+            final float[][] b12 = quadrant(b, 0, half);
+            b21 = quadrant(b, half, 0);
+            b22 = quadrant(b, half, half);
+
+            s1 = new float[half][half];
+            s2 = new float[half][half];
+            s3 = new float[half][half];
+            s4 = new float[half][half];
+            t1 = new float[half][half];
+            t2 = new float[half][half];
+            t3 = new float[half][half];
+            t4 = new float[half][half];
+            for (int r = 0; r < half; r++) {
+                for (int c = 0; c < half; c++) {
+                    s1[r][c] = a21[r][c] + a22[r][c];
+                    s2[r][c] = s1[r][c] - a11[r][c];
+                    s3[r][c] = a11[r][c] - a21[r][c];
+                    s4[r][c] = a12[r][c] - s2[r][c];
+                    t1[r][c] = b12[r][c] - b11[r][c];
+                    t2[r][c] = b22[r][c] - t1[r][c];
+                    t3[r][c] = b22[r][c] - b12[r][c];
+                    t4[r][c] = t2[r][c] - b21[r][c];
+                }
+            }
+        }
+
+        float[][] combine(
+                final float[][] p1, final float[][] p2, final float[][] p3, final float[][] p4,
+                final float[][] p5, final float[][] p6, final float[][] p7) {
+            final float[][] c = new float[2 * half][2 * half];
+            for (int r = 0; r < half; r++) {
+                final float[] c1 = c[r];
+                final float[] c2 = c[r + half];
+                for (int col = 0; col < half; col++) {
+                    final float u2 = p1[r][col] + p6[r][col];
+                    final float u3 = u2 + p7[r][col];
+                    final float u4 = u2 + p5[r][col];
+
+                    c1[col] = p1[r][col] + p2[r][col];
+                    c1[col + half] = u4 + p3[r][col];
+                    c2[col] = u3 - p4[r][col];
+                    c2[col + half] = u3 + p5[r][col];
+                }
+            }
+
+            return c;
+        }
+
+        private float[][] quadrant(final float[][] m, final int r0, final int c0) {
+            final float[][] result = new float[half][];
+            for (int r = 0; r < half; r++) {
+                result[r] = new float[half];
+                System.arraycopy(m[r0 + r], c0, result[r], 0, half);
+            }
+
+            return result;
+        }
+    }
+
+    private static float[][] standard(final float[][] a, final float[][] b) {
+        final int n = a.length;
+        final float[][] c = new float[n][n];
+        final boolean[] finite = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            finite[i] = true;
+            for (final float value : b[i]) {
+                if (!Float.isFinite(value)) {
+                    finite[i] = false;
+                    break;
+                }
+            }
+        }
+
+        for (int r = 0; r < n; r++) {
+            final float[] cRow = c[r];
+            final float[] aRow = a[r];
+            for (int i = 0; i < n; i++) {
+                final float value = aRow[i];
+                if (value == 0 && finite[i]) {
+                    continue;
+                }
+                final float[] bRow = b[i];
+                for (int col = 0; col < n; col++) {
+                    cRow[col] += value * bRow[col];
+                }
+            }
+        }
+
+        return c;
+    }
+
+    private static float[][] toPadded(final Matrix m, final int size) {
+        final float[][] result = new float[size][size];
+        for (int r = 0; r < m.height(); r++) {
+            for (int c = 0; c < m.width(); c++) {
+                result[r][c] = m.get(r, c);
+            }
+        }
+
+        return result;
+    }
+}
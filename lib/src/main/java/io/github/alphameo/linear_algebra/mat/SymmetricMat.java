@@ -0,0 +1,191 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * Implementation of square symmetric matrix ({@link Matrix}), which stores
+ * only upper triangle packed row by row ({@code n * (n + 1) / 2} elements).
+ * Setting element also sets its mirror, so matrix stays symmetric.
+ * <p>
+ * {@link MatrixMath#prodCol(Matrix, Vector)},
+ * {@link MatrixMath#prodRow(Matrix, Vector)} and
+ * {@link MatrixMath#prod(Matrix, Matrix)} read every stored element once and
+ * apply it to both mirrored positions.
+ *
+ * @since 3.1.0
+ */
+public class SymmetricMat implements Matrix {
+
+    private final int size;
+    private final float[] packed;
+
+    /**
+     * Constructs new symmetric matrix {@code size} x {@code size} with all 0.
+     *
+     * @param size height and width of matrix
+     * @throws IllegalArgumentException if size is negative
+     *
+     * @since 3.1.0
+     */
+    public SymmetricMat(final int size) throws IllegalArgumentException {
+        if (size < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Matrix creation denied: size %d is negative", size));
+        }
+
+        this.size = size;
+        this.packed = new float[size * (size + 1) / 2];
+    }
+
+    /**
+     * Constructs new symmetric matrix from upper triangle of the given square
+     * matrix.
+     *
+     * @param m square matrix, which upper triangle is copied
+     * @throws IllegalArgumentException if matrix is not square
+     *
+     * @since 3.1.0
+     */
+    public SymmetricMat(final Matrix m) throws IllegalArgumentException {
+        this(m.height());
+        if (!MatrixMath.square(m)) {
+            throw new IllegalArgumentException(String.format(
+                    "Matrix creation denied: matrix with size %dx%d is not square", m.height(), m.width()));
+        }
+
+        int i = 0;
+        for (int r = 0; r < size; r++) {
+            for (int c = r; c < size; c++) {
+                packed[i++] = m.get(r, c);
+            }
+        }
+    }
+
+    @Override
+    public float get(final int r, final int c) {
+        Objects.checkIndex(r, size);
+        Objects.checkIndex(c, size);
+
+        return r <= c ? packed[index(r, c)] : packed[index(c, r)];
+    }
+
+    /**
+     * Sets value into the given position and its mirror.
+     */
+    @Override
+    public void set(final int r, final int c, final float value) {
+        Objects.checkIndex(r, size);
+        Objects.checkIndex(c, size);
+        packed[r <= c ? index(r, c) : index(c, r)] = value;
+    }
+
+    @Override
+    public int width() {
+        return size;
+    }
+
+    @Override
+    public int height() {
+        return size;
+    }
+
+    /**
+     * Returns this matrix, as symmetric matrix equals its transposed one.
+     *
+     * @return matrix {@code this}
+     */
+    @Override
+    public Matrix transpose() {
+        return this;
+    }
+
+    @Override
+    public Matrix clone() {
+        final SymmetricMat result = new SymmetricMat(size);
+        System.arraycopy(packed, 0, result.packed, 0, packed.length);
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return MatrixStringer.matrixToString(this);
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + size;
+        result = prime * result + Arrays.hashCode(packed);
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final SymmetricMat other = (SymmetricMat) obj;
+        return size == other.size && MatrixMath.equals(this, other);
+    }
+
+    /**
+     * Calculates {@code y = this * x} (equal to {@code x * this}).
+     *
+     * @param x components of vector
+     * @param y array for result (overwritten)
+     */
+    void prodCol(final float[] x, final float[] y) {
+        Arrays.fill(y, 0);
+        int i = 0;
+        for (int r = 0; r < size; r++) {
+            final float xr = x[r];
+            float value = packed[i++] * xr;
+            for (int c = r + 1; c < size; c++) {
+                final float a = packed[i++];
+                value += a * x[c];
+                y[c] += a * xr;
+            }
+            y[r] += value;
+        }
+    }
+
+    /**
+     * Calculates {@code y = this * b}.
+     *
+     * @param b     row-major elements of right matrix with height {@code size}
+     * @param width width of right matrix
+     * @param y     array for row-major result (overwritten)
+     */
+    void prod(final float[] b, final int width, final float[] y) {
+        Arrays.fill(y, 0);
+        int i = 0;
+        for (int r = 0; r < size; r++) {
+            for (int c = r; c < size; c++) {
+                final float a = packed[i++];
+                for (int j = 0; j < width; j++) {
+                    y[r * width + j] += a * b[c * width + j];
+                }
+                if (c != r) {
+                    for (int j = 0; j < width; j++) {
+                        y[c * width + j] += a * b[r * width + j];
+                    }
+                }
+            }
+        }
+    }
+
+    private int index(final int r, final int c) {
+        return r * size - r * (r - 1) / 2 + c - r;
+    }
+}
@@ -0,0 +1,378 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Hierarchy of transformations, where world matrix of every node is the
+ * product of world matrix of its parent and its own local matrix.
+ * <p>
+ * Local and world matrices are kept in flat row-major arrays (16 elements per
+ * node). Nodes are stored in topological order (parent always has lower index
+ * than its children), so {@link #update()} is one forward pass, which
+ * recalculates only nodes with changed local matrix and their descendants.
+ *
+ * @since 3.1.0
+ */
+public class TransformHierarchy {
+
+    /**
+     * Parent index of root nodes.
+     *
+     * @since 3.1.0
+     */
+    public static final int ROOT = -1;
+
+    private static final int MIN_PARALLEL_LEVEL = 1024;
+
+    private int size;
+    private int[] parents;
+    private float[] locals;
+    private float[] worlds;
+    private boolean[] dirty;
+    private boolean[] changed;
+
+    private int[] levelStarts;
+    private int[] levelNodes;
+
+    /**
+     * Constructs empty hierarchy.
+     *
+     * @since 3.1.0
+     */
+    public TransformHierarchy() {
+        this(16);
+    }
+
+    /**
+     * Constructs empty hierarchy with space for the given amount of nodes.
+     *
+     * @param capacity initial amount of nodes
+     * @throws IllegalArgumentException if capacity is negative
+     *
+     * @since 3.1.0
+     */
+    public TransformHierarchy(final int capacity) throws IllegalArgumentException {
+        if (capacity < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Hierarchy creation denied: capacity %d is negative", capacity));
+        }
+
+        parents = new int[capacity];
+        locals = new float[capacity * 16];
+        worlds = new float[capacity * 16];
+        dirty = new boolean[capacity];
+        changed = new boolean[capacity];
+    }
+
+    /**
+     * Adds new node with identity local matrix.
+     *
+     * @param parent index of parent node or {@link #ROOT}
+     * @return index of new node
+     * @throws IllegalArgumentException if parent does not exist
+     *
+     * @since 3.1.0
+     */
+    public int add(final int parent) throws IllegalArgumentException {
+        if (parent < ROOT || parent >= size) {
+            throw new IllegalArgumentException(
+                    String.format("Node addition denied: parent %d does not exist", parent));
+        }
+
+        if (size == parents.length) {
+            final int capacity = Math.max(16, size * 2);
+            parents = Arrays.copyOf(parents, capacity);
+            locals = Arrays.copyOf(locals, capacity * 16);
+            worlds = Arrays.copyOf(worlds, capacity * 16);
+            dirty = Arrays.copyOf(dirty, capacity);
+            changed = Arrays.copyOf(changed, capacity);
+        }
+
+        final int node = size++;
+        parents[node] = parent;
+        final int offset = node * 16;
+        Arrays.fill(locals, offset, offset + 16, 0);
+        locals[offset] = 1;
+        locals[offset + 5] = 1;
+        locals[offset + 10] = 1;
+        locals[offset + 15] = 1;
+        dirty[node] = true;
+        levelStarts = null;
+
+        return node;
+    }
+
+    /**
+     * Adds new node with the given local matrix.
+     *
+     * @param parent index of parent node or {@link #ROOT}
+     * @param local  local matrix of node
+     * @return index of new node
+     * @throws IllegalArgumentException if parent does not exist
+     *
+     * @since 3.1.0
+     */
+    public int add(final int parent, final Matrix4 local) throws IllegalArgumentException {
+        final int node = add(parent);
+        setLocal(node, local);
+
+        return node;
+    }
+
+    /**
+     * Returns amount of nodes.
+     *
+     * @return amount of nodes
+     *
+     * @since 3.1.0
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns index of parent of the given node.
+     *
+     * @param node index of node
+     * @return index of parent or {@link #ROOT}
+     *
+     * @since 3.1.0
+     */
+    public int parent(final int node) {
+        checkNode(node);
+
+        return parents[node];
+    }
+
+    /**
+     * Sets local matrix of the given node and marks it for recalculation.
+     *
+     * @param node  index of node
+     * @param local new local matrix
+     *
+     * @since 3.1.0
+     */
+    public void setLocal(final int node, final Matrix4 local) {
+        checkNode(node);
+
+        final int offset = node * 16;
+        if (local instanceof AffineMat4 a) {
+            System.arraycopy(a.data(), 0, locals, offset, 16);
+        } else {
+            for (int r = 0; r < 4; r++) {
+                for (int c = 0; c < 4; c++) {
+                    locals[offset + r * 4 + c] = local.get(r, c);
+                }
+            }
+        }
+        dirty[node] = true;
+    }
+
+    /**
+     * Returns local matrix of the given node.
+     *
+     * @param node index of node
+     * @return new matrix with local transformation of node
+     *
+     * @since 3.1.0
+     */
+    public Matrix4 local(final int node) {
+        checkNode(node);
+
+        return AffineMat4.wrap(Arrays.copyOfRange(locals, node * 16, node * 16 + 16), null);
+    }
+
+    /**
+     * Returns world matrix of the given node calculated by the last update.
+     *
+     * @param node index of node
+     * @return new matrix with world transformation of node
+     *
+     * @since 3.1.0
+     */
+    public Matrix4 world(final int node) {
+        checkNode(node);
+
+        return AffineMat4.wrap(Arrays.copyOfRange(worlds, node * 16, node * 16 + 16), null);
+    }
+
+    /**
+     * Writes world matrix of the given node calculated by the last update into
+     * {@code dest}.
+     *
+     * @param node index of node
+     * @param dest matrix for result
+     * @return matrix {@code dest}
+     *
+     * @since 3.1.0
+     */
+    public Matrix4 world(final int node, final Matrix4 dest) {
+        checkNode(node);
+
+        final int offset = node * 16;
+        if (dest instanceof AffineMat4 a) {
+            System.arraycopy(worlds, offset, a.data(), 0, 16);
+            a.declareKind(null);
+            return dest;
+        }
+        for (int r = 0; r < 4; r++) {
+            for (int c = 0; c < 4; c++) {
+                dest.set(r, c, worlds[offset + r * 4 + c]);
+            }
+        }
+
+        return dest;
+    }
+
+    /**
+     * Returns {@code true} if the world matrix of the given node is outdated.
+     *
+     * @param node index of node
+     * @return {@code true} if local matrix of node or any of its ancestors was
+     *         changed since the last update
+     *
+     * @since 3.1.0
+     */
+    public boolean isDirty(final int node) {
+        checkNode(node);
+
+        for (int n = node; n != ROOT; n = parents[n]) {
+            if (dirty[n]) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Recalculates world matrices of changed nodes and their descendants.
+     *
+     * @return amount of recalculated nodes
+     *
+     * @since 3.1.0
+     */
+    public int update() {
+        int count = 0;
+        for (int node = 0; node < size; node++) {
+            if (updateNode(node)) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Recalculates world matrices of changed nodes and their descendants,
+     * processing nodes of the same depth in parallel in the given pool.
+     * <p>
+     * Nodes of one depth never depend on each other, so each depth level is
+     * one parallel step. Small levels are processed sequentially.
+     *
+     * @param pool pool for parallel execution
+     * @return amount of recalculated nodes
+     *
+     * @since 3.1.0
+     */
+    public int update(final ForkJoinPool pool) {
+        if (levelStarts == null) {
+            buildLevels();
+        }
+
+        int count = 0;
+        for (int level = 0; level + 1 < levelStarts.length; level++) {
+            final int start = levelStarts[level];
+            final int end = levelStarts[level + 1];
+            if (end - start < MIN_PARALLEL_LEVEL) {
+                for (int i = start; i < end; i++) {
+                    if (updateNode(levelNodes[i])) {
+                        count++;
+                    }
+                }
+            } else {
+                count += pool.submit(() -> (int) IntStream.range(start, end)
+                        .parallel()
+                        .filter(i -> updateNode(levelNodes[i]))
+                        .count()).join();
+            }
+        }
+
+        return count;
+    }
+
+    private boolean updateNode(final int node) {
+        final int parent = parents[node];
+        final boolean recalculate = dirty[node] || parent != ROOT && changed[parent];
+        changed[node] = recalculate;
+        if (!recalculate) {
+            return false;
+        }
+
+        dirty[node] = false;
+        final int offset = node * 16;
+        if (parent == ROOT) {
+            System.arraycopy(locals, offset, worlds, offset, 16);
+        } else {
+            prod(worlds, parent * 16, locals, offset, worlds, offset);
+        }
+
+        return true;
+    }
+
+    /**
+     * Groups nodes by depth (counting sort), keeping topological order
+     * inside of every level.
+     */
+    private void buildLevels() {
+        final int[] depths = new int[size];
+        int maxDepth = -1;
+        for (int node = 0; node < size; node++) {
+            final int parent = parents[node];
+            depths[node] = parent == ROOT ? 0 : depths[parent] + 1;
+            maxDepth = Math.max(maxDepth, depths[node]);
+        }
+
+        final int[] starts = new int[maxDepth + 2];
+        for (int node = 0; node < size; node++) {
+            starts[depths[node] + 1]++;
+        }
+        for (int level = 1; level < starts.length; level++) {
+            starts[level] += starts[level - 1];
+        }
+
+        final int[] positions = Arrays.copyOf(starts, starts.length);
+        final int[] nodes = new int[size];
+        for (int node = 0; node < size; node++) {
+            nodes[positions[depths[node]]++] = node;
+        }
+
+        levelStarts = starts;
+        levelNodes = nodes;
+    }
+
+    private static void prod(final float[] a, final int aOffset, final float[] b, final int bOffset,
+            final float[] dest, final int destOffset) {
+        for (int r = 0; r < 4; r++) {
+            final int row = aOffset + r * 4;
+            final float a0 = a[row];
+            final float a1 = a[row + 1];
+            final float a2 = a[row + 2];
+            final float a3 = a[row + 3];
+            for (int c = 0; c < 4; c++) {
+                dest[destOffset + r * 4 + c] = a0 * b[bOffset + c]
+                        + a1 * b[bOffset + 4 + c]
+                        + a2 * b[bOffset + 8 + c]
+                        + a3 * b[bOffset + 12 + c];
+            }
+        }
+    }
+
+    private void checkNode(final int node) throws IllegalArgumentException {
+        if (node < 0 || node >= size) {
+            throw new IllegalArgumentException(String.format("Node %d does not exist", node));
+        }
+    }
+}
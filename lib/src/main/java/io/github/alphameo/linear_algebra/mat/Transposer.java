@@ -0,0 +1,112 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.BitSet;
+
+/**
+ * Transpose kernels for row-major arrays of matrix elements.
+ *
+ * @since 3.1.0
+ */
+class Transposer {
+
+    /**
+     * Size of the square tile which fits into L1 cache together with its
+     * mirrored tile.
+     */
+    static final int BLOCK = 32;
+
+    /**
+     * Transposes the given square row-major matrix in place, swapping mirrored
+     * tiles.
+     *
+     * @param data row-major elements of matrix
+     * @param size height and width of matrix
+     */
+    static void transposeSquare(final float[] data, final int size) {
+        for (int bi = 0; bi < size; bi += BLOCK) {
+            final int iEnd = Math.min(bi + BLOCK, size);
+            for (int bj = bi; bj < size; bj += BLOCK) {
+                final int jEnd = Math.min(bj + BLOCK, size);
+                for (int i = bi; i < iEnd; i++) {
+                    final int jStart = bi == bj ? i + 1 : bj;
+                    for (int j = jStart; j < jEnd; j++) {
+                        final float tmp = data[i * size + j];
+                        data[i * size + j] = data[j * size + i];
+                        data[j * size + i] = tmp;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes transposed {@code height}x{@code width} row-major matrix
+     * {@code src} into {@code dest} recursively splitting the larger dimension
+     * (cache-oblivious), so both arrays are walked in tiles.
+     *
+     * @param src    row-major elements of source matrix
+     * @param height height of source matrix
+     * @param width  width of source matrix
+     * @param dest   array for row-major elements of transposed matrix
+     */
+    static void transpose(final float[] src, final int height, final int width, final float[] dest) {
+        transpose(src, height, width, dest, 0, height, 0, width);
+    }
+
+    private static void transpose(final float[] src, final int height, final int width, final float[] dest,
+            final int r0, final int r1, final int c0, final int c1) {
+        final int rows = r1 - r0;
+        final int cols = c1 - c0;
+        if (rows <= BLOCK && cols <= BLOCK) {
+            for (int r = r0; r < r1; r++) {
+                for (int c = c0; c < c1; c++) {
+                    dest[c * height + r] = src[r * width + c];
+                }
+            }
+        } else if (rows >= cols) {
+            final int mid = r0 + rows / 2;
+            transpose(src, height, width, dest, r0, mid, c0, c1);
+            transpose(src, height, width, dest, mid, r1, c0, c1);
+        } else {
+            final int mid = c0 + cols / 2;
+            transpose(src, height, width, dest, r0, r1, c0, mid);
+            transpose(src, height, width, dest, r0, r1, mid, c1);
+        }
+    }
+
+    /**
+     * Transposes {@code height}x{@code width} row-major matrix in place by
+     * following the cycles of the permutation of positions. Only one bit per
+     * element is allocated to mark visited positions.
+     *
+     * @param data   row-major elements of matrix
+     * @param height height of matrix
+     * @param width  width of matrix
+     */
+    static void transposeInPlace(final float[] data, final int height, final int width) {
+        if (height == width) {
+            transposeSquare(data, height);
+            return;
+        }
+
+        final int last = height * width - 1;
+        final BitSet visited = new BitSet(last + 1);
+        for (int start = 1; start < last; start++) {
+            if (visited.get(start)) {
+                continue;
+            }
+
+            // element at position i of the source goes to position i * height mod last
+            int pos = start;
+            float value = data[start];
+            do {
+                final int next = (int) ((long) pos * height % last);
+                final float tmp = data[next];
+                data[next] = value;
+                value = tmp;
+                visited.set(pos);
+                pos = next;
+            } while (pos != start);
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * Implementation of square upper or lower triangular matrix ({@link Matrix}),
+ * which stores only its triangle packed row by row
+ * ({@code n * (n + 1) / 2} elements). Elements outside of the triangle are 0
+ * and cannot be changed. Matrix with unit diagonal has all diagonal elements
+ * equal 1.
+ * <p>
+ * {@link MatrixMath#prodCol(Matrix, Vector)},
+ * {@link MatrixMath#prodRow(Matrix, Vector)} and
+ * {@link MatrixMath#prod(Matrix, Matrix)} multiply only stored elements, and
+ * {@link MatrixMath#solve(Matrix, Vector)} and
+ * {@link MatrixMath#solve(Matrix, Matrix)} use forward or back substitution
+ * in {@code O(n^2)} per right-hand side.
+ *
+ * @since 3.1.0
+ */
+public class TriangularMat implements Matrix {
+
+    private final int size;
+    private final boolean unitDiagonal;
+    private boolean upper;
+    private float[] packed;
+
+    /**
+     * Constructs new triangular matrix {@code size} x {@code size} with all 0
+     * (except 1 on diagonal, if it is unit).
+     *
+     * @param size         height and width of matrix
+     * @param upper        {@code true} for upper triangular matrix and
+     *                     {@code false} for lower triangular one
+     * @param unitDiagonal {@code true} if all diagonal elements equal 1
+     * @throws IllegalArgumentException if size is negative
+     *
+     * @since 3.1.0
+     */
+    public TriangularMat(final int size, final boolean upper, final boolean unitDiagonal)
+            throws IllegalArgumentException {
+        if (size < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Matrix creation denied: size %d is negative", size));
+        }
+
+        this.size = size;
+        this.upper = upper;
+        this.unitDiagonal = unitDiagonal;
+        this.packed = new float[size * (size + 1) / 2];
+    }
+
+    /**
+     * Constructs new triangular matrix from triangle of the given square
+     * matrix. Elements outside of triangle (and diagonal elements for unit
+     * diagonal) are ignored.
+     *
+     * @param m            square matrix, which triangle is copied
+     * @param upper        {@code true} for upper triangular matrix and
+     *                     {@code false} for lower triangular one
+     * @param unitDiagonal {@code true} if all diagonal elements equal 1
+     * @throws IllegalArgumentException if matrix is not square
+     *
+     * @since 3.1.0
+     */
+    public TriangularMat(final Matrix m, final boolean upper, final boolean unitDiagonal)
+            throws IllegalArgumentException {
+        this(m.height(), upper, unitDiagonal);
+        if (!MatrixMath.square(m)) {
+            throw new IllegalArgumentException(String.format(
+                    "Matrix creation denied: matrix with size %dx%d is not square", m.height(), m.width()));
+        }
+
+        for (int r = 0; r < size; r++) {
+            for (int c = from(r); c <= to(r); c++) {
+                packed[index(r, c)] = m.get(r, c);
+            }
+        }
+    }
+
+    /**
+     * Returns {@code true} if this matrix is upper triangular.
+     *
+     * @return {@code true} for upper triangular matrix and {@code false} for
+     *         lower triangular one
+     *
+     * @since 3.1.0
+     */
+    public boolean upper() {
+        return upper;
+    }
+
+    /**
+     * Returns {@code true} if all diagonal elements of this matrix equal 1.
+     *
+     * @return {@code true} if diagonal is unit
+     *
+     * @since 3.1.0
+     */
+    public boolean unitDiagonal() {
+        return unitDiagonal;
+    }
+
+    @Override
+    public float get(final int r, final int c) {
+        Objects.checkIndex(r, size);
+        Objects.checkIndex(c, size);
+        if (r == c && unitDiagonal) {
+            return 1;
+        }
+
+        return inTriangle(r, c) ? packed[index(r, c)] : 0;
+    }
+
+    /**
+     * Sets value into the given position.
+     *
+     * @throws UnsupportedOperationException if position is outside of triangle
+     *                                       and value is not 0, or position is
+     *                                       on unit diagonal and value is not 1
+     */
+    @Override
+    public void set(final int r, final int c, final float value) throws UnsupportedOperationException {
+        Objects.checkIndex(r, size);
+        Objects.checkIndex(c, size);
+        if (r == c && unitDiagonal) {
+            if (value != 1) {
+                throw new UnsupportedOperationException(
+                        String.format("Setting denied: element (%d, %d) is on unit diagonal", r, c));
+            }
+        } else if (inTriangle(r, c)) {
+            packed[index(r, c)] = value;
+        } else if (value != 0) {
+            throw new UnsupportedOperationException(
+                    String.format("Setting denied: element (%d, %d) is outside of triangle", r, c));
+        }
+    }
+
+    @Override
+    public int width() {
+        return size;
+    }
+
+    @Override
+    public int height() {
+        return size;
+    }
+
+    /**
+     * Transposes this matrix in place: upper triangular matrix becomes lower
+     * triangular one and vice versa.
+     *
+     * @return transposed matrix {@code this}
+     */
+    @Override
+    public Matrix transpose() {
+        final TriangularMat result = new TriangularMat(size, !upper, unitDiagonal);
+        for (int r = 0; r < size; r++) {
+            for (int c = from(r); c <= to(r); c++) {
+                result.packed[result.index(c, r)] = packed[index(r, c)];
+            }
+        }
+        packed = result.packed;
+        upper = result.upper;
+
+        return this;
+    }
+
+    @Override
+    public Matrix clone() {
+        final TriangularMat result = new TriangularMat(size, upper, unitDiagonal);
+        System.arraycopy(packed, 0, result.packed, 0, packed.length);
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return MatrixStringer.matrixToString(this);
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + size;
+        result = prime * result + (upper ? 1231 : 1237);
+        result = prime * result + (unitDiagonal ? 1231 : 1237);
+        result = prime * result + Arrays.hashCode(packed);
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final TriangularMat other = (TriangularMat) obj;
+        return size == other.size && MatrixMath.equals(this, other);
+    }
+
+    /**
+     * Calculates {@code y = this * x}.
+     *
+     * @param x components of vector-column
+     * @param y array for result
+     */
+    void prodCol(final float[] x, final float[] y) {
+        for (int r = 0; r < size; r++) {
+            final int offset = index(r, 0);
+            float value = unitDiagonal ? x[r] : 0;
+            for (int c = from(r); c <= to(r); c++) {
+                if (c != r || !unitDiagonal) {
+                    value += packed[offset + c] * x[c];
+                }
+            }
+            y[r] = value;
+        }
+    }
+
+    /**
+     * Calculates {@code y = x * this}.
+     *
+     * @param x components of vector-row
+     * @param y array for result (overwritten)
+     */
+    void prodRow(final float[] x, final float[] y) {
+        for (int c = 0; c < size; c++) {
+            y[c] = unitDiagonal ? x[c] : 0;
+        }
+        for (int r = 0; r < size; r++) {
+            final int offset = index(r, 0);
+            final float value = x[r];
+            for (int c = from(r); c <= to(r); c++) {
+                if (c != r || !unitDiagonal) {
+                    y[c] += packed[offset + c] * value;
+                }
+            }
+        }
+    }
+
+    /**
+     * Calculates {@code y = this * b}.
+     *
+     * @param b     row-major elements of right matrix with height {@code size}
+     * @param width width of right matrix
+     * @param y     array for row-major result (overwritten)
+     */
+    void prod(final float[] b, final int width, final float[] y) {
+        for (int r = 0; r < size; r++) {
+            final int offset = index(r, 0);
+            for (int j = 0; j < width; j++) {
+                y[r * width + j] = unitDiagonal ? b[r * width + j] : 0;
+            }
+            for (int c = from(r); c <= to(r); c++) {
+                if (c == r && unitDiagonal) {
+                    continue;
+                }
+                final float a = packed[offset + c];
+                for (int j = 0; j < width; j++) {
+                    y[r * width + j] += a * b[c * width + j];
+                }
+            }
+        }
+    }
+
+    /**
+     * Solves {@code this * X = B} for {@code width} right-hand sides by
+     * forward (lower) or back (upper) substitution.
+     *
+     * @param b     row-major right-hand sides, which are replaced with
+     *              solution
+     * @param width amount of right-hand sides
+     * @throws RuntimeException if matrix is singular
+     */
+    void solveAsgn(final float[] b, final int width) throws RuntimeException {
+        for (int i = 0; i < size; i++) {
+            final int r = upper ? size - 1 - i : i;
+            final int offset = index(r, 0);
+            for (int c = from(r); c <= to(r); c++) {
+                if (c == r) {
+                    continue;
+                }
+                final float factor = packed[offset + c];
+                for (int j = 0; j < width; j++) {
+                    b[r * width + j] -= factor * b[c * width + j];
+                }
+            }
+            if (!unitDiagonal) {
+                final float diag = packed[offset + r];
+                if (diag == 0) {
+                    throw new RuntimeException("Solution does not exist: matrix is singular");
+                }
+                for (int j = 0; j < width; j++) {
+                    b[r * width + j] /= diag;
+                }
+            }
+        }
+    }
+
+    private boolean inTriangle(final int r, final int c) {
+        return upper ? c >= r : c <= r;
+    }
+
+    private int from(final int r) {
+        return upper ? r : 0;
+    }
+
+    private int to(final int r) {
+        return upper ? size - 1 : r;
+    }
+
+    private int index(final int r, final int c) {
+        return upper ? r * size - r * (r - 1) / 2 + c - r : r * (r + 1) / 2 + c;
+    }
+}
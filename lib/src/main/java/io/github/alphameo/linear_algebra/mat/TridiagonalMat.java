@@ -0,0 +1,232 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import io.github.alphameo.linear_algebra.Validator;
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * Implementation of square tridiagonal matrix ({@link Matrix}), which stores
+ * only main diagonal and two adjacent ones, so it takes {@code O(n)} memory.
+ * Elements outside of them are 0 and cannot be changed.
+ * <p>
+ * {@link MatrixMath#solve(Matrix, Vector)} solves systems with this matrix in
+ * {@code O(n)} by Thomas algorithm (Gaussian elimination without pivoting),
+ * which is stable for diagonally dominant or symmetric positive-definite
+ * matrices. If pivot approximately equal 0 occurs, the system is solved by
+ * banded LU decomposition with partial pivoting instead, also in
+ * {@code O(n)}. {@link MatrixMath#prodCol(Matrix, Vector)} multiplies in
+ * {@code O(n)}.
+ *
+ * @since 3.1.0
+ */
+public class TridiagonalMat implements Matrix {
+
+    private float[] lower;
+    private final float[] diag;
+    private float[] upper;
+
+    /**
+     * Constructs new tridiagonal matrix {@code size} x {@code size} with all 0.
+     *
+     * @param size height and width of matrix
+     * @throws IllegalArgumentException if size is negative
+     *
+     * @since 3.1.0
+     */
+    public TridiagonalMat(final int size) throws IllegalArgumentException {
+        if (size < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Matrix creation denied: size %d is negative", size));
+        }
+
+        this.lower = new float[Math.max(0, size - 1)];
+        this.diag = new float[size];
+        this.upper = new float[Math.max(0, size - 1)];
+    }
+
+    /**
+     * Constructs new tridiagonal matrix from copies of the given diagonals.
+     *
+     * @param lower diagonal under main one ({@code size - 1} elements)
+     * @param diag  main diagonal ({@code size} elements)
+     * @param upper diagonal over main one ({@code size - 1} elements)
+     * @throws IllegalArgumentException if lengths of diagonals do not match
+     *
+     * @since 3.1.0
+     */
+    public TridiagonalMat(final float[] lower, final float[] diag, final float[] upper)
+            throws IllegalArgumentException {
+        final int offDiag = Math.max(0, diag.length - 1);
+        if (lower.length != offDiag || upper.length != offDiag) {
+            throw new IllegalArgumentException(String.format(
+                    "Matrix creation denied: diagonals with lengths %d, %d and %d",
+                    lower.length, diag.length, upper.length));
+        }
+
+        this.lower = lower.clone();
+        this.diag = diag.clone();
+        this.upper = upper.clone();
+    }
+
+    @Override
+    public float get(final int r, final int c) {
+        Objects.checkIndex(r, diag.length);
+        Objects.checkIndex(c, diag.length);
+        if (r == c) {
+            return diag[r];
+        }
+        if (r == c + 1) {
+            return lower[c];
+        }
+        if (c == r + 1) {
+            return upper[r];
+        }
+
+        return 0;
+    }
+
+    /**
+     * Sets value into the given position.
+     *
+     * @throws UnsupportedOperationException if position is outside of three
+     *                                       diagonals and value is not 0
+     */
+    @Override
+    public void set(final int r, final int c, final float value) throws UnsupportedOperationException {
+        Objects.checkIndex(r, diag.length);
+        Objects.checkIndex(c, diag.length);
+        if (r == c) {
+            diag[r] = value;
+        } else if (r == c + 1) {
+            lower[c] = value;
+        } else if (c == r + 1) {
+            upper[r] = value;
+        } else if (value != 0) {
+            throw new UnsupportedOperationException(
+                    String.format("Setting denied: element (%d, %d) is outside of tridiagonal band", r, c));
+        }
+    }
+
+    @Override
+    public int width() {
+        return diag.length;
+    }
+
+    @Override
+    public int height() {
+        return diag.length;
+    }
+
+    @Override
+    public Matrix transpose() {
+        final float[] tmp = lower;
+        lower = upper;
+        upper = tmp;
+
+        return this;
+    }
+
+    @Override
+    public Matrix clone() {
+        return new TridiagonalMat(lower, diag, upper);
+    }
+
+    @Override
+    public String toString() {
+        return MatrixStringer.matrixToString(this);
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + Arrays.hashCode(lower);
+        result = prime * result + Arrays.hashCode(diag);
+        result = prime * result + Arrays.hashCode(upper);
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final TridiagonalMat other = (TridiagonalMat) obj;
+        return diag.length == other.diag.length && MatrixMath.equals(this, other);
+    }
+
+    /**
+     * Calculates {@code y = this * x}.
+     *
+     * @param x components of vector-column
+     * @param y array for result
+     */
+    void prodCol(final float[] x, final float[] y) {
+        final int n = diag.length;
+        for (int i = 0; i < n; i++) {
+            float value = diag[i] * x[i];
+            if (i > 0) {
+                value += lower[i - 1] * x[i - 1];
+            }
+            if (i < n - 1) {
+                value += upper[i] * x[i + 1];
+            }
+            y[i] = value;
+        }
+    }
+
+    /**
+     * Solves {@code this * x = b} by Thomas algorithm, falling back to banded
+     * LU decomposition with partial pivoting if pivot is approximately 0.
+     *
+     * @param b right-hand side, which is replaced with solution
+     * @throws RuntimeException if matrix is singular
+     */
+    void solveAsgn(final float[] b) throws RuntimeException {
+        final int n = diag.length;
+        final float[] rhs = b.clone();
+        final float[] c = new float[n];
+        for (int i = 0; i < n; i++) {
+            float pivot = diag[i];
+            if (i > 0) {
+                pivot -= lower[i - 1] * c[i - 1];
+                b[i] -= lower[i - 1] * b[i - 1];
+            }
+            if (Validator.equals(pivot, 0)) {
+                System.arraycopy(rhs, 0, b, 0, n);
+                banded().solveAsgn(b);
+                return;
+            }
+            if (i < n - 1) {
+                c[i] = upper[i] / pivot;
+            }
+            b[i] /= pivot;
+        }
+
+        for (int i = n - 2; i >= 0; i--) {
+            b[i] -= c[i] * b[i + 1];
+        }
+    }
+
+    private BandedMat banded() {
+        final int n = diag.length;
+        final BandedMat result = new BandedMat(n, 1, 1);
+        for (int i = 0; i < n; i++) {
+            result.set(i, i, diag[i]);
+            if (i > 0) {
+                result.set(i, i - 1, lower[i - 1]);
+                result.set(i - 1, i, upper[i - 1]);
+            }
+        }
+
+        return result;
+    }
+}
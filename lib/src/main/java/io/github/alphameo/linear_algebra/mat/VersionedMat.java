@@ -0,0 +1,261 @@
+package io.github.alphameo.linear_algebra.mat;
+
+/**
+ * Matrix wrapper ({@link Matrix}), which counts modifications and memoizes
+ * derived quantities (determinant, invertible and triangulated matrices,
+ * norms) until the next modification.
+ * <p>
+ * Every {@link #set(int, int, float)} (and therefore every Asgn-operation of
+ * {@link MatrixMath}) and {@link #transpose()} increments the version. The
+ * wrapped matrix must be modified only through the wrapper, or
+ * {@link #invalidate()} must be called after direct modification.
+ * <p>
+ * Instances are not thread-safe.
+ *
+ * @since 3.1.0
+ */
+public class VersionedMat implements Matrix {
+
+    private final Matrix matrix;
+    private long version;
+
+    private long detVersion = -1;
+    private float det;
+    private long invVersion = -1;
+    private Matrix inv;
+    private long triangulatedVersion = -1;
+    private Matrix triangulated;
+    private long normFrobeniusVersion = -1;
+    private float normFrobenius;
+    private long norm1Version = -1;
+    private float norm1;
+    private long normInfVersion = -1;
+    private float normInf;
+
+    /**
+     * Wraps the given matrix.
+     *
+     * @param m matrix for wrapping (not copied)
+     *
+     * @since 3.1.0
+     */
+    public VersionedMat(final Matrix m) {
+        this.matrix = m;
+    }
+
+    /**
+     * Constructs new wrapped {@code height} x {@code width} matrix with all 0.
+     *
+     * @param height height of matrix for construction
+     * @param width  width of matrix for construction
+     *
+     * @since 3.1.0
+     */
+    public VersionedMat(final int height, final int width) {
+        this(new Mat(height, width));
+    }
+
+    /**
+     * Returns the amount of modifications of this matrix.
+     *
+     * @return current version of matrix
+     *
+     * @since 3.1.0
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Discards memoized values after direct modification of the wrapped matrix.
+     *
+     * @since 3.1.0
+     */
+    public void invalidate() {
+        version++;
+    }
+
+    /**
+     * Returns the wrapped matrix.
+     *
+     * @return wrapped matrix
+     *
+     * @since 3.1.0
+     */
+    public Matrix unwrap() {
+        return matrix;
+    }
+
+    @Override
+    public float get(final int r, final int c) {
+        return matrix.get(r, c);
+    }
+
+    @Override
+    public void set(final int r, final int c, final float value) {
+        matrix.set(r, c, value);
+        version++;
+    }
+
+    @Override
+    public int width() {
+        return matrix.width();
+    }
+
+    @Override
+    public int height() {
+        return matrix.height();
+    }
+
+    @Override
+    public Matrix transpose() throws IllegalArgumentException {
+        matrix.transpose();
+        version++;
+
+        return this;
+    }
+
+    /**
+     * Returns determinant of this matrix, calculated once per version.
+     *
+     * @return determinant of this matrix
+     * @throws UnsupportedOperationException if matrix is not square
+     *
+     * @since 3.1.0
+     */
+    @Override
+    public float det() throws UnsupportedOperationException {
+        if (detVersion != version) {
+            if (!MatrixMath.square(matrix)) {
+                throw new UnsupportedOperationException("Determinant does not exists: matrix is not square");
+            }
+            final Matrix table = triangulatedTable();
+            float determinant = 1;
+            for (int i = 0; i < table.width(); i++) {
+                determinant *= table.get(i, i);
+            }
+            det = determinant;
+            detVersion = version;
+        }
+
+        return det;
+    }
+
+    /**
+     * Returns invertible matrix of this matrix, calculated once per version.
+     *
+     * @return new invertible matrix (copy of memoized one)
+     * @throws UnsupportedOperationException if matrix is not square
+     * @throws RuntimeException              if matrix determinant equals to 0
+     *
+     * @since 3.1.0
+     */
+    @Override
+    public Matrix inv() throws UnsupportedOperationException, RuntimeException {
+        if (invVersion != version) {
+            inv = MatrixMath.inv(matrix);
+            invVersion = version;
+        }
+
+        return inv.clone();
+    }
+
+    /**
+     * Returns triangulated copy of this matrix, calculated once per version.
+     *
+     * @return new triangulated matrix (copy of memoized one)
+     *
+     * @since 3.1.0
+     */
+    @Override
+    public Matrix triangulated() {
+        return triangulatedTable().clone();
+    }
+
+    /**
+     * Returns Frobenius norm of this matrix, calculated once per version.
+     *
+     * @return Frobenius norm of this matrix
+     *
+     * @since 3.1.0
+     */
+    public float normFrobenius() {
+        if (normFrobeniusVersion != version) {
+            normFrobenius = MatrixMath.normFrobenius(matrix);
+            normFrobeniusVersion = version;
+        }
+
+        return normFrobenius;
+    }
+
+    /**
+     * Returns 1-norm of this matrix, calculated once per version.
+     *
+     * @return 1-norm of this matrix
+     *
+     * @since 3.1.0
+     */
+    public float norm1() {
+        if (norm1Version != version) {
+            norm1 = MatrixMath.norm1(matrix);
+            norm1Version = version;
+        }
+
+        return norm1;
+    }
+
+    /**
+     * Returns infinity norm of this matrix, calculated once per version.
+     *
+     * @return infinity norm of this matrix
+     *
+     * @since 3.1.0
+     */
+    public float normInf() {
+        if (normInfVersion != version) {
+            normInf = MatrixMath.normInf(matrix);
+            normInfVersion = version;
+        }
+
+        return normInf;
+    }
+
+    private Matrix triangulatedTable() {
+        if (triangulatedVersion != version) {
+            triangulated = MatrixMath.triangulated(matrix);
+            triangulatedVersion = version;
+        }
+
+        return triangulated;
+    }
+
+    @Override
+    public Matrix clone() {
+        return new VersionedMat(matrix.clone());
+    }
+
+    @Override
+    public String toString() {
+        return MatrixStringer.matrixToString(this);
+    }
+
+    @Override
+    public int hashCode() {
+        return matrix.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final VersionedMat other = (VersionedMat) obj;
+        return MatrixMath.equals(this, other);
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.alphameo.linear_algebra.vec;
+
+import java.util.Arrays;
+
+import io.github.alphameo.linear_algebra.HalfFormat;
+
+/**
+ * Implementation of arbitrary-dimensional vector ({@link Vector}), which
+ * stores components as 16-bit values of the given {@link HalfFormat}, so it
+ * takes half of memory of {@link Vec}. Components are rounded on {@link #set}
+ * and widened to {@code float} on {@link #get}.
+ *
+ * @since 3.1.0
+ */
+public class HalfVec implements Vector {
+
+    private final HalfFormat format;
+    private final short[] entries;
+
+    /**
+     * Constructs new {@code size}-dimensional vector with all 0.
+     *
+     * @param size   size of vector for construction
+     * @param format format of stored components
+     *
+     * @since 3.1.0
+     */
+    public HalfVec(final int size, final HalfFormat format) {
+        this.format = format;
+        this.entries = new short[size];
+    }
+
+    /**
+     * Copies the given vector values (rounded to the given format) into new
+     * vector.
+     *
+     * @param v      vector for copying
+     * @param format format of stored components
+     *
+     * @since 3.1.0
+     */
+    public HalfVec(final Vector v, final HalfFormat format) {
+        this(v.size(), format);
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = format.encode(v.get(i));
+        }
+    }
+
+    /**
+     * Returns format of stored components.
+     *
+     * @return format of components
+     *
+     * @since 3.1.0
+     */
+    public HalfFormat format() {
+        return format;
+    }
+
+    @Override
+    public float get(final int i) {
+        return format.decode(entries[i]);
+    }
+
+    @Override
+    public void set(final int i, final float value) {
+        entries[i] = format.encode(value);
+    }
+
+    @Override
+    public int size() {
+        return entries.length;
+    }
+
+    @Override
+    public Vector clone() {
+        final HalfVec result = new HalfVec(entries.length, format);
+        System.arraycopy(entries, 0, result.entries, 0, entries.length);
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        final float[] values = new float[entries.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = format.decode(entries[i]);
+        }
+
+        return String.format("%s", Arrays.toString(values));
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + format.hashCode();
+        result = prime * result + Arrays.hashCode(entries);
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final HalfVec other = (HalfVec) obj;
+        return entries.length == other.entries.length && VectorMath.equals(this, other);
+    }
+}
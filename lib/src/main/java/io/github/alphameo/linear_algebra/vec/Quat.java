@@ -0,0 +1,146 @@
+package io.github.alphameo.linear_algebra.vec;
+
+import java.util.Arrays;
+
+/**
+ * Default implementation of quaternion ({@link Quaternion}).
+ *
+ * @since 3.1.0
+ */
+public class Quat implements Quaternion {
+
+    private final float[] entries;
+
+    /**
+     * Constructs new identity quaternion (0, 0, 0, 1).
+     *
+     * @since 3.1.0
+     */
+    public Quat() {
+        entries = new float[4];
+        entries[3] = 1;
+    }
+
+    /**
+     * Constructs new quaternion using values {@code x}, {@code y}, {@code z} and
+     * {@code w}.
+     *
+     * @param x x component (coefficient of i)
+     * @param y y component (coefficient of j)
+     * @param z z component (coefficient of k)
+     * @param w w component (scalar part)
+     *
+     * @since 3.1.0
+     */
+    public Quat(final float x, final float y, final float z, final float w) {
+        entries = new float[] { x, y, z, w };
+    }
+
+    /**
+     * Copies values of the given quaternion into the new quaternion.
+     *
+     * @param q quaternion for copying
+     *
+     * @since 3.1.0
+     */
+    public Quat(final Quaternion q) {
+        this(q.x(), q.y(), q.z(), q.w());
+    }
+
+    @Override
+    public float x() {
+        return entries[0];
+    }
+
+    @Override
+    public float y() {
+        return entries[1];
+    }
+
+    @Override
+    public float z() {
+        return entries[2];
+    }
+
+    @Override
+    public float w() {
+        return entries[3];
+    }
+
+    @Override
+    public void setX(final float value) {
+        entries[0] = value;
+    }
+
+    @Override
+    public void setY(final float value) {
+        entries[1] = value;
+    }
+
+    @Override
+    public void setZ(final float value) {
+        entries[2] = value;
+    }
+
+    @Override
+    public void setW(final float value) {
+        entries[3] = value;
+    }
+
+    @Override
+    public Quaternion clone() {
+        return new Quat(x(), y(), z(), w());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[%f, %f, %f, %f]", x(), y(), z(), w());
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + Arrays.hashCode(entries);
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        return QuaternionMath.equals(this, (Quaternion) obj);
+    }
+
+    /**
+     * Constructs identity quaternion (no rotation).
+     *
+     * @return new quaternion (0, 0, 0, 1)
+     *
+     * @since 3.1.0
+     */
+    public static Quaternion identity() {
+        return QuaternionMath.identity();
+    }
+
+    /**
+     * Constructs quaternion of rotation around the given axis.
+     *
+     * @param axis  axis of rotation (must not be zero vector)
+     * @param angle angle of rotation in radians (counterclockwise)
+     * @return new unit quaternion with the given rotation
+     * @throws ArithmeticException if length of the axis is approximately equal 0
+     *
+     * @since 3.1.0
+     */
+    public static Quaternion fromAxisAngle(final Vector3 axis, final float angle) throws ArithmeticException {
+        return QuaternionMath.fromAxisAngle(axis, angle);
+    }
+}
@@ -0,0 +1,282 @@
+package io.github.alphameo.linear_algebra.vec;
+
+import io.github.alphameo.linear_algebra.mat.Matrix3;
+import io.github.alphameo.linear_algebra.mat.Matrix4;
+
+/**
+ * Interface for quaternion {@code w + xi + yj + zk}, mostly used as rotation
+ * in 3-dimensional space.
+ *
+ * @since 3.1.0
+ */
+public interface Quaternion extends Cloneable {
+
+    /**
+     * Returns x component (coefficient of i) of quaternion.
+     *
+     * @return x component of quaternion
+     *
+     * @since 3.1.0
+     */
+    float x();
+
+    /**
+     * Returns y component (coefficient of j) of quaternion.
+     *
+     * @return y component of quaternion
+     *
+     * @since 3.1.0
+     */
+    float y();
+
+    /**
+     * Returns z component (coefficient of k) of quaternion.
+     *
+     * @return z component of quaternion
+     *
+     * @since 3.1.0
+     */
+    float z();
+
+    /**
+     * Returns w component (scalar part) of quaternion.
+     *
+     * @return w component of quaternion
+     *
+     * @since 3.1.0
+     */
+    float w();
+
+    /**
+     * Sets value of x component (coefficient of i) inside quaternion.
+     *
+     * @param value component value to be set
+     *
+     * @since 3.1.0
+     */
+    void setX(float value);
+
+    /**
+     * Sets value of y component (coefficient of j) inside quaternion.
+     *
+     * @param value component value to be set
+     *
+     * @since 3.1.0
+     */
+    void setY(float value);
+
+    /**
+     * Sets value of z component (coefficient of k) inside quaternion.
+     *
+     * @param value component value to be set
+     *
+     * @since 3.1.0
+     */
+    void setZ(float value);
+
+    /**
+     * Sets value of w component (scalar part) inside quaternion.
+     *
+     * @param value component value to be set
+     *
+     * @since 3.1.0
+     */
+    void setW(float value);
+
+    /**
+     * Creates and returns a copy of this quaternion.
+     *
+     * @return copy of quaternion {@code this}
+     *
+     * @since 3.1.0
+     */
+    Quaternion clone();
+
+    /**
+     * Returns length (or norm) of this quaternion.
+     *
+     * @return length of quaternion {@code this}
+     *
+     * @since 3.1.0
+     */
+    default float len() {
+        return QuaternionMath.len(this);
+    }
+
+    /**
+     * Normalizes this quaternion and returns it.
+     *
+     * @return quaternion {@code this} with unit length
+     * @throws ArithmeticException if length of quaternion is approximately equal
+     *                             0
+     *
+     * @since 3.1.0
+     */
+    default Quaternion normalize() throws ArithmeticException {
+        return QuaternionMath.normalize(this);
+    }
+
+    /**
+     * Returns the result of normalization of this quaternion.
+     *
+     * @return new quaternion with unit length
+     * @throws ArithmeticException if length of quaternion is approximately equal
+     *                             0
+     *
+     * @since 3.1.0
+     */
+    default Quaternion normalized() throws ArithmeticException {
+        return QuaternionMath.normalized(this);
+    }
+
+    /**
+     * Conjugates this quaternion and returns it.
+     *
+     * @return conjugated quaternion {@code this}
+     *
+     * @since 3.1.0
+     */
+    default Quaternion conjugate() {
+        return QuaternionMath.conjugate(this);
+    }
+
+    /**
+     * Returns the result of conjugation of this quaternion.
+     *
+     * @return new conjugated quaternion {@code this}
+     *
+     * @since 3.1.0
+     */
+    default Quaternion conjugated() {
+        return QuaternionMath.conjugated(this);
+    }
+
+    /**
+     * Multiplies this quaternion by the given one from the right and returns it.
+     *
+     * @param q right quaternion for product
+     * @return quaternion {@code this} multiplied by quaternion {@code q}
+     *
+     * @since 3.1.0
+     */
+    default Quaternion prodAsgn(final Quaternion q) {
+        return QuaternionMath.prodAsgn(this, q);
+    }
+
+    /**
+     * Returns the product of this quaternion and the given one.
+     *
+     * @param q right quaternion for product
+     * @return new quaternion with product of {@code this} and {@code q}
+     *
+     * @since 3.1.0
+     */
+    default Quaternion prod(final Quaternion q) {
+        return QuaternionMath.prod(this, q);
+    }
+
+    /**
+     * Returns spherical linear interpolation between this unit quaternion and
+     * the given one.
+     *
+     * @param to end quaternion ({@code t} = 1)
+     * @param t  interpolation parameter
+     * @return new quaternion with the interpolated rotation
+     *
+     * @since 3.1.0
+     */
+    default Quaternion slerp(final Quaternion to, final float t) {
+        return QuaternionMath.slerp(this, to, t);
+    }
+
+    /**
+     * Returns normalized linear interpolation between this unit quaternion and
+     * the given one.
+     *
+     * @param to end quaternion ({@code t} = 1)
+     * @param t  interpolation parameter
+     * @return new quaternion with the interpolated rotation
+     *
+     * @since 3.1.0
+     */
+    default Quaternion nlerp(final Quaternion to, final float t) {
+        return QuaternionMath.nlerp(this, to, t);
+    }
+
+    /**
+     * Rotates the given 3-dimensional vector by this unit quaternion and returns
+     * it.
+     *
+     * @param v vector to be rotated
+     * @return vector {@code v} rotated by quaternion {@code this}
+     *
+     * @since 3.1.0
+     */
+    default Vector3 rotate(final Vector3 v) {
+        return QuaternionMath.rotate(this, v);
+    }
+
+    /**
+     * Returns the result of rotation of the given 3-dimensional vector by this
+     * unit quaternion.
+     *
+     * @param v vector to be rotated
+     * @return new vector with result of rotation of vector {@code v}
+     *
+     * @since 3.1.0
+     */
+    default Vector3 rotated(final Vector3 v) {
+        return QuaternionMath.rotated(this, v);
+    }
+
+    /**
+     * Constructs rotation matrix of this unit quaternion.
+     *
+     * @return new 3x3 rotation matrix
+     *
+     * @since 3.1.0
+     */
+    default Matrix3 toMatrix3() {
+        return QuaternionMath.toMatrix3(this);
+    }
+
+    /**
+     * Constructs homogeneous rotation matrix of this unit quaternion.
+     *
+     * @return new 4x4 rotation matrix
+     *
+     * @since 3.1.0
+     */
+    default Matrix4 toMatrix4() {
+        return QuaternionMath.toMatrix4(this);
+    }
+
+    /**
+     * Returns {@code true} if the components of quaternions are equal within
+     * {@code epsilon} tolerance.
+     *
+     * @param q   second quaternion for comparison
+     * @param eps tolerance
+     * @return {@code true} if all components of quaternions are equal within
+     *         {@code eps} tolerance, and {@code false} otherwise
+     *
+     * @since 3.1.0
+     */
+    default boolean equalsEpsilon(final Quaternion q, final float eps) {
+        return QuaternionMath.equalsEpsilon(this, q, eps);
+    }
+
+    /**
+     * Returns {@code true} if the components of quaternions are approximately
+     * equal.
+     *
+     * @param q second quaternion for comparison
+     * @return {@code true} if all components of quaternions are approximately
+     *         equal, and {@code false} otherwise
+     *
+     * @since 3.1.0
+     */
+    default boolean equals(final Quaternion q) {
+        return QuaternionMath.equals(this, q);
+    }
+}
@@ -0,0 +1,674 @@
+package io.github.alphameo.linear_algebra.vec;
+
+import static io.github.alphameo.linear_algebra.mat.Matrix3Col.*;
+import static io.github.alphameo.linear_algebra.mat.Matrix3Row.*;
+
+import io.github.alphameo.linear_algebra.Validator;
+import io.github.alphameo.linear_algebra.mat.Mat3;
+import io.github.alphameo.linear_algebra.mat.Mat4;
+import io.github.alphameo.linear_algebra.mat.Matrix3;
+import io.github.alphameo.linear_algebra.mat.Matrix4;
+import io.github.alphameo.linear_algebra.mat.Matrix4Col;
+import io.github.alphameo.linear_algebra.mat.Matrix4Row;
+
+/**
+ * Class with static functions for quaternions.
+ * <p>
+ * Quaternion {@code (x, y, z, w)} represents {@code w + xi + yj + zk}. Rotation
+ * functions expect unit quaternions and use column vectors, the same as
+ * {@link io.github.alphameo.linear_algebra.mat.Matrix3Math#prodCol}.
+ *
+ * @since 3.1.0
+ */
+public final class QuaternionMath {
+
+    /**
+     * Default empty constructor
+     *
+     * @since 3.1.0
+     */
+    public QuaternionMath() {
+    }
+
+    /**
+     * Sets the given components into the given quaternion and returns it.
+     *
+     * @param q quaternion to be set
+     * @param x x component (i)
+     * @param y y component (j)
+     * @param z z component (k)
+     * @param w w component (scalar part)
+     * @return quaternion {@code q} with the given components
+     *
+     * @since 3.1.0
+     */
+    public static Quaternion set(final Quaternion q, final float x, final float y, final float z, final float w) {
+        q.setX(x);
+        q.setY(y);
+        q.setZ(z);
+        q.setW(w);
+
+        return q;
+    }
+
+    /**
+     * Returns the square of the length of the given quaternion.
+     *
+     * @param q quaternion for square length calculation
+     * @return squared length of quaternion {@code q}
+     *
+     * @since 3.1.0
+     */
+    public static float len2(final Quaternion q) {
+        return q.x() * q.x() + q.y() * q.y() + q.z() * q.z() + q.w() * q.w();
+    }
+
+    /**
+     * Returns length of the given quaternion.
+     *
+     * @param q quaternion for length calculation
+     * @return length of quaternion {@code q}
+     *
+     * @since 3.1.0
+     */
+    public static float len(final Quaternion q) {
+        return (float) Math.sqrt(len2(q));
+    }
+
+    /**
+     * Returns the result of dot product of the given quaternions.
+     *
+     * @param q1 first quaternion for dot product
+     * @param q2 second quaternion for dot product
+     * @return dot product of quaternion {@code q1} and quaternion {@code q2}
+     *
+     * @since 3.1.0
+     */
+    public static float dot(final Quaternion q1, final Quaternion q2) {
+        return q1.x() * q2.x() + q1.y() * q2.y() + q1.z() * q2.z() + q1.w() * q2.w();
+    }
+
+    /**
+     * Normalizes the given quaternion and returns it.
+     *
+     * @param q quaternion to be normalized
+     * @return quaternion {@code q} with unit length
+     * @throws ArithmeticException if length of the given quaternion is
+     *                             approximately equal 0
+     *
+     * @since 3.1.0
+     */
+    public static Quaternion normalize(final Quaternion q) throws ArithmeticException {
+        final float len = len(q);
+        Validator.validateDivisor(len);
+
+        return set(q, q.x() / len, q.y() / len, q.z() / len, q.w() / len);
+    }
+
+    /**
+     * Returns the result of normalization of the given quaternion.
+     *
+     * @param q quaternion to be normalized
+     * @return new quaternion with unit length
+     * @throws ArithmeticException if length of the given quaternion is
+     *                             approximately equal 0
+     *
+     * @since 3.1.0
+     */
+    public static Quaternion normalized(final Quaternion q) throws ArithmeticException {
+        return normalize(q.clone());
+    }
+
+    /**
+     * Conjugates the given quaternion and returns it.
+     * <p>
+     * For unit quaternions the conjugate is the inverse rotation.
+     *
+     * @param q quaternion to be conjugated
+     * @return conjugated quaternion {@code q}
+     *
+     * @since 3.1.0
+     */
+    public static Quaternion conjugate(final Quaternion q) {
+        return set(q, -q.x(), -q.y(), -q.z(), q.w());
+    }
+
+    /**
+     * Returns the result of conjugation of the given quaternion.
+     *
+     * @param q quaternion to be conjugated
+     * @return new conjugated quaternion {@code q}
+     *
+     * @since 3.1.0
+     */
+    public static Quaternion conjugated(final Quaternion q) {
+        return conjugate(q.clone());
+    }
+
+    /**
+     * Returns inverse quaternion of the given quaternion.
+     *
+     * @param q quaternion for inversion
+     * @return new quaternion, which is inverse to quaternion {@code q}
+     * @throws ArithmeticException if length of the given quaternion is
+     *                             approximately equal 0
+     *
+     * @since 3.1.0
+     */
+    public static Quaternion inv(final Quaternion q) throws ArithmeticException {
+        final float len2 = len2(q);
+        Validator.validateDivisor(len2);
+
+        return new Quat(-q.x() / len2, -q.y() / len2, -q.z() / len2, q.w() / len2);
+    }
+
+    /**
+     * Writes the Hamilton product of the given quaternions into the destination
+     * quaternion and returns it.
+     * <p>
+     * Destination may be one of operands. The resulting rotation is rotation
+     * {@code q2} followed by rotation {@code q1}.
+     *
+     * @param q1   left quaternion for product
+     * @param q2   right quaternion for product
+     * @param dest quaternion for result
+     * @return quaternion {@code dest} with product of {@code q1} and {@code q2}
+     *
+     * @since 3.1.0
+     */
+    public static Quaternion prod(final Quaternion q1, final Quaternion q2, final Quaternion dest) {
+        final float x1 = q1.x();
+        final float y1 = q1.y();
+        final float z1 = q1.z();
+        final float w1 = q1.w();
+        final float x2 = q2.x();
+        final float y2 = q2.y();
+        final float z2 = q2.z();
+        final float w2 = q2.w();
+
+        return set(dest,
+                w1 * x2 + x1 * w2 + y1 * z2 - z1 * y2,
+                w1 * y2 - x1 * z2 + y1 * w2 + z1 * x2,
+                w1 * z2 + x1 * y2 - y1 * x2 + z1 * w2,
+                w1 * w2 - x1 * x2 - y1 * y2 - z1 * z2);
+    }
+
+    /**
+     * Multiplies the target quaternion by the given one from the right and
+     * returns it.
+     *
+     * @param target left quaternion to be multiplied
+     * @param q      right quaternion for product
+     * @return quaternion {@code target} multiplied by quaternion {@code q}
+     *
+     * @since 3.1.0
+     */
+    public static Quaternion prodAsgn(final Quaternion target, final Quaternion q) {
+        return prod(target, q, target);
+    }
+
+    /**
+     * Returns the Hamilton product of the given quaternions.
+     *
+     * @param q1 left quaternion for product
+     * @param q2 right quaternion for product
+     * @return new quaternion with product of {@code q1} and {@code q2}
+     *
+     * @since 3.1.0
+     */
+    public static Quaternion prod(final Quaternion q1, final Quaternion q2) {
+        return prod(q1, q2, new Quat());
+    }
+
+    /**
+     * Writes normalized linear interpolation between the given unit quaternions
+     * into the destination quaternion and returns it.
+     * <p>
+     * The shortest arc is used. It is cheaper than
+     * {@link #slerp(Quaternion, Quaternion, float, Quaternion)}, but angular
+     * speed is not constant.
+     *
+     * @param from start quaternion ({@code t} = 0)
+     * @param to   end quaternion ({@code t} = 1)
+     * @param t    interpolation parameter
+     * @param dest quaternion for result (may be one of operands)
+     * @return quaternion {@code dest} with the interpolated rotation
+     *
+     * @since 3.1.0
+     */
+    public static Quaternion nlerp(final Quaternion from, final Quaternion to, final float t,
+            final Quaternion dest) {
+        final float k = dot(from, to) < 0 ? -t : t;
+        final float s = 1 - t;
+        final float x = s * from.x() + k * to.x();
+        final float y = s * from.y() + k * to.y();
+        final float z = s * from.z() + k * to.z();
+        final float w = s * from.w() + k * to.w();
+        final float invLen = (float) (1 / Math.sqrt(x * x + y * y + z * z + w * w));
+
+        return set(dest, x * invLen, y * invLen, z * invLen, w * invLen);
+    }
+
+    /**
+     * Returns normalized linear interpolation between the given unit
+     * quaternions.
+     *
+     * @param from start quaternion ({@code t} = 0)
+     * @param to   end quaternion ({@code t} = 1)
+     * @param t    interpolation parameter
+     * @return new quaternion with the interpolated rotation
+     *
+     * @since 3.1.0
+     */
+    public static Quaternion nlerp(final Quaternion from, final Quaternion to, final float t) {
+        return nlerp(from, to, t, new Quat());
+    }
+
+    /**
+     * Writes spherical linear interpolation between the given unit quaternions
+     * into the destination quaternion and returns it.
+     * <p>
+     * The shortest arc is used. For almost equal rotations the function falls
+     * back to {@link #nlerp(Quaternion, Quaternion, float, Quaternion)}.
+     *
+     * @param from start quaternion ({@code t} = 0)
+     * @param to   end quaternion ({@code t} = 1)
+     * @param t    interpolation parameter
+     * @param dest quaternion for result (may be one of operands)
+     * @return quaternion {@code dest} with the interpolated rotation
+     *
+     * @since 3.1.0
+     */
+    public static Quaternion slerp(final Quaternion from, final Quaternion to, final float t,
+            final Quaternion dest) {
+        float cos = dot(from, to);
+        float sign = 1;
+        if (cos < 0) {
+            cos = -cos;
+            sign = -1;
+        }
+        if (cos > 1 - Validator.EPS * 10) {
+            return nlerp(from, to, t, dest);
+        }
+
+        final double angle = Math.acos(cos);
+        final double invSin = 1 / Math.sin(angle);
+        final float s = (float) (Math.sin((1 - t) * angle) * invSin);
+        final float k = sign * (float) (Math.sin(t * angle) * invSin);
+
+        return set(dest,
+                s * from.x() + k * to.x(),
+                s * from.y() + k * to.y(),
+                s * from.z() + k * to.z(),
+                s * from.w() + k * to.w());
+    }
+
+    /**
+     * Returns spherical linear interpolation between the given unit quaternions.
+     *
+     * @param from start quaternion ({@code t} = 0)
+     * @param to   end quaternion ({@code t} = 1)
+     * @param t    interpolation parameter
+     * @return new quaternion with the interpolated rotation
+     *
+     * @since 3.1.0
+     */
+    public static Quaternion slerp(final Quaternion from, final Quaternion to, final float t) {
+        return slerp(from, to, t, new Quat());
+    }
+
+    /**
+     * Writes spherical linear interpolations between the corresponding unit
+     * quaternions of the given arrays into the destination array.
+     *
+     * @param from start quaternions ({@code t} = 0)
+     * @param to   end quaternions ({@code t} = 1)
+     * @param t    interpolation parameter
+     * @param dest quaternions for results (may be one of operand arrays)
+     * @throws IllegalArgumentException if arrays have different lengths
+     *
+     * @since 3.1.0
+     */
+    public static void slerpAll(final Quaternion[] from, final Quaternion[] to, final float t,
+            final Quaternion[] dest) throws IllegalArgumentException {
+        if (from.length != to.length || from.length != dest.length) {
+            throw new IllegalArgumentException(
+                    String.format("Interpolation denied: arrays with different lengths (%d, %d and %d)",
+                            from.length, to.length, dest.length));
+        }
+        for (int i = 0; i < from.length; i++) {
+            slerp(from[i], to[i], t, dest[i]);
+        }
+    }
+
+    /**
+     * Rotates the given 3-dimensional vector by the given unit quaternion and
+     * returns it.
+     * <p>
+     * No rotation matrix is built: it takes 15 multiplications and 15 additions.
+     *
+     * @param q unit quaternion of rotation
+     * @param v vector to be rotated
+     * @return vector {@code v} rotated by {@code q}
+     *
+     * @since 3.1.0
+     */
+    public static Vector3 rotate(final Quaternion q, final Vector3 v) {
+        final float qx = q.x();
+        final float qy = q.y();
+        final float qz = q.z();
+        final float qw = q.w();
+        final float vx = v.x();
+        final float vy = v.y();
+        final float vz = v.z();
+
+        // t = 2 * (q.xyz x v), v' = v + w * t + q.xyz x t
+        final float tx = 2 * (qy * vz - qz * vy);
+        final float ty = 2 * (qz * vx - qx * vz);
+        final float tz = 2 * (qx * vy - qy * vx);
+
+        v.setX(vx + qw * tx + qy * tz - qz * ty);
+        v.setY(vy + qw * ty + qz * tx - qx * tz);
+        v.setZ(vz + qw * tz + qx * ty - qy * tx);
+
+        return v;
+    }
+
+    /**
+     * Returns the result of rotation of the given 3-dimensional vector by the
+     * given unit quaternion.
+     *
+     * @param q unit quaternion of rotation
+     * @param v vector to be rotated
+     * @return new vector with result of rotation vector {@code v} by {@code q}
+     *
+     * @since 3.1.0
+     */
+    public static Vector3 rotated(final Quaternion q, final Vector3 v) {
+        return rotate(q, v.clone());
+    }
+
+    /**
+     * Rotates all the given 3-dimensional vectors by the given unit quaternion.
+     *
+     * @param q  unit quaternion of rotation
+     * @param vs vectors to be rotated
+     *
+     * @since 3.1.0
+     */
+    public static void rotateAll(final Quaternion q, final Vector3... vs) {
+        for (final Vector3 v : vs) {
+            rotate(q, v);
+        }
+    }
+
+    /**
+     * Sets rotation around the given axis into the given quaternion and returns
+     * it.
+     *
+     * @param dest  quaternion for result
+     * @param axis  axis of rotation (must not be zero vector)
+     * @param angle angle of rotation in radians (counterclockwise)
+     * @return quaternion {@code dest} with the given rotation
+     * @throws ArithmeticException if length of the axis is approximately equal 0
+     *
+     * @since 3.1.0
+     */
+    public static Quaternion setAxisAngle(final Quaternion dest, final Vector3 axis, final float angle)
+            throws ArithmeticException {
+        final float len = Vector3Math.len(axis);
+        Validator.validateDivisor(len);
+        final float k = (float) Math.sin(angle / 2) / len;
+
+        return set(dest, axis.x() * k, axis.y() * k, axis.z() * k, (float) Math.cos(angle / 2));
+    }
+
+    /**
+     * Constructs quaternion of rotation around the given axis.
+     *
+     * @param axis  axis of rotation (must not be zero vector)
+     * @param angle angle of rotation in radians (counterclockwise)
+     * @return new unit quaternion with the given rotation
+     * @throws ArithmeticException if length of the axis is approximately equal 0
+     *
+     * @since 3.1.0
+     */
+    public static Quaternion fromAxisAngle(final Vector3 axis, final float angle) throws ArithmeticException {
+        return setAxisAngle(new Quat(), axis, angle);
+    }
+
+    /**
+     * Writes rotation matrix of the given unit quaternion into the given matrix
+     * and returns it.
+     *
+     * @param q    unit quaternion of rotation
+     * @param dest matrix for result
+     * @return matrix {@code dest} with rotation of {@code q}
+     *
+     * @since 3.1.0
+     */
+    public static Matrix3 toMatrix3(final Quaternion q, final Matrix3 dest) {
+        final float x = q.x();
+        final float y = q.y();
+        final float z = q.z();
+        final float w = q.w();
+        final float xx = x * x;
+        final float yy = y * y;
+        final float zz = z * z;
+        final float xy = x * y;
+        final float xz = x * z;
+        final float yz = y * z;
+        final float wx = w * x;
+        final float wy = w * y;
+        final float wz = w * z;
+
+        dest.set(R0, C0, 1 - 2 * (yy + zz));
+        dest.set(R0, C1, 2 * (xy - wz));
+        dest.set(R0, C2, 2 * (xz + wy));
+        dest.set(R1, C0, 2 * (xy + wz));
+        dest.set(R1, C1, 1 - 2 * (xx + zz));
+        dest.set(R1, C2, 2 * (yz - wx));
+        dest.set(R2, C0, 2 * (xz - wy));
+        dest.set(R2, C1, 2 * (yz + wx));
+        dest.set(R2, C2, 1 - 2 * (xx + yy));
+
+        return dest;
+    }
+
+    /**
+     * Constructs rotation matrix of the given unit quaternion.
+     *
+     * @param q unit quaternion of rotation
+     * @return new 3x3 matrix with rotation of {@code q}
+     *
+     * @since 3.1.0
+     */
+    public static Matrix3 toMatrix3(final Quaternion q) {
+        return toMatrix3(q, new Mat3());
+    }
+
+    /**
+     * Writes homogeneous rotation matrix of the given unit quaternion into the
+     * given matrix (without translation) and returns it.
+     *
+     * @param q    unit quaternion of rotation
+     * @param dest matrix for result
+     * @return matrix {@code dest} with rotation of {@code q}
+     *
+     * @since 3.1.0
+     */
+    public static Matrix4 toMatrix4(final Quaternion q, final Matrix4 dest) {
+        final float x = q.x();
+        final float y = q.y();
+        final float z = q.z();
+        final float w = q.w();
+        final float xx = x * x;
+        final float yy = y * y;
+        final float zz = z * z;
+        final float xy = x * y;
+        final float xz = x * z;
+        final float yz = y * z;
+        final float wx = w * x;
+        final float wy = w * y;
+        final float wz = w * z;
+
+        dest.set(Matrix4Row.R0, Matrix4Col.C0, 1 - 2 * (yy + zz));
+        dest.set(Matrix4Row.R0, Matrix4Col.C1, 2 * (xy - wz));
+        dest.set(Matrix4Row.R0, Matrix4Col.C2, 2 * (xz + wy));
+        dest.set(Matrix4Row.R0, Matrix4Col.C3, 0);
+        dest.set(Matrix4Row.R1, Matrix4Col.C0, 2 * (xy + wz));
+        dest.set(Matrix4Row.R1, Matrix4Col.C1, 1 - 2 * (xx + zz));
+        dest.set(Matrix4Row.R1, Matrix4Col.C2, 2 * (yz - wx));
+        dest.set(Matrix4Row.R1, Matrix4Col.C3, 0);
+        dest.set(Matrix4Row.R2, Matrix4Col.C0, 2 * (xz - wy));
+        dest.set(Matrix4Row.R2, Matrix4Col.C1, 2 * (yz + wx));
+        dest.set(Matrix4Row.R2, Matrix4Col.C2, 1 - 2 * (xx + yy));
+        dest.set(Matrix4Row.R2, Matrix4Col.C3, 0);
+        dest.set(Matrix4Row.R3, Matrix4Col.C0, 0);
+        dest.set(Matrix4Row.R3, Matrix4Col.C1, 0);
+        dest.set(Matrix4Row.R3, Matrix4Col.C2, 0);
+        dest.set(Matrix4Row.R3, Matrix4Col.C3, 1);
+
+        return dest;
+    }
+
+    /**
+     * Constructs homogeneous rotation matrix of the given unit quaternion.
+     *
+     * @param q unit quaternion of rotation
+     * @return new 4x4 matrix with rotation of {@code q}
+     *
+     * @since 3.1.0
+     */
+    public static Matrix4 toMatrix4(final Quaternion q) {
+        return toMatrix4(q, new Mat4());
+    }
+
+    /**
+     * Sets rotation of the given rotation matrix into the given quaternion and
+     * returns it.
+     *
+     * @param dest quaternion for result
+     * @param m    orthonormal rotation matrix
+     * @return unit quaternion {@code dest} with rotation of {@code m}
+     *
+     * @since 3.1.0
+     */
+    public static Quaternion setFromMatrix3(final Quaternion dest, final Matrix3 m) {
+        return setFromRotation(dest,
+                m.get(R0, C0), m.get(R0, C1), m.get(R0, C2),
+                m.get(R1, C0), m.get(R1, C1), m.get(R1, C2),
+                m.get(R2, C0), m.get(R2, C1), m.get(R2, C2));
+    }
+
+    /**
+     * Constructs quaternion of the given rotation matrix.
+     *
+     * @param m orthonormal rotation matrix
+     * @return new unit quaternion with rotation of {@code m}
+     *
+     * @since 3.1.0
+     */
+    public static Quaternion fromMatrix3(final Matrix3 m) {
+        return setFromMatrix3(new Quat(), m);
+    }
+
+    /**
+     * Sets rotation of the upper left 3x3 block of the given matrix into the
+     * given quaternion and returns it.
+     *
+     * @param dest quaternion for result
+     * @param m    matrix with orthonormal rotation block
+     * @return unit quaternion {@code dest} with rotation of {@code m}
+     *
+     * @since 3.1.0
+     */
+    public static Quaternion setFromMatrix4(final Quaternion dest, final Matrix4 m) {
+        return setFromRotation(dest,
+                m.get(Matrix4Row.R0, Matrix4Col.C0), m.get(Matrix4Row.R0, Matrix4Col.C1),
+                m.get(Matrix4Row.R0, Matrix4Col.C2),
+                m.get(Matrix4Row.R1, Matrix4Col.C0), m.get(Matrix4Row.R1, Matrix4Col.C1),
+                m.get(Matrix4Row.R1, Matrix4Col.C2),
+                m.get(Matrix4Row.R2, Matrix4Col.C0), m.get(Matrix4Row.R2, Matrix4Col.C1),
+                m.get(Matrix4Row.R2, Matrix4Col.C2));
+    }
+
+    /**
+     * Constructs quaternion of the upper left 3x3 block of the given matrix.
+     *
+     * @param m matrix with orthonormal rotation block
+     * @return new unit quaternion with rotation of {@code m}
+     *
+     * @since 3.1.0
+     */
+    public static Quaternion fromMatrix4(final Matrix4 m) {
+        return setFromMatrix4(new Quat(), m);
+    }
+
+    private static Quaternion setFromRotation(final Quaternion dest,
+            final float m00, final float m01, final float m02,
+            final float m10, final float m11, final float m12,
+            final float m20, final float m21, final float m22) {
+        final float trace = m00 + m11 + m22;
+        if (trace > 0) {
+            final float s = (float) Math.sqrt(trace + 1) * 2;
+            set(dest, (m21 - m12) / s, (m02 - m20) / s, (m10 - m01) / s, s / 4);
+        } else if (m00 > m11 && m00 > m22) {
+            final float s = (float) Math.sqrt(1 + m00 - m11 - m22) * 2;
+            set(dest, s / 4, (m01 + m10) / s, (m02 + m20) / s, (m21 - m12) / s);
+        } else if (m11 > m22) {
+            final float s = (float) Math.sqrt(1 + m11 - m00 - m22) * 2;
+            set(dest, (m01 + m10) / s, s / 4, (m12 + m21) / s, (m02 - m20) / s);
+        } else {
+            final float s = (float) Math.sqrt(1 + m22 - m00 - m11) * 2;
+            set(dest, (m02 + m20) / s, (m12 + m21) / s, s / 4, (m10 - m01) / s);
+        }
+
+        return dest;
+    }
+
+    /**
+     * Returns {@code true} if the components of two quaternions are equal within
+     * {@code epsilon} tolerance.
+     *
+     * @param q1  first quaternion for comparison
+     * @param q2  second quaternion for comparison
+     * @param eps tolerance
+     * @return {@code true} if all components of quaternions are equal within
+     *         {@code eps} tolerance, and {@code false} otherwise
+     *
+     * @since 3.1.0
+     */
+    public static boolean equalsEpsilon(final Quaternion q1, final Quaternion q2, final float eps) {
+        return Validator.equalsEpsilon(q1.x(), q2.x(), eps)
+                && Validator.equalsEpsilon(q1.y(), q2.y(), eps)
+                && Validator.equalsEpsilon(q1.z(), q2.z(), eps)
+                && Validator.equalsEpsilon(q1.w(), q2.w(), eps);
+    }
+
+    /**
+     * Returns {@code true} if the components of two quaternions are
+     * approximately equal.
+     *
+     * @param q1 first quaternion for comparison
+     * @param q2 second quaternion for comparison
+     * @return {@code true} if all components of quaternions are approximately
+     *         equal, and {@code false} otherwise
+     *
+     * @since 3.1.0
+     */
+    public static boolean equals(final Quaternion q1, final Quaternion q2) {
+        return equalsEpsilon(q1, q2, Validator.EPS);
+    }
+
+    /**
+     * Constructs identity quaternion (no rotation).
+     *
+     * @return new quaternion (0, 0, 0, 1)
+     *
+     * @since 3.1.0
+     */
+    public static Quaternion identity() {
+        return new Quat(0, 0, 0, 1);
+    }
+}
@@ -50,6 +50,15 @@ public class Vec implements Vector {
         }
     }
 
+    /**
+     * Returns the backing array of components (not a copy).
+     *
+     * @return array of components of this vector
+     */
+    float[] data() {
+        return entries;
+    }
+
     @Override
     public float get(final int i) {
         return entries[i];
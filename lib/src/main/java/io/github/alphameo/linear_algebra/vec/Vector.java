@@ -1,5 +1,9 @@
 package io.github.alphameo.linear_algebra.vec;
 
+import java.util.stream.DoubleStream;
+
+import io.github.alphameo.linear_algebra.FloatBinaryOperator;
+import io.github.alphameo.linear_algebra.FloatUnaryOperator;
 import io.github.alphameo.linear_algebra.mat.Matrix;
 
 /**
@@ -286,6 +290,85 @@ public interface Vector extends Cloneable {
         return VectorMath.transformedRow(this, operator);
     }
 
+    /**
+     * Returns sequential stream of components of this vector.
+     *
+     * @return stream of components
+     *
+     * @since 3.1.0
+     */
+    default DoubleStream elementStream() {
+        return VectorMath.elementStream(this);
+    }
+
+    /**
+     * Applies the given operator to every component of this vector.
+     *
+     * @param op operator applied to components
+     * @return this vector with mapped components
+     *
+     * @since 3.1.0
+     */
+    default Vector mapAsgn(final FloatUnaryOperator op) {
+        return VectorMath.mapAsgn(this, op);
+    }
+
+    /**
+     * Returns new vector with the given operator applied to every component of
+     * this vector.
+     *
+     * @param op operator applied to components
+     * @return new vector with mapped components
+     *
+     * @since 3.1.0
+     */
+    default Vector map(final FloatUnaryOperator op) {
+        return VectorMath.map(this, op);
+    }
+
+    /**
+     * Replaces every component of this vector with result of the given operator
+     * applied to it and the corresponding component of the given vector.
+     *
+     * @param v  vector with right operands
+     * @param op operator applied to pairs of components
+     * @return this vector with combined components
+     * @throws IllegalArgumentException if vectors have different sizes
+     *
+     * @since 3.1.0
+     */
+    default Vector zipAsgn(final Vector v, final FloatBinaryOperator op) throws IllegalArgumentException {
+        return VectorMath.zipAsgn(this, v, op);
+    }
+
+    /**
+     * Returns new vector with results of the given operator applied to
+     * corresponding components of this vector and the given vector.
+     *
+     * @param v  vector with right operands
+     * @param op operator applied to pairs of components
+     * @return new vector with combined components
+     * @throws IllegalArgumentException if vectors have different sizes
+     *
+     * @since 3.1.0
+     */
+    default Vector zip(final Vector v, final FloatBinaryOperator op) throws IllegalArgumentException {
+        return VectorMath.zip(this, v, op);
+    }
+
+    /**
+     * Reduces components of this vector with the given associative operator.
+     *
+     * @param identity identity value of operator
+     * @param op       associative operator
+     * @return result of reduction
+     *
+     * @since 3.1.0
+     */
+    default float reduce(final float identity, final FloatBinaryOperator op) {
+        return VectorMath.reduce(this, identity, op);
+    }
+
     /**
      * Returns {@code true} if the components of this vector and the components of
      * the given vector are equal within {@code epsilon} tolerance.
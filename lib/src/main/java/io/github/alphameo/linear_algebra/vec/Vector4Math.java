@@ -262,13 +262,7 @@ public final class Vector4Math {
      * @since 3.0.0
      */
     public static Vector4 transformCol(final Vector4 vCol, final Matrix4 operator) {
-        Vector4 v = Matrix4Math.prodCol(operator, vCol);
-        vCol.setX(v.x());
-        vCol.setY(v.y());
-        vCol.setZ(v.z());
-        vCol.setW(v.w());
-
-        return vCol;
+        return Matrix4Math.prodCol(operator, vCol, vCol);
     }
 
     /**
@@ -301,13 +295,7 @@ public final class Vector4Math {
      * @since 3.0.0
      */
     public static Vector4 transformRow(final Vector4 vRow, final Matrix4 operator) {
-        Vector4 v = Matrix4Math.prodRow(operator, vRow);
-        vRow.setX(v.x());
-        vRow.setY(v.y());
-        vRow.setZ(v.z());
-        vRow.setW(v.w());
-
-        return vRow;
+        return Matrix4Math.prodRow(operator, vRow, vRow);
     }
 
     /**
@@ -1,5 +1,12 @@
 package io.github.alphameo.linear_algebra.vec;
 
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import io.github.alphameo.linear_algebra.FloatBinaryOperator;
+import io.github.alphameo.linear_algebra.FloatSpliterator;
+import io.github.alphameo.linear_algebra.FloatUnaryOperator;
 import io.github.alphameo.linear_algebra.Validator;
 import io.github.alphameo.linear_algebra.mat.Matrix;
 import io.github.alphameo.linear_algebra.mat.MatrixMath;
@@ -19,6 +26,8 @@ public final class VectorMath {
     public VectorMath() {
     }
 
+    private static final int PARALLEL_BLOCK = 1 << 13;
+
     /**
      * Returns the square of the length of the the given vector.
      * <p>
@@ -357,6 +366,294 @@ public final class VectorMath {
         return equalsEpsilon(v1, v2, Validator.EPS);
     }
 
+    /**
+     * Returns sequential stream of components of the given vector (widened to
+     * {@code double}). Parallel stream splits components into contiguous
+     * blocks ({@link FloatSpliterator}).
+     *
+     * @param v vector for streaming
+     * @return stream of components
+     *
+     * @since 3.1.0
+     */
+    public static DoubleStream elementStream(final Vector v) {
+        final FloatSpliterator spliterator;
+        if (v instanceof Vec vec) {
+            spliterator = new FloatSpliterator(vec.data(), 0, vec.size());
+        } else {
+            spliterator = new FloatSpliterator(v::get, 0, v.size());
+        }
+
+        return StreamSupport.doubleStream(spliterator, false);
+    }
+
+    /**
+     * Applies the given operator to every component of the given vector and
+     * returns it. Dense vectors ({@link Vec}) with at least
+     * {@link MatrixMath#PARALLEL_THRESHOLD} components are processed in
+     * parallel, so the operator must not have side effects.
+     *
+     * @param v  vector to be mapped
+     * @param op operator applied to components
+     * @return vector {@code v} with mapped components
+     *
+     * @since 3.1.0
+     */
+    public static Vector mapAsgn(final Vector v, final FloatUnaryOperator op) {
+        if (v instanceof Vec vec) {
+            final float[] a = vec.data();
+            final int size = v.size();
+            if (size < MatrixMath.PARALLEL_THRESHOLD) {
+                mapRange(a, 0, size, op);
+            } else {
+                IntStream.range(0, blockCount(size)).parallel()
+                        .forEach(b -> mapRange(a, b * PARALLEL_BLOCK, Math.min(size, (b + 1) * PARALLEL_BLOCK), op));
+            }
+
+            return v;
+        }
+
+        for (int i = 0; i < v.size(); i++) {
+            v.set(i, op.applyAsFloat(v.get(i)));
+        }
+
+        return v;
+    }
+
+    /**
+     * Returns new vector with the given operator applied to every component
+     * of the given vector.
+     *
+     * @param v  vector to be mapped
+     * @param op operator applied to components
+     * @return new vector with mapped components of vector {@code v}
+     *
+     * @since 3.1.0
+     */
+    public static Vector map(final Vector v, final FloatUnaryOperator op) {
+        return mapAsgn(v.clone(), op);
+    }
+
+    /**
+     * Replaces every component of the target vector with result of the given
+     * operator applied to it and the corresponding component of the other
+     * vector and returns the target vector. Dense vectors ({@link Vec}) with at
+     * least {@link MatrixMath#PARALLEL_THRESHOLD} components are processed in
+     * parallel, so the operator must not have side effects.
+     *
+     * @param target vector to be changed (left operands)
+     * @param other  vector with right operands
+     * @param op     operator applied to pairs of components
+     * @return vector {@code target} with combined components
+     * @throws IllegalArgumentException if vectors have different sizes
+     *
+     * @since 3.1.0
+     */
+    public static Vector zipAsgn(final Vector target, final Vector other, final FloatBinaryOperator op)
+            throws IllegalArgumentException {
+        return zipAsgn(target, other, op, "Zipping denied");
+    }
+
+    private static Vector zipAsgn(final Vector target, final Vector other, final FloatBinaryOperator op,
+            final String denial) throws IllegalArgumentException {
+        Validator.validateVectorSizes(target, other, denial);
+        if (target instanceof Vec t && other instanceof Vec o) {
+            final float[] a = t.data();
+            final float[] b = o.data();
+            final int size = target.size();
+            if (size < MatrixMath.PARALLEL_THRESHOLD) {
+                zipRange(a, b, 0, size, op);
+            } else {
+                IntStream.range(0, blockCount(size)).parallel()
+                        .forEach(i -> zipRange(a, b, i * PARALLEL_BLOCK,
+                                Math.min(size, (i + 1) * PARALLEL_BLOCK), op));
+            }
+
+            return target;
+        }
+
+        for (int i = 0; i < target.size(); i++) {
+            target.set(i, op.applyAsFloat(target.get(i), other.get(i)));
+        }
+
+        return target;
+    }
+
+    /**
+     * Returns new vector with results of the given operator applied to
+     * corresponding components of the given vectors.
+     *
+     * @param v1 vector with left operands
+     * @param v2 vector with right operands
+     * @param op operator applied to pairs of components
+     * @return new vector with combined components
+     * @throws IllegalArgumentException if vectors have different sizes
+     *
+     * @since 3.1.0
+     */
+    public static Vector zip(final Vector v1, final Vector v2, final FloatBinaryOperator op)
+            throws IllegalArgumentException {
+        return zipAsgn(v1.clone(), v2, op);
+    }
+
+    /**
+     * Reduces components of the given vector with the given operator. Dense
+     * vectors ({@link Vec}) with at least {@link MatrixMath#PARALLEL_THRESHOLD}
+     * components are reduced in parallel by blocks, so (as for
+     * {@link java.util.stream.Stream#reduce}) the operator must be associative
+     * and {@code identity} must be its identity value.
+     *
+     * @param v        vector to be reduced
+     * @param identity identity value of operator
+     * @param op       associative operator
+     * @return result of reduction ({@code identity} for empty vector)
+     *
+     * @since 3.1.0
+     */
+    public static float reduce(final Vector v, final float identity, final FloatBinaryOperator op) {
+        if (v instanceof Vec vec) {
+            final float[] a = vec.data();
+            final int size = v.size();
+            if (size < MatrixMath.PARALLEL_THRESHOLD) {
+                return reduceRange(a, 0, size, identity, op);
+            }
+
+            final float[] partial = new float[blockCount(size)];
+            IntStream.range(0, partial.length).parallel()
+                    .forEach(b -> partial[b] = reduceRange(a, b * PARALLEL_BLOCK,
+                            Math.min(size, (b + 1) * PARALLEL_BLOCK), identity, op));
+
+            return reduceRange(partial, 0, partial.length, identity, op);
+        }
+
+        float result = identity;
+        for (int i = 0; i < v.size(); i++) {
+            result = op.applyAsFloat(result, v.get(i));
+        }
+
+        return result;
+    }
+
+    /**
+     * Multiplies components of the target vector by the corresponding
+     * components of the other vector (Hadamard product) and returns the target
+     * vector.
+     *
+     * @param target vector to be multiplied
+     * @param other  vector of multipliers
+     * @return vector {@code target} after component-wise multiplication
+     * @throws IllegalArgumentException if vectors have different sizes
+     *
+     * @since 3.1.0
+     */
+    public static Vector hadamardAsgn(final Vector target, final Vector other) throws IllegalArgumentException {
+        return zipAsgn(target, other, (a, b) -> a * b, "Hadamard product denied");
+    }
+
+    /**
+     * Returns Hadamard (component-wise) product of the given vectors.
+     *
+     * @param v1 first vector
+     * @param v2 second vector
+     * @return new vector with component-wise products
+     * @throws IllegalArgumentException if vectors have different sizes
+     *
+     * @since 3.1.0
+     */
+    public static Vector hadamard(final Vector v1, final Vector v2) throws IllegalArgumentException {
+        return hadamardAsgn(v1.clone(), v2);
+    }
+
+    /**
+     * Returns sum of components of the given vector.
+     *
+     * @param v vector
+     * @return sum of components
+     *
+     * @since 3.1.0
+     */
+    public static float sum(final Vector v) {
+        return reduce(v, 0, Float::sum);
+    }
+
+    /**
+     * Returns 1-norm (sum of absolute values of components) of the given
+     * vector.
+     *
+     * @param v vector
+     * @return 1-norm of vector {@code v}
+     *
+     * @since 3.1.0
+     */
+    public static float norm1(final Vector v) {
+        return reduce(v, 0, (acc, e) -> acc + Math.abs(e));
+    }
+
+    /**
+     * Returns infinity norm (maximal absolute value of components) of the given
+     * vector.
+     *
+     * @param v vector
+     * @return infinity norm of vector {@code v}
+     *
+     * @since 3.1.0
+     */
+    public static float normInf(final Vector v) {
+        return reduce(v, 0, (acc, e) -> Math.max(acc, Math.abs(e)));
+    }
+
+    /**
+     * Returns minimal component of the given vector.
+     *
+     * @param v vector
+     * @return minimal component
+     * @throws UnsupportedOperationException if vector is empty
+     *
+     * @since 3.1.0
+     */
+    public static float min(final Vector v) throws UnsupportedOperationException {
+        return v.get(argMin(v));
+    }
+
+    /**
+     * Returns maximal component of the given vector.
+     *
+     * @param v vector
+     * @return maximal component
+     * @throws UnsupportedOperationException if vector is empty
+     *
+     * @since 3.1.0
+     */
+    public static float max(final Vector v) throws UnsupportedOperationException {
+        return v.get(argMax(v));
+    }
+
+    /**
+     * Returns index of the first minimal component of the given vector.
+     *
+     * @param v vector
+     * @return index of minimal component
+     * @throws UnsupportedOperationException if vector is empty
+     *
+     * @since 3.1.0
+     */
+    public static int argMin(final Vector v) throws UnsupportedOperationException {
+        return argExtremum(v, -1);
+    }
+
+    /**
+     * Returns index of the first maximal component of the given vector.
+     *
+     * @param v vector
+     * @return index of maximal component
+     * @throws UnsupportedOperationException if vector is empty
+     *
+     * @since 3.1.0
+     */
+    public static int argMax(final Vector v) throws UnsupportedOperationException {
+        return argExtremum(v, 1);
+    }
+
     /**
      * Constructs {@code size}-dimensional vector with all 0 components.
      * 
@@ -385,4 +682,49 @@ public final class VectorMath {
 
         return result;
     }
+
+    private static int blockCount(final int size) {
+        return (size + PARALLEL_BLOCK - 1) / PARALLEL_BLOCK;
+    }
+
+    private static void mapRange(final float[] a, final int from, final int to, final FloatUnaryOperator op) {
+        for (int i = from; i < to; i++) {
+            a[i] = op.applyAsFloat(a[i]);
+        }
+    }
+
+    private static void zipRange(final float[] a, final float[] b, final int from, final int to,
+            final FloatBinaryOperator op) {
+        for (int i = from; i < to; i++) {
+            a[i] = op.applyAsFloat(a[i], b[i]);
+        }
+    }
+
+    private static float reduceRange(final float[] a, final int from, final int to, final float identity,
+            final FloatBinaryOperator op) {
+        float result = identity;
+        for (int i = from; i < to; i++) {
+            result = op.applyAsFloat(result, a[i]);
+        }
+
+        return result;
+    }
+
+    private static int argExtremum(final Vector v, final int sign) throws UnsupportedOperationException {
+        if (v.size() == 0) {
+            throw new UnsupportedOperationException("Extremum does not exist: vector is empty");
+        }
+
+        int result = 0;
+        float best = sign * v.get(0);
+        for (int i = 1; i < v.size(); i++) {
+            final float e = sign * v.get(i);
+            if (e > best) {
+                best = e;
+                result = i;
+            }
+        }
+
+        return result;
+    }
 }
@@ -6,6 +6,8 @@ module io.github.alphameo.linear_algebra {
     exports io.github.alphameo.linear_algebra.mat;
     // vectors
     exports io.github.alphameo.linear_algebra.vec;
+    // reactive streams of vectors
+    exports io.github.alphameo.linear_algebra.flow;
 
     // utility
     exports io.github.alphameo.linear_algebra;
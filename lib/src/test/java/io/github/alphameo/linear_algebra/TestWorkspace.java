@@ -0,0 +1,65 @@
+package io.github.alphameo.linear_algebra;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.github.alphameo.linear_algebra.mat.Matrix;
+import io.github.alphameo.linear_algebra.mat.Matrix4;
+import io.github.alphameo.linear_algebra.vec.Vector;
+import io.github.alphameo.linear_algebra.vec.Vector3;
+
+/**
+ * TestWorkspace
+ */
+public class TestWorkspace {
+
+    @Test
+    public void testReuse() {
+        Workspace ws = Workspace.current();
+
+        int outer = ws.mark();
+        Vector3 v1 = ws.vec3();
+        v1.setX(5);
+        int inner = ws.mark();
+        Matrix4 m1 = ws.mat4();
+        m1.set(0, 0, 3);
+        Vector v2 = ws.vec(5);
+        ws.release(inner);
+
+        Assertions.assertSame(m1, ws.mat4());
+        Assertions.assertEquals(0, m1.get(0, 0));
+        Assertions.assertSame(v2, ws.vec(5));
+        Assertions.assertNotSame(v1, ws.vec3());
+        ws.release(outer);
+
+        int mark = ws.mark();
+        Assertions.assertSame(v1, ws.vec3());
+        Assertions.assertEquals(0, v1.x());
+        Matrix m = ws.mat(2, 3);
+        Assertions.assertEquals(2, m.height());
+        Assertions.assertEquals(3, m.width());
+        ws.release(mark);
+    }
+
+    @Test
+    public void testReleaseException() {
+        Workspace ws = Workspace.current();
+        int mark = ws.mark();
+        ws.release(mark);
+        try {
+            ws.release(mark);
+            Assertions.fail();
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
+    @Test
+    public void testThreadConfinement() throws InterruptedException {
+        Workspace[] other = new Workspace[1];
+        Thread thread = new Thread(() -> other[0] = Workspace.current());
+        thread.start();
+        thread.join();
+
+        Assertions.assertNotSame(Workspace.current(), other[0]);
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.alphameo.linear_algebra.flow;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.github.alphameo.linear_algebra.mat.Mat4;
+import io.github.alphameo.linear_algebra.mat.Matrix4;
+import io.github.alphameo.linear_algebra.mat.Matrix4Math;
+import io.github.alphameo.linear_algebra.vec.Vec3;
+import io.github.alphameo.linear_algebra.vec.Vector3;
+
+/**
+ * TestVector3Flow
+ */
+public class TestVector3Flow {
+
+    @Test
+    public void testKernels() {
+        Vector3Chunk chunk = new Vector3Chunk(4)
+                .add(1, 0, 0)
+                .add(0, 3, 4)
+                .add(0, 0, 0);
+        Matrix4 t = Matrix4Math.setTranslation(new Mat4(), 1, 2, 3);
+
+        Vector3Flow.transform(chunk, t);
+        Assertions.assertEquals(new Vector3Chunk(new float[] { 2, 2, 3, 1, 5, 7, 1, 2, 3 }, 3), chunk);
+
+        Vector3Flow.filter(chunk, (x, y, z) -> x > 1);
+        Assertions.assertEquals(1, chunk.size());
+        Assertions.assertEquals(new Vec3(2, 2, 3), chunk.get(0, new Vec3()));
+
+        Vector3Chunk v = new Vector3Chunk(new float[] { 0, 3, 4, 0, 0, 0 }, 2);
+        Vector3Flow.normalize(v);
+        Assertions.assertEquals(0.6f, v.y(0), 1e-6f);
+        Assertions.assertEquals(0.8f, v.z(0), 1e-6f);
+        Assertions.assertEquals(0, v.x(1));
+
+        Matrix4 p = Matrix4Math.setPerspective(new Mat4(), (float) Math.PI / 2, 1, 1, 10);
+        Vector3Chunk point = new Vector3Chunk(new float[] { 1, 1, -1 }, 1);
+        Vector3Flow.project(point, p);
+        Assertions.assertEquals(1, point.x(0), 1e-5f);
+        Assertions.assertEquals(-1, point.z(0), 1e-5f);
+    }
+
+    @Test
+    public void testPipeline() throws Exception {
+        SubmissionPublisher<Vector3> source = new SubmissionPublisher<>();
+        ChunkProcessor<io.github.alphameo.linear_algebra.vec.Vector3, Vector3Chunk> batching = Vector3Flow.batching(8);
+        ChunkProcessor<Vector3Chunk, Vector3Chunk> transform = Vector3Flow.transform(
+                Matrix4Math.setScaling(new Mat4(), 2, 2, 2));
+        ChunkProcessor<Vector3Chunk, Vector3Chunk> reduce = Vector3Flow.windowedReduce(10, Vector3Flow.Reduction.SUM);
+
+        source.subscribe(batching);
+        batching.subscribe(transform);
+        transform.subscribe(reduce);
+        List<Float> sums = new ArrayList<>();
+        CompletableFuture<Void> done = reduce.consume(chunk -> {
+            for (int i = 0; i < chunk.size(); i++) {
+                sums.add(chunk.x(i));
+            }
+        });
+
+        for (int i = 0; i < 25; i++) {
+            source.submit(new Vec3(i, 0, 0));
+        }
+        source.close();
+        done.get(10, TimeUnit.SECONDS);
+
+        Assertions.assertEquals(List.of(90f, 290f, 220f), sums);
+    }
+}
@@ -0,0 +1,159 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.github.alphameo.linear_algebra.vec.Vec;
+import io.github.alphameo.linear_algebra.vec.Vector;
+import io.github.alphameo.linear_algebra.vec.VectorMath;
+
+/**
+ * TestBandedMat
+ */
+public class TestBandedMat {
+
+    @Test
+    public void testTridiagonal() {
+        TridiagonalMat m = new TridiagonalMat(
+                new float[] { 1, 1, 1 },
+                new float[] { 4, 4, 4, 4 },
+                new float[] { 2, 2, 2 });
+        Matrix dense = new Mat(m);
+        Vector b = new Vec(1, 2, 3, 4);
+
+        Assertions.assertEquals(2, m.get(1, 2));
+        Assertions.assertEquals(0, m.get(0, 3));
+        Assertions.assertTrue(VectorMath.equals(MatrixMath.solve(dense, b), MatrixMath.solve(m, b)));
+        Assertions.assertTrue(VectorMath.equals(MatrixMath.prodCol(dense, b), MatrixMath.prodCol(m, b)));
+
+        m.transpose();
+        Assertions.assertEquals(1, m.get(1, 2));
+        Assertions.assertTrue(MatrixMath.equals(MatrixMath.transposed(dense), m));
+
+        try {
+            m.set(0, 2, 1);
+            Assertions.fail();
+        } catch (UnsupportedOperationException e) {
+            Assertions.assertTrue(true);
+        }
+    }
+
+    @Test
+    public void testTridiagonalZeroPivot() {
+        TridiagonalMat m = new TridiagonalMat(new float[] { 1 }, new float[] { 0, 0 }, new float[] { 1 });
+        Vector b = new Vec(2, 3);
+        Assertions.assertTrue(VectorMath.equals(new Vec(3, 2), MatrixMath.solve(m, b)));
+        Assertions.assertTrue(VectorMath.equals(new Vec(2, 3), b));
+
+        m = new TridiagonalMat(
+                new float[] { 1, 2, 1 },
+                new float[] { 1, 1, 3, 4 },
+                new float[] { 1, 1, 1 });
+        b = new Vec(1, 2, 3, 4);
+        Assertions.assertTrue(VectorMath.equalsEpsilon(MatrixMath.solve(new Mat(m), b), MatrixMath.solve(m, b), 1e-5f));
+
+        m = new TridiagonalMat(new float[] { 1 }, new float[] { 1, 1 }, new float[] { 1 });
+        try {
+            MatrixMath.solve(m, new Vec(1, 2));
+            Assertions.fail();
+        } catch (RuntimeException e) {
+            Assertions.assertTrue(true);
+        }
+    }
+
+    @Test
+    public void testValueOperations() {
+        TridiagonalMat tridiagonal = new TridiagonalMat(new float[] { 1 }, new float[] { 2, 3 }, new float[] { 4 });
+        BandedMat banded = new BandedMat(2, 0, 0);
+        banded.set(0, 0, 1);
+        banded.set(1, 1, 2);
+        Matrix ones = new Mat(new float[][] {
+                { 1, 1 },
+                { 1, 1 }
+        });
+
+        Matrix expected = new Mat(new float[][] {
+                { 3, 5 },
+                { 2, 4 }
+        });
+        Assertions.assertTrue(MatrixMath.equals(expected, MatrixMath.add(tridiagonal, ones)));
+        Assertions.assertTrue(MatrixMath.equals(expected, MatrixMath.map(tridiagonal, x -> x + 1)));
+
+        expected = new Mat(new float[][] {
+                { 2, 1 },
+                { 1, 3 }
+        });
+        Assertions.assertTrue(MatrixMath.equals(expected, MatrixMath.add(banded, ones)));
+        Assertions.assertTrue(MatrixMath.equals(expected, MatrixMath.zip(banded, ones, (x, y) -> x + y)));
+
+        expected = new Mat(new float[][] {
+                { 0, 2 },
+                { 1, 0 }
+        });
+        Assertions.assertTrue(MatrixMath.equals(expected, MatrixMath.swappedRows(banded, 0, 1)));
+        Assertions.assertEquals(1, banded.get(0, 0));
+    }
+
+    @Test
+    public void testTridiagonalLarge() {
+        int n = 100000;
+        float[] off = new float[n - 1];
+        float[] diag = new float[n];
+        Arrays.fill(off, -1);
+        Arrays.fill(diag, 3);
+        TridiagonalMat m = new TridiagonalMat(off, diag, off);
+        Vector x = new Vec(n);
+        for (int i = 0; i < n; i++) {
+            x.set(i, (float) Math.sin(i));
+        }
+
+        Vector solution = MatrixMath.solve(m, MatrixMath.prodCol(m, x));
+        Assertions.assertTrue(VectorMath.equalsEpsilon(x, solution, 1e-4f));
+    }
+
+    @Test
+    public void testBanded() {
+        int n = 8;
+        BandedMat m = new BandedMat(n, 2, 1);
+        for (int r = 0; r < n; r++) {
+            for (int c = 0; c < n; c++) {
+                if (m.inBand(r, c)) {
+                    m.set(r, c, (float) Math.cos(r * n + c) + (r == c ? 0 : 0.5f));
+                }
+            }
+        }
+        Matrix dense = new Mat(m);
+        Vector b = new Vec(1, -2, 3, -4, 5, -6, 7, -8);
+
+        Assertions.assertEquals(0, m.get(0, 2));
+        Assertions.assertEquals(0, m.get(3, 0));
+        Assertions.assertTrue(VectorMath.equalsEpsilon(MatrixMath.solve(dense, b), MatrixMath.solve(m, b), 1e-3f));
+        Assertions.assertTrue(VectorMath.equals(MatrixMath.prodCol(dense, b), MatrixMath.prodCol(m, b)));
+
+        Matrix transposed = m.clone().transpose();
+        Assertions.assertTrue(MatrixMath.equals(MatrixMath.transposed(dense), transposed));
+        Assertions.assertEquals(1, ((BandedMat) transposed).lower());
+
+        try {
+            m.set(0, 5, 1);
+            Assertions.fail();
+        } catch (UnsupportedOperationException e) {
+            Assertions.assertTrue(true);
+        }
+    }
+
+    @Test
+    public void testBandedSingular() {
+        BandedMat m = new BandedMat(3, 1, 1);
+        m.set(0, 0, 1);
+        m.set(1, 1, 1);
+        try {
+            MatrixMath.solve(m, new Vec(1, 1, 1));
+            Assertions.fail();
+        } catch (RuntimeException e) {
+            Assertions.assertTrue(true);
+        }
+    }
+}
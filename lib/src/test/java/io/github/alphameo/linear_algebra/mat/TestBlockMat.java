@@ -0,0 +1,189 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.github.alphameo.linear_algebra.vec.Vec;
+import io.github.alphameo.linear_algebra.vec.Vector;
+import io.github.alphameo.linear_algebra.vec.VectorMath;
+
+/**
+ * TestBlockMat
+ */
+public class TestBlockMat {
+
+    private static BlockMat filled(final int[] rowSizes, final int[] colSizes, final int seed) {
+        BlockMat m = new BlockMat(rowSizes, colSizes);
+        for (int r = 0; r < m.height(); r++) {
+            for (int c = 0; c < m.width(); c++) {
+                if ((r + c + seed) % 3 != 0) {
+                    m.set(r, c, (r * 7 + c * 3 + seed) % 11 - 5);
+                }
+            }
+        }
+
+        return m;
+    }
+
+    @Test
+    public void testGetSet() {
+        BlockMat m = new BlockMat(new int[] { 2, 0, 3 }, new int[] { 1, 4 });
+        Assertions.assertEquals(5, m.height());
+        Assertions.assertEquals(5, m.width());
+        Assertions.assertEquals(3, m.blockRows());
+        Assertions.assertEquals(2, m.blockCols());
+
+        m.set(3, 0, 0);
+        Assertions.assertNull(m.block(2, 0));
+
+        m.set(3, 2, 7);
+        Assertions.assertEquals(7, m.get(3, 2));
+        Assertions.assertEquals(7, m.block(2, 1).get(1, 1));
+        Assertions.assertNull(m.block(0, 1));
+        Assertions.assertEquals(0, m.get(0, 4));
+    }
+
+    @Test
+    public void testSetBlockSizeMismatch() {
+        BlockMat m = new BlockMat(new int[] { 2, 3 }, new int[] { 2, 3 });
+        m.setBlock(0, 1, new Mat(2, 3));
+        try {
+            m.setBlock(0, 1, new Mat(3, 2));
+            Assertions.fail();
+        } catch (IllegalArgumentException e) {
+            Assertions.assertTrue(true);
+        }
+    }
+
+    @Test
+    public void testProd() {
+        BlockMat m1 = filled(new int[] { 3, 2 }, new int[] { 2, 4 }, 1);
+        BlockMat m2 = filled(new int[] { 2, 4 }, new int[] { 1, 3 }, 2);
+        m1.setBlock(0, 1, null);
+        m2.setBlock(0, 0, null);
+
+        Matrix expected = MatrixMath.prod(new Mat(m1), new Mat(m2));
+        Matrix actual = MatrixMath.prod(m1, m2);
+        Assertions.assertTrue(actual instanceof BlockMat);
+        Assertions.assertTrue(MatrixMath.equals(expected, new Mat(actual)));
+    }
+
+    @Test
+    public void testProdMismatchedPartition() {
+        BlockMat m1 = filled(new int[] { 3, 2 }, new int[] { 2, 4 }, 1);
+        BlockMat m2 = filled(new int[] { 3, 3 }, new int[] { 1, 3 }, 2);
+
+        Matrix expected = MatrixMath.prod(new Mat(m1), new Mat(m2));
+        Assertions.assertTrue(MatrixMath.equals(expected, MatrixMath.prod(m1, m2)));
+    }
+
+    @Test
+    public void testAddAsgn() {
+        BlockMat m1 = filled(new int[] { 1, 3 }, new int[] { 2, 2 }, 0);
+        BlockMat m2 = filled(new int[] { 1, 3 }, new int[] { 2, 2 }, 4);
+        m1.setBlock(1, 0, null);
+
+        Matrix expected = MatrixMath.add(new Mat(m1), new Mat(m2));
+        MatrixMath.addAsgn(m1, m2);
+        Assertions.assertTrue(MatrixMath.equals(expected, new Mat(m1)));
+
+        float addendum = m2.get(1, 0);
+        m1.set(1, 0, 100);
+        Assertions.assertEquals(addendum, m2.get(1, 0));
+    }
+
+    @Test
+    public void testProdCol() {
+        BlockMat m = filled(new int[] { 2, 3 }, new int[] { 3, 1 }, 5);
+        m.setBlock(1, 1, null);
+        Vector v = new Vec(1, -2, 3, 0.5f);
+
+        Assertions.assertTrue(VectorMath.equals(MatrixMath.prodCol(new Mat(m), v), MatrixMath.prodCol(m, v)));
+    }
+
+    @Test
+    public void testTranspose() {
+        BlockMat m = filled(new int[] { 2, 3 }, new int[] { 1, 4 }, 3);
+        m.setBlock(0, 1, null);
+
+        Assertions.assertTrue(MatrixMath.equals(MatrixMath.transposed(new Mat(m)), new Mat(m.transpose())));
+    }
+
+    @Test
+    public void testTransposeSharedTile() {
+        Matrix tile = new Mat(new float[][] {
+                { 1, 2 },
+                { 3, 4 }
+        });
+        BlockMat m = new BlockMat(new int[] { 2, 2 }, new int[] { 2, 2 });
+        m.setBlock(0, 0, tile);
+        m.setBlock(1, 1, tile);
+        Matrix dense = new Mat(m);
+
+        m.transpose();
+        Assertions.assertTrue(MatrixMath.equals(MatrixMath.transposed(dense), new Mat(m)));
+        Assertions.assertEquals(2, tile.get(0, 1));
+    }
+
+    @Test
+    public void testAddAsgnStructuredTiles() {
+        BlockMat m1 = new BlockMat(new int[] { 2, 1 }, new int[] { 2, 1 });
+        BlockMat m2 = new BlockMat(new int[] { 2, 1 }, new int[] { 2, 1 });
+        Matrix shared = new Mat(new float[][] {
+                { 1, 2 },
+                { 3, 4 }
+        });
+        m1.setBlock(0, 0, new IdentityMat(2));
+        m1.setBlock(1, 1, new DiagonalMat(5f));
+        m2.setBlock(0, 0, shared);
+        m2.setBlock(1, 1, new DiagonalMat(1f));
+        m2.set(2, 0, 7);
+        Matrix expected = MatrixMath.add(new Mat(m1), new Mat(m2));
+
+        MatrixMath.addAsgn(m1, m2);
+        Assertions.assertTrue(MatrixMath.equals(expected, new Mat(m1)));
+        Assertions.assertEquals(1, shared.get(0, 0));
+
+        m1.set(2, 0, 100);
+        Assertions.assertEquals(7, m2.get(2, 0));
+    }
+
+    @Test
+    public void testValueOperationsStructuredTiles() {
+        BlockMat m = new BlockMat(new int[] { 2, 1 }, new int[] { 2, 1 });
+        m.setBlock(0, 0, new IdentityMat(2));
+        m.setBlock(1, 1, new DiagonalMat(3f));
+        m.set(2, 0, 4);
+        Matrix dense = new Mat(m);
+        Matrix other = filled(new int[] { 2, 1 }, new int[] { 2, 1 }, 2);
+
+        Assertions.assertTrue(MatrixMath.equals(MatrixMath.add(dense, other), MatrixMath.add(m, new Mat(other))));
+        Assertions.assertTrue(MatrixMath.equals(MatrixMath.sub(dense, other), MatrixMath.sub(m, other)));
+        Assertions.assertTrue(MatrixMath.equals(MatrixMath.sub(dense, dense), MatrixMath.sub(m, m)));
+        Assertions.assertTrue(MatrixMath.equals(MatrixMath.mul(dense, 2), MatrixMath.mul(m, 2)));
+        Assertions.assertTrue(MatrixMath.equals(MatrixMath.map(dense, x -> x + 1), MatrixMath.map(m, x -> x + 1)));
+
+        Assertions.assertTrue(m.block(0, 0) instanceof IdentityMat);
+        Assertions.assertTrue(m.block(1, 1) instanceof DiagonalMat);
+        Assertions.assertTrue(MatrixMath.equals(dense, m));
+    }
+
+    @Test
+    public void testSubAsgnStructuredTiles() {
+        BlockMat m1 = filled(new int[] { 2, 1 }, new int[] { 2, 1 }, 0);
+        BlockMat m2 = new BlockMat(new int[] { 2, 1 }, new int[] { 2, 1 });
+        m1.setBlock(1, 0, null);
+        m1.setBlock(1, 1, new DiagonalMat(5f));
+        m2.setBlock(0, 0, new IdentityMat(2));
+        m2.setBlock(1, 1, new DiagonalMat(1f));
+        m2.set(2, 0, 7);
+        Matrix expected = MatrixMath.sub(new Mat(m1), new Mat(m2));
+
+        MatrixMath.subAsgn(m1, m2);
+        Assertions.assertTrue(MatrixMath.equals(expected, new Mat(m1)));
+        Assertions.assertTrue(m2.block(0, 0) instanceof IdentityMat);
+
+        m1.set(2, 0, 100);
+        Assertions.assertEquals(7, m2.get(2, 0));
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.github.alphameo.linear_algebra.vec.Vec;
+
+/**
+ * TestConcurrentMat
+ */
+public class TestConcurrentMat {
+
+    @Test
+    public void testRows() {
+        ConcurrentMat m = new ConcurrentMat(new Mat(new float[][] {
+                { 1, 2, 3 },
+                { 4, 5, 6 },
+                { 7, 8, 9 }
+        }));
+
+        Assertions.assertArrayEquals(new float[] { 4, 5, 6 }, m.readRow(1, new float[3]));
+        m.writeRow(1, new Vec(0, 1, 0));
+        Assertions.assertEquals(new Vec(0, 1, 0), m.readRow(1));
+        Assertions.assertEquals(1, m.get(1, 1));
+
+        m.transpose();
+        Assertions.assertEquals(new Vec(2, 1, 8), m.readRow(1));
+
+        try {
+            m.writeRow(0, new float[2]);
+            Assertions.fail();
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
+    @Test
+    public void testAtomicRows() throws InterruptedException {
+        final int width = 64;
+        ConcurrentMat m = new ConcurrentMat(8, width, 4);
+        AtomicBoolean torn = new AtomicBoolean();
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        Thread writer = new Thread(() -> {
+            float[] row = new float[width];
+            for (int k = 0; k < 20000; k++) {
+                Arrays.fill(row, k);
+                m.writeRow(k % 8, row);
+            }
+            running.set(false);
+        });
+        Thread[] readers = new Thread[4];
+        for (int t = 0; t < readers.length; t++) {
+            readers[t] = new Thread(() -> {
+                float[] row = new float[width];
+                while (running.get()) {
+                    for (int r = 0; r < 8; r++) {
+                        m.readRow(r, row);
+                        for (int c = 1; c < width; c++) {
+                            if (row[c] != row[0]) {
+                                torn.set(true);
+                            }
+                        }
+                    }
+                }
+            });
+            readers[t].start();
+        }
+        writer.start();
+        writer.join();
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        Assertions.assertFalse(torn.get());
+    }
+}
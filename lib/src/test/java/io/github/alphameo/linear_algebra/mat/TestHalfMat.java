@@ -0,0 +1,114 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.github.alphameo.linear_algebra.HalfFormat;
+import io.github.alphameo.linear_algebra.vec.HalfVec;
+import io.github.alphameo.linear_algebra.vec.Vec;
+import io.github.alphameo.linear_algebra.vec.Vector;
+import io.github.alphameo.linear_algebra.vec.VectorMath;
+
+/**
+ * TestHalfMat
+ */
+public class TestHalfMat {
+
+    @Test
+    public void testFormats() {
+        Assertions.assertEquals(1.5f, HalfFormat.FLOAT16.decode(HalfFormat.FLOAT16.encode(1.5f)));
+        Assertions.assertEquals(-0.25f, HalfFormat.BFLOAT16.decode(HalfFormat.BFLOAT16.encode(-0.25f)));
+        Assertions.assertEquals(1e30f, HalfFormat.BFLOAT16.decode(HalfFormat.BFLOAT16.encode(1e30f)), 1e28f);
+        Assertions.assertEquals(Float.POSITIVE_INFINITY, HalfFormat.FLOAT16.decode(HalfFormat.FLOAT16.encode(1e30f)));
+        Assertions.assertTrue(Float.isNaN(HalfFormat.BFLOAT16.decode(HalfFormat.BFLOAT16.encode(Float.NaN))));
+        Assertions.assertEquals(1.0f, HalfFormat.BFLOAT16.decode(HalfFormat.BFLOAT16.encode(1.001f)));
+    }
+
+    @Test
+    public void testStorage() {
+        Matrix m = new Mat(new float[][] {
+                { 1, 2, 3 },
+                { 4, 5, 6 }
+        });
+        for (HalfFormat format : HalfFormat.values()) {
+            HalfMat half = new HalfMat(m, format);
+            Assertions.assertTrue(MatrixMath.equals(m, half));
+            Assertions.assertEquals(format, half.format());
+
+            half.set(1, 2, 0.5f);
+            Assertions.assertEquals(0.5f, half.get(1, 2));
+            Assertions.assertEquals(6, m.get(1, 2));
+
+            Matrix copy = half.clone();
+            Assertions.assertEquals(half, copy);
+            copy.transpose();
+            Assertions.assertEquals(3, copy.height());
+            Assertions.assertEquals(2, copy.get(1, 0));
+        }
+    }
+
+    @Test
+    public void testValueOperations() {
+        Matrix half = new HalfMat(new Mat(new float[][] {
+                { 1, 2 },
+                { 3, 4 }
+        }), HalfFormat.BFLOAT16);
+        Matrix small = new Mat(new float[][] {
+                { 0.001f, 0.001f },
+                { 0.001f, 0.001f }
+        });
+
+        Matrix sum = MatrixMath.add(half, small);
+        Assertions.assertTrue(sum instanceof Mat);
+        Assertions.assertEquals(1 + 0.001f, sum.get(0, 0));
+        Assertions.assertEquals(4 - 0.001f, MatrixMath.sub(half, small).get(1, 1));
+        Assertions.assertEquals(3.001f, MatrixMath.map(half, x -> x + 0.001f).get(1, 0), 1e-6f);
+        Assertions.assertEquals(2 * 1.001f, MatrixMath.mul(half, 1.001f).get(0, 1));
+        Assertions.assertEquals(1, half.get(0, 0));
+    }
+
+    @Test
+    public void testProd() {
+        int height = 37;
+        int width = 53;
+        Mat m = new Mat(height, width);
+        for (int r = 0; r < height; r++) {
+            for (int c = 0; c < width; c++) {
+                m.set(r, c, (float) Math.sin(r * width + c));
+            }
+        }
+        Vector x = new Vec(width);
+        for (int i = 0; i < width; i++) {
+            x.set(i, (float) Math.cos(i));
+        }
+        Vector y = new Vec(height);
+        for (int i = 0; i < height; i++) {
+            y.set(i, 1f / (i + 1));
+        }
+
+        for (HalfFormat format : HalfFormat.values()) {
+            HalfMat half = new HalfMat(m, format);
+            Mat rounded = new Mat(half);
+            float eps = format == HalfFormat.FLOAT16 ? 1e-4f : 1e-3f;
+
+            Assertions.assertTrue(VectorMath.equalsEpsilon(MatrixMath.prodCol(rounded, x),
+                    MatrixMath.prodCol(half, x), eps));
+            Assertions.assertTrue(VectorMath.equalsEpsilon(MatrixMath.prodRow(rounded, y),
+                    MatrixMath.prodRow(half, y), eps));
+            Assertions.assertTrue(VectorMath.equalsEpsilon(MatrixMath.prodCol(m, x),
+                    MatrixMath.prodCol(half, new HalfVec(x, format)), 0.5f));
+        }
+    }
+
+    @Test
+    public void testHalfVec() {
+        Vector v = new Vec(1, -2, 0.125f);
+        HalfVec half = new HalfVec(v, HalfFormat.FLOAT16);
+
+        Assertions.assertTrue(VectorMath.equals(v, half));
+        Assertions.assertEquals(half, half.clone());
+        half.set(0, 3);
+        Assertions.assertEquals(3, half.get(0));
+        Assertions.assertEquals(3, half.size());
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.github.alphameo.linear_algebra.vec.Vec;
+import io.github.alphameo.linear_algebra.vec.Vector;
+import io.github.alphameo.linear_algebra.vec.VectorMath;
+
+/**
+ * TestLinalgExecutor
+ */
+public class TestLinalgExecutor {
+
+    private static List<Matrix> matrices(int count) {
+        List<Matrix> ms = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ms.add(new Mat(new float[][] {
+                    { i + 2, 1, 0 },
+                    { 1, 3, 1 },
+                    { 0, 1, 4 }
+            }));
+        }
+
+        return ms;
+    }
+
+    @Test
+    public void testBatches() {
+        List<Matrix> ms = matrices(100);
+        List<Vector> bs = new ArrayList<>();
+        for (int i = 0; i < ms.size(); i++) {
+            bs.add(new Vec(1, i, 2));
+        }
+
+        try (LinalgExecutor executor = new LinalgExecutor(4)) {
+            List<Matrix> inverses = executor.invertAll(ms);
+            float[] dets = executor.detAll(ms);
+            List<Vector> solutions = executor.solveAll(ms, bs);
+
+            for (int i = 0; i < ms.size(); i++) {
+                Assertions.assertTrue(MatrixMath.equals(MatrixMath.inv(ms.get(i)), inverses.get(i)));
+                Assertions.assertEquals(MatrixMath.det(ms.get(i)), dets[i]);
+                Assertions.assertTrue(VectorMath.equalsEpsilon(
+                        bs.get(i), MatrixMath.prodCol(ms.get(i), solutions.get(i)), 1e-4f));
+            }
+        }
+    }
+
+    @Test
+    public void testFailure() {
+        List<Matrix> ms = matrices(50);
+        ms.set(30, new Mat(3, 3));
+
+        try (LinalgExecutor executor = new LinalgExecutor(4)) {
+            executor.invertAll(ms);
+            Assertions.fail();
+        } catch (RuntimeException e) {
+            Assertions.assertEquals("Invertible matrix does not exist: determinant is 0", e.getMessage());
+        }
+    }
+}
@@ -32,6 +32,7 @@ import org.junit.jupiter.api.Test;
 
 import io.github.alphameo.linear_algebra.vec.Vec3;
 import io.github.alphameo.linear_algebra.vec.Vector3;
+import io.github.alphameo.linear_algebra.vec.Vector3Math;
 
 /**
  * TestMatMath
@@ -575,4 +576,31 @@ public class TestMat3Math {
 
         Assertions.assertEquals(expected, m);
     }
+
+    @Test
+    public void testTransformBuilders() {
+        Vector3 axis = new Vec3(0, 0, 1);
+        Matrix3 r = Matrix3Math.setRotation(new Mat3(), axis, (float) Math.PI / 2);
+        Assertions.assertTrue(Vector3Math.equals(new Vec3(0, 1, 0), Matrix3Math.prodCol(r, new Vec3(1, 0, 0))));
+
+        Matrix3 s = Matrix3Math.setScaling(new Mat3(), 2, 3, 4);
+        Assertions.assertEquals(new Vec3(2, 3, 4), Matrix3Math.prodCol(s, new Vec3(1, 1, 1)));
+
+        Matrix3 expected = Matrix3Math.prod(Matrix3Math.prod(s, r), s);
+        Matrix3 combined = Matrix3Math.scaleAsgn(Matrix3Math.rotateAsgn(new Mat3(s), axis, (float) Math.PI / 2), 2, 3, 4);
+        Assertions.assertTrue(Matrix3Math.equalsEpsilon(expected, combined, 1e-5f));
+    }
+
+    @Test
+    public void testPowExpm() {
+        Matrix3 m = new Mat3(
+                1, 1, 0,
+                0, 1, 2,
+                1, 0, 1);
+
+        Assertions.assertTrue(MatrixMath.equals(MatrixMath.pow(m, 5), Matrix3Math.pow(m, 5)));
+        Assertions.assertTrue(MatrixMath.equalsEpsilon(MatrixMath.pow(m, -3), Matrix3Math.pow(m, -3), 1e-4f));
+        Assertions.assertEquals(unitMatrix(), Matrix3Math.pow(m, 0));
+        Assertions.assertTrue(MatrixMath.equalsEpsilon(MatrixMath.expm(m), Matrix3Math.expm(m), 1e-4f));
+    }
 }
@@ -30,8 +30,13 @@ import static io.github.alphameo.linear_algebra.mat.Matrix4Math.zeroed;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import io.github.alphameo.linear_algebra.Validator;
+import io.github.alphameo.linear_algebra.vec.QuaternionMath;
+import io.github.alphameo.linear_algebra.vec.Vec3;
 import io.github.alphameo.linear_algebra.vec.Vec4;
+import io.github.alphameo.linear_algebra.vec.Vector3;
 import io.github.alphameo.linear_algebra.vec.Vector4;
+import io.github.alphameo.linear_algebra.vec.Vector4Math;
 
 /**
  * TestMatMath
@@ -554,4 +559,150 @@ public class TestMat4Math {
 
         Assertions.assertEquals(expected, m);
     }
+
+    @Test
+    public void testAffineKind() {
+        Assertions.assertEquals(Matrix4Kind.IDENTITY, new AffineMat4().kind());
+        Assertions.assertEquals(Matrix4Kind.TRANSLATION, AffineMat4.translation(1, 2, 3).kind());
+
+        AffineMat4 m = new AffineMat4(new Mat4(
+                0, -1, 0, 5,
+                1, 0, 0, 2,
+                0, 0, 1, 0,
+                0, 0, 0, 1));
+        Assertions.assertEquals(Matrix4Kind.RIGID, m.kind());
+
+        m.set(0, 1, -2);
+        Assertions.assertEquals(Matrix4Kind.AFFINE, m.kind());
+
+        m.set(3, 0, 1);
+        Assertions.assertEquals(Matrix4Kind.GENERAL, m.kind());
+    }
+
+    @Test
+    public void testAffineProd() {
+        Matrix4 m1 = new Mat4(
+                0, -1, 0, 5,
+                1, 0, 0, 2,
+                0, 0, 1, -3,
+                0, 0, 0, 1);
+        Matrix4 m2 = new Mat4(
+                2, 1, 0, 1,
+                0, 3, 4, 2,
+                1, 0, 5, 3,
+                0, 0, 0, 1);
+        AffineMat4 a1 = new AffineMat4(m1);
+        AffineMat4 a2 = new AffineMat4(m2);
+        AffineMat4 t = AffineMat4.translation(1, 2, 3);
+
+        Matrix4 result = prod(a1, a2);
+        Assertions.assertTrue(Matrix4Math.equals(prod(m1, m2), result));
+        Assertions.assertEquals(Matrix4Kind.AFFINE, ((AffineMat4) result).kind());
+
+        result = prod(a1, t);
+        Assertions.assertTrue(Matrix4Math.equals(prod(m1, new Mat4(t)), result));
+        Assertions.assertEquals(Matrix4Kind.RIGID, ((AffineMat4) result).kind());
+
+        result = prod(t, AffineMat4.translation(-1, 1, 0));
+        Assertions.assertTrue(Matrix4Math.equals(AffineMat4.translation(0, 3, 3), result));
+        Assertions.assertTrue(Matrix4Math.equals(m2, prod(new AffineMat4(), a2)));
+
+        Vector4 v = new Vec4(1, 2, 4, 1);
+        Assertions.assertEquals(prodCol(m2, v), prodCol(a2, v));
+        Assertions.assertEquals(new Vec4(2, 4, 7, 1), prodCol(t, v));
+    }
+
+    @Test
+    public void testAffineInvert() {
+        Matrix4 rigid = new Mat4(
+                0, -1, 0, 5,
+                1, 0, 0, 2,
+                0, 0, 1, -3,
+                0, 0, 0, 1);
+        Matrix4 affine = new Mat4(
+                2, 1, 0, 1,
+                0, 3, 4, 2,
+                1, 0, 5, 3,
+                0, 0, 0, 1);
+
+        Assertions.assertTrue(Matrix4Math.equals(inv(rigid), inv(new AffineMat4(rigid))));
+        Assertions.assertTrue(Matrix4Math.equals(inv(affine), inv(new AffineMat4(affine))));
+        Assertions.assertTrue(Matrix4Math.equals(
+                AffineMat4.translation(-1, -2, -3), inv(AffineMat4.translation(1, 2, 3))));
+
+        try {
+            inv(new AffineMat4(new Mat4(
+                    1, 2, 3, 1,
+                    2, 4, 6, 1,
+                    0, 1, 0, 1,
+                    0, 0, 0, 1)));
+            Assertions.fail();
+        } catch (RuntimeException e) {
+        }
+    }
+
+    @Test
+    public void testTransformBuilders() {
+        Matrix4 m = new Mat4();
+        Vector3 axis = new Vec3(1, 2, 2);
+        float angle = 0.7f;
+
+        Matrix4 expected = QuaternionMath.toMatrix4(QuaternionMath.fromAxisAngle(axis, angle));
+        Assertions.assertTrue(Matrix4Math.equalsEpsilon(expected, Matrix4Math.setRotation(m, axis, angle), 1e-5f));
+
+        Matrix4 t = Matrix4Math.setTranslation(new Mat4(), 1, 2, 3);
+        Matrix4 s = Matrix4Math.setScaling(new Mat4(), 2, 3, 4);
+        Assertions.assertEquals(new Vec4(3, 5, 7, 1), prodCol(t, new Vec4(2, 3, 4, 1)));
+        Assertions.assertEquals(new Vec4(4, 9, 16, 1), prodCol(s, new Vec4(2, 3, 4, 1)));
+
+        Matrix4 composed = prod(prod(prod(s, t), expected), s);
+        Matrix4 combined = Matrix4Math.scaleAsgn(Matrix4Math.rotateAsgn(
+                Matrix4Math.translateAsgn(new Mat4(s), 1, 2, 3), axis, angle), 2, 3, 4);
+        Assertions.assertTrue(Matrix4Math.equalsEpsilon(composed, combined, 1e-4f));
+    }
+
+    @Test
+    public void testCameraBuilders() {
+        Matrix4 view = Matrix4Math.setLookAt(new Mat4(),
+                new Vec3(0, 0, 5), new Vec3(0, 0, 0), new Vec3(0, 1, 0));
+        Assertions.assertTrue(Matrix4Math.equals(Matrix4Math.setTranslation(new Mat4(), 0, 0, -5), view));
+
+        view = Matrix4Math.setLookAt(new Mat4(), new Vec3(3, 0, 0), new Vec3(0, 0, 0), new Vec3(0, 1, 0));
+        Vector4 origin = prodCol(view, new Vec4(0, 0, 0, 1));
+        Assertions.assertTrue(Vector4Math.equals(new Vec4(0, 0, -3, 1), origin));
+
+        Matrix4 projection = Matrix4Math.setPerspective(new Mat4(), (float) Math.PI / 2, 1, 1, 10);
+        Vector4 near = prodCol(projection, new Vec4(1, 1, -1, 1));
+        Vector4 far = prodCol(projection, new Vec4(0, 0, -10, 1));
+        Assertions.assertTrue(Validator.equalsEpsilon(-1, near.z() / near.w(), 1e-5f));
+        Assertions.assertTrue(Validator.equalsEpsilon(1, near.x() / near.w(), 1e-5f));
+        Assertions.assertTrue(Validator.equalsEpsilon(1, far.z() / far.w(), 1e-5f));
+
+        Matrix4 ortho = Matrix4Math.setOrthographic(new Mat4(), -2, 2, -1, 1, 1, 3);
+        Assertions.assertTrue(Vector4Math.equals(new Vec4(1, -1, 1, 1), prodCol(ortho, new Vec4(2, -1, -3, 1))));
+
+        try {
+            Matrix4Math.setLookAt(new Mat4(), new Vec3(0, 0, 0), new Vec3(0, 5, 0), new Vec3(0, 1, 0));
+            Assertions.fail();
+        } catch (ArithmeticException e) {
+        }
+        try {
+            Matrix4Math.setPerspective(new Mat4(), 1, 1, 2, 2);
+            Assertions.fail();
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
+    @Test
+    public void testPowExpm() {
+        Matrix4 m = new Mat4(
+                1, 1, 0, 0,
+                0, 1, 2, 0,
+                1, 0, 1, 0,
+                0, 0, 1, 1);
+
+        Assertions.assertTrue(MatrixMath.equals(MatrixMath.pow(m, 6), Matrix4Math.pow(m, 6)));
+        Assertions.assertTrue(MatrixMath.equalsEpsilon(MatrixMath.pow(m, -2), Matrix4Math.pow(m, -2), 1e-4f));
+        Assertions.assertTrue(MatrixMath.equalsEpsilon(MatrixMath.expm(m), Matrix4Math.expm(m), 1e-3f));
+    }
 }
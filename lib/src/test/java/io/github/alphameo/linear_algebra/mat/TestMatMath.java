@@ -15,6 +15,7 @@ import static io.github.alphameo.linear_algebra.mat.MatrixMath.mulAsgn;
 import static io.github.alphameo.linear_algebra.mat.MatrixMath.prod;
 import static io.github.alphameo.linear_algebra.mat.MatrixMath.prodCol;
 import static io.github.alphameo.linear_algebra.mat.MatrixMath.prodRow;
+import static io.github.alphameo.linear_algebra.mat.MatrixMath.solve;
 import static io.github.alphameo.linear_algebra.mat.MatrixMath.square;
 import static io.github.alphameo.linear_algebra.mat.MatrixMath.sub;
 import static io.github.alphameo.linear_algebra.mat.MatrixMath.subAsgn;
@@ -26,6 +27,9 @@ import static io.github.alphameo.linear_algebra.mat.MatrixMath.transposed;
 import static io.github.alphameo.linear_algebra.mat.MatrixMath.triangulate;
 import static io.github.alphameo.linear_algebra.mat.MatrixMath.zeroed;
 
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -53,6 +57,55 @@ public class TestMatMath {
         Assertions.assertEquals(expected, transposed(m));
     }
 
+    @Test
+    public void testTransposeInPlace() {
+        Matrix m = new Mat(new float[][] {
+                { 1, 2, 3 },
+                { 4, 5, 6 }
+        });
+        Matrix expected = new Mat(new float[][] {
+                { 1, 4 },
+                { 2, 5 },
+                { 3, 6 }
+        });
+
+        Assertions.assertEquals(expected, m.transpose());
+        Assertions.assertEquals(3, m.height());
+        Assertions.assertEquals(2, m.width());
+    }
+
+    @Test
+    public void testTransposeLarge() {
+        Matrix rect = new Mat(45, 70);
+        Matrix square = new Mat(67);
+        for (int r = 0; r < rect.height(); r++) {
+            for (int c = 0; c < rect.width(); c++) {
+                rect.set(r, c, r * 100 + c);
+            }
+        }
+        for (int r = 0; r < square.height(); r++) {
+            for (int c = 0; c < square.width(); c++) {
+                square.set(r, c, r * 100 + c);
+            }
+        }
+
+        Matrix rectTransposed = transposed(rect);
+        Matrix squareTransposed = transposed(square);
+        for (int r = 0; r < rect.height(); r++) {
+            for (int c = 0; c < rect.width(); c++) {
+                Assertions.assertEquals(rect.get(r, c), rectTransposed.get(c, r));
+            }
+        }
+        for (int r = 0; r < square.height(); r++) {
+            for (int c = 0; c < square.width(); c++) {
+                Assertions.assertEquals(square.get(r, c), squareTransposed.get(c, r));
+            }
+        }
+
+        Assertions.assertEquals(rectTransposed, rect.transpose());
+        Assertions.assertEquals(squareTransposed, MatrixMath.transposeSquare(square));
+    }
+
     @Test
     public void testSwapRows() {
         Matrix m = new Mat(new float[][] {
@@ -226,6 +279,125 @@ public class TestMatMath {
         }
     }
 
+    @Test
+    public void testProdTransposed() {
+        Matrix m1 = new Mat(new float[][] {
+                { 1, 2, 3 },
+                { 4, 5, 6 }
+        });
+        Matrix m2 = new Mat(new float[][] {
+                { 3, 2, 1 },
+                { 6, 5, 4 }
+        });
+
+        Assertions.assertEquals(prod(transposed(m1), m2), prod(m1, true, m2, false));
+        Assertions.assertEquals(prod(m1, transposed(m2)), prod(m1, false, m2, true));
+        Assertions.assertEquals(prod(transposed(m1), m2), prod(m1, true, transposed(m2), true));
+        Assertions.assertEquals(prod(m1, transposed(m2)), prod(m1, false, transposed(m2), false));
+    }
+
+    @Test
+    public void testGemm() {
+        Matrix m1 = new Mat(new float[][] {
+                { 1, 2, 3 },
+                { 4, 5, 6 }
+        });
+        Matrix m2 = new Mat3(
+                3, 2, 1,
+                6, 5, 4,
+                9, 8, 7);
+        Matrix target = new Mat(new float[][] {
+                { 1, 1 },
+                { 1, 1 },
+                { 1, 1 }
+        });
+
+        Matrix expected = add(mul(prod(transposed(m2), transposed(m1)), 2), mul(target, 3));
+
+        Assertions.assertEquals(expected, MatrixMath.gemm(2, m2, true, m1, true, 3, target));
+        Assertions.assertEquals(expected, target);
+    }
+
+    @Test
+    public void testProdNonFinite() {
+        Matrix zeros = new Mat(new float[][] {
+                { 0, 1 },
+                { 1, 0 }
+        });
+        Matrix infinite = new Mat(new float[][] {
+                { Float.POSITIVE_INFINITY, 1 },
+                { 1, Float.NaN }
+        });
+
+        for (boolean t1 : new boolean[] { false, true }) {
+            for (boolean t2 : new boolean[] { false, true }) {
+                Matrix product = prod(t1 ? transposed(zeros) : zeros, t1, t2 ? transposed(infinite) : infinite, t2);
+                Assertions.assertTrue(Float.isNaN(product.get(0, 0)));
+                Assertions.assertTrue(Float.isNaN(product.get(1, 1)));
+
+                product = prod(t1 ? transposed(infinite) : infinite, t1, t2 ? transposed(zeros) : zeros, t2);
+                Assertions.assertTrue(Float.isNaN(product.get(0, 0)));
+                Assertions.assertTrue(Float.isNaN(product.get(1, 1)));
+            }
+        }
+        Assertions.assertTrue(Float.isNaN(prod(zeros, infinite).get(0, 0)));
+        Assertions.assertTrue(Float.isNaN(MatrixMath.prodStrassen(zeros, infinite).get(0, 0)));
+    }
+
+    @Test
+    public void testGemmException() {
+        Matrix m1 = new Mat(2, 3);
+        Matrix m2 = new Mat(2, 3);
+
+        try {
+            MatrixMath.gemm(1, m1, false, m2, false, 0, new Mat(2, 3));
+            Assertions.fail();
+        } catch (Exception e) {
+            Assertions.assertTrue(true);
+        }
+        try {
+            MatrixMath.gemm(1, m1, false, m2, true, 0, new Mat(3, 2));
+            Assertions.fail();
+        } catch (Exception e) {
+            Assertions.assertTrue(true);
+        }
+    }
+
+    @Test
+    public void testProdStrassen() {
+        Matrix m1 = new Mat(9, 7);
+        Matrix m2 = new Mat(7, 10);
+        for (int r = 0; r < m1.height(); r++) {
+            for (int c = 0; c < m1.width(); c++) {
+                m1.set(r, c, (r * 7 + c * 3) % 11 - 5);
+            }
+        }
+        for (int r = 0; r < m2.height(); r++) {
+            for (int c = 0; c < m2.width(); c++) {
+                m2.set(r, c, (r * 5 + c * 2) % 9 - 4);
+            }
+        }
+
+        Matrix expected = prod(m1, m2);
+
+        Assertions.assertEquals(expected, MatrixMath.prodStrassen(m1, m2));
+        Assertions.assertEquals(expected, MatrixMath.prodStrassen(m1, m2, 2, null));
+        Assertions.assertEquals(expected, MatrixMath.prodStrassen(m1, m2, 1, ForkJoinPool.commonPool()));
+    }
+
+    @Test
+    public void testProdStrassenException() {
+        Matrix m1 = new Mat(3, 2);
+        Matrix m2 = new Mat(3, 2);
+
+        try {
+            MatrixMath.prodStrassen(m1, m2);
+            Assertions.fail();
+        } catch (Exception e) {
+            Assertions.assertTrue(true);
+        }
+    }
+
     @Test
     public void testProdVec() {
         Matrix m = new Mat(new float[][] {
@@ -241,6 +413,73 @@ public class TestMatMath {
         Assertions.assertEquals(expected, prod(m, v));
     }
 
+    @Test
+    public void testProdChain() {
+        Matrix m1 = new Mat(new float[][] {
+                { 1, 2 },
+                { 3, 4 },
+                { 5, 6 }
+        });
+        Matrix m2 = new Mat(new float[][] {
+                { 1, 0, 2, 1 },
+                { 0, 1, 1, 3 }
+        });
+        Matrix m3 = new Mat(new float[][] {
+                { 1 },
+                { 2 },
+                { 0 },
+                { 1 }
+        });
+        Matrix m4 = new Mat(new float[][] {
+                { 2, 1, 1 }
+        });
+
+        Assertions.assertEquals(prod(prod(prod(m1, m2), m3), m4), MatrixMath.prodChain(m1, m2, m3, m4));
+        Assertions.assertEquals(m1, MatrixMath.prodChain(m1));
+    }
+
+    @Test
+    public void testProdChainException() {
+        Matrix m1 = new Mat(new float[][] {
+                { 1, 2 },
+                { 3, 4 }
+        });
+        Matrix m2 = new Mat(new float[][] {
+                { 1, 2, 3 }
+        });
+
+        try {
+            MatrixMath.prodChain(m1, m2);
+            Assertions.fail();
+        } catch (Exception e) {
+            Assertions.assertTrue(true);
+        }
+    }
+
+    @Test
+    public void testProdChainCol() {
+        Matrix m1 = new Mat(new float[][] {
+                { 1, 2, 3 },
+                { 4, 5, 6 }
+        });
+        Matrix m2 = new Mat(new float[][] {
+                { 3, 2, 1 },
+                { 6, 5, 4 },
+                { 9, 8, 7 }
+        });
+        Matrix m3 = new Mat(new float[][] {
+                { 1, 0 },
+                { 2, 1 },
+                { 0, 3 }
+        });
+        Vector v = new Vec(1, 2);
+
+        Vector expected = prodCol(prod(prod(m1, m2), m3), v);
+
+        Assertions.assertEquals(expected, MatrixMath.prodChainCol(v, m1, m2, m3));
+        Assertions.assertEquals(prodCol(m3, v), MatrixMath.prodChainCol(v, m3));
+    }
+
     @Test
     public void testProdVecException() {
         Matrix m = new Mat(new float[][] {
@@ -414,6 +653,27 @@ public class TestMatMath {
         Assertions.assertEquals(expected, inv(m));
     }
 
+    @Test
+    public void testSolve() {
+        Matrix m = new Mat(new float[][] {
+                { 0, 2, 1 },
+                { 1, 1, 1 },
+                { 2, 1, 0 }
+        });
+
+        Assertions.assertEquals(new Vec(1, 2, 1), solve(m, new Vec(5, 4, 4)));
+    }
+
+    @Test
+    public void testSolveException() {
+        try {
+            solve(new Mat(2, 2), new Vec(1, 1));
+            Assertions.fail();
+        } catch (RuntimeException e) {
+            Assertions.assertTrue(true);
+        }
+    }
+
     @Test
     public void testMinorMatrix1() {
         Matrix m = new Mat(new float[][] {
@@ -687,4 +947,271 @@ public class TestMatMath {
             Assertions.assertTrue(true);
         }
     }
+
+    @Test
+    public void testRowsStream() {
+        Matrix m = new Mat(new float[][] {
+                { 1, 2, 3 },
+                { 4, 5, 6 }
+        });
+        MatrixMath.rows(m).forEach(row -> {
+            Assertions.assertEquals(3, row.size());
+            row.set(0, 0);
+        });
+        Matrix expected = new Mat(new float[][] {
+                { 0, 2, 3 },
+                { 0, 5, 6 }
+        });
+        Assertions.assertEquals(expected, m);
+
+        List<Vector> rows = MatrixMath.rows(m).toList();
+        Assertions.assertEquals(new Vec(0, 2, 3), rows.get(0).clone());
+        Assertions.assertEquals(new Vec(0, 5, 6), rows.get(1).clone());
+
+        Object row = rows.get(0);
+        Assertions.assertEquals(row, MatrixMath.rows(m).findFirst().get());
+        Assertions.assertFalse(row.equals(new Vec(0, 2, 3)));
+        Assertions.assertFalse(new Vec(0, 2, 3).equals(row));
+        Assertions.assertFalse(row.equals(MatrixMath.rows(new Mat(1, 2)).findFirst().get()));
+    }
+
+    @Test
+    public void testElementStream() {
+        Mat m = new Mat(64, 64);
+        for (int r = 0; r < 64; r++) {
+            for (int c = 0; c < 64; c++) {
+                m.set(r, c, r * 64 + c);
+            }
+        }
+        double expected = 4095.0 * 4096 / 2;
+
+        Assertions.assertEquals(expected, MatrixMath.elementStream(m).sum());
+        Assertions.assertEquals(expected, MatrixMath.elementStream(m).parallel().sum());
+        Assertions.assertEquals(expected, MatrixMath.elementStream(new VersionedMat(m)).parallel().sum());
+        Assertions.assertEquals(5.0, MatrixMath.elementStream(m).skip(5).findFirst().getAsDouble());
+    }
+
+    @Test
+    public void testMapZipReduce() {
+        Matrix m = new Mat(new float[][] {
+                { -1, 2 },
+                { 3, -4 }
+        });
+        Matrix relu = m.map(x -> Math.max(0, x));
+        Matrix expected = new Mat(new float[][] {
+                { 0, 2 },
+                { 3, 0 }
+        });
+        Assertions.assertEquals(expected, relu);
+
+        Matrix versioned = new VersionedMat(m.clone());
+        versioned.zipAsgn(relu, (a, b) -> a * b);
+        expected = new Mat(new float[][] {
+                { 0, 4 },
+                { 9, 0 }
+        });
+        Assertions.assertTrue(MatrixMath.equals(expected, versioned));
+        Assertions.assertEquals(13, versioned.reduce(0, Float::sum));
+        Assertions.assertEquals(-4, m.reduce(Float.MAX_VALUE, Math::min));
+
+        try {
+            m.zipAsgn(new Mat(2, 3), Float::sum);
+            Assertions.fail();
+        } catch (IllegalArgumentException e) {
+            Assertions.assertTrue(true);
+        }
+    }
+
+    @Test
+    public void testMapZipReduceParallel() {
+        Mat m = new Mat(512, 512);
+        m.mapAsgn(x -> 1);
+        Mat twos = new Mat(512, 512);
+        twos.mapAsgn(x -> 2);
+        m.zipAsgn(twos, (a, b) -> a + b);
+
+        Assertions.assertEquals(3 * 512 * 512, m.reduce(0, Float::sum));
+        Assertions.assertEquals(3, m.reduce(-Float.MAX_VALUE, Math::max));
+    }
+
+    @Test
+    public void testNormsAndSums() {
+        Matrix m = new Mat(new float[][] {
+                { 1, -2, 3 },
+                { -4, 5, -6 },
+                { 7, 8, 9 }
+        });
+        Matrix generic = new VersionedMat(m.clone());
+
+        Assertions.assertEquals(15, MatrixMath.trace(m));
+        Assertions.assertEquals((float) Math.sqrt(285), MatrixMath.normFrobenius(m), Validator.EPS);
+        Assertions.assertEquals((float) Math.sqrt(285), MatrixMath.normFrobenius(generic), Validator.EPS);
+        Assertions.assertEquals(18, MatrixMath.norm1(m));
+        Assertions.assertEquals(18, MatrixMath.norm1(generic));
+        Assertions.assertEquals(24, MatrixMath.normInf(m));
+        Assertions.assertEquals(24, MatrixMath.normInf(generic));
+        Assertions.assertEquals(new Vec(2, -5, 24), MatrixMath.rowSums(m));
+        Assertions.assertEquals(new Vec(2, -5, 24), MatrixMath.rowSums(generic));
+        Assertions.assertEquals(new Vec(4, 11, 6), MatrixMath.colSums(m));
+        Assertions.assertEquals(new Vec(4, 11, 6), MatrixMath.colSums(generic));
+        Assertions.assertEquals(8, MatrixMath.argMax(m));
+        Assertions.assertEquals(5, MatrixMath.argMin(generic));
+        Assertions.assertEquals(-6, MatrixMath.min(m));
+        Assertions.assertEquals(9, MatrixMath.max(generic));
+
+        try {
+            MatrixMath.rowSums(m, new Vec(2));
+            Assertions.fail();
+        } catch (IllegalArgumentException e) {
+            Assertions.assertTrue(true);
+        }
+        try {
+            MatrixMath.trace(new Mat(2, 3));
+            Assertions.fail();
+        } catch (UnsupportedOperationException e) {
+            Assertions.assertTrue(true);
+        }
+    }
+
+    @Test
+    public void testNormsAndSumsParallel() {
+        int n = 300;
+        Mat m = new Mat(n, n);
+        for (int r = 0; r < n; r++) {
+            for (int c = 0; c < n; c++) {
+                m.set(r, c, (r + c) % 2 == 0 ? 1 : -1);
+            }
+        }
+        m.set(123, 45, 10);
+        m.set(200, 7, -10);
+
+        Assertions.assertEquals(123 * n + 45, MatrixMath.argMax(m));
+        Assertions.assertEquals(200 * n + 7, MatrixMath.argMin(m));
+        Assertions.assertEquals(n + 9, MatrixMath.normInf(m));
+        Assertions.assertEquals((float) Math.sqrt(n * n - 2 + 200), MatrixMath.normFrobenius(m), 1e-3f);
+        Vector rows = MatrixMath.rowSums(m);
+        Assertions.assertEquals(9, rows.get(123));
+        Assertions.assertEquals(0, rows.get(0));
+    }
+
+    @Test
+    public void testBroadcastOps() {
+        Matrix m = new Mat(new float[][] {
+                { 1, 2, 3 },
+                { 4, 5, 6 }
+        });
+        Matrix generic = new VersionedMat(m.clone());
+
+        Matrix expected = new Mat(new float[][] {
+                { 1, 4, 9 },
+                { 16, 25, 36 }
+        });
+        Assertions.assertEquals(expected, MatrixMath.hadamard(m, m));
+
+        expected = new Mat(new float[][] {
+                { 11, 22, 33 },
+                { 14, 25, 36 }
+        });
+        Assertions.assertEquals(expected, MatrixMath.addRowVectorAsgn(m.clone(), new Vec(10, 20, 30)));
+        Assertions.assertTrue(MatrixMath.equals(expected,
+                MatrixMath.addRowVectorAsgn(generic.clone(), new Vec(10, 20, 30))));
+
+        expected = new Mat(new float[][] {
+                { 2, 3, 4 },
+                { 6, 7, 8 }
+        });
+        Assertions.assertEquals(expected, MatrixMath.addColVectorAsgn(m.clone(), new Vec(1, 2)));
+        Assertions.assertTrue(MatrixMath.equals(expected, MatrixMath.addColVectorAsgn(generic.clone(), new Vec(1, 2))));
+
+        expected = new Mat(new float[][] {
+                { 2, 4, 6 },
+                { -4, -5, -6 }
+        });
+        Assertions.assertEquals(expected, MatrixMath.scaleRowsAsgn(m.clone(), new Vec(2, -1)));
+        Assertions.assertTrue(MatrixMath.equals(expected, MatrixMath.scaleRowsAsgn(generic.clone(), new Vec(2, -1))));
+
+        expected = new Mat(new float[][] {
+                { 3, 4, 5 },
+                { 10, 11, 12 }
+        });
+        Assertions.assertEquals(expected, MatrixMath.ger(m.clone(), 2, new Vec(1, 3), new Vec(1, 1, 1)));
+        Assertions.assertTrue(MatrixMath.equals(expected,
+                MatrixMath.ger(generic.clone(), 2, new Vec(1, 3), new Vec(1, 1, 1))));
+
+        try {
+            MatrixMath.addRowVectorAsgn(m, new Vec(1, 2));
+            Assertions.fail();
+        } catch (IllegalArgumentException e) {
+            Assertions.assertTrue(true);
+        }
+        try {
+            MatrixMath.ger(m, 1, new Vec(1, 2, 3), new Vec(1, 2, 3));
+            Assertions.fail();
+        } catch (IllegalArgumentException e) {
+            Assertions.assertTrue(true);
+        }
+    }
+
+    @Test
+    public void testPow() {
+        Matrix m = new Mat(new float[][] {
+                { 1, 1, 0 },
+                { 0, 1, 2 },
+                { 1, 0, 1 }
+        });
+        Matrix expected = MatrixMath.unitMatrix(3);
+        for (int i = 0; i < 7; i++) {
+            expected = prod(expected, m);
+        }
+
+        Matrix power = MatrixMath.pow(m, 7);
+        Assertions.assertEquals(expected, power);
+        MatrixMath.pow(MatrixMath.mul(m, 2), 6);
+        MatrixMath.expm(m);
+        Assertions.assertEquals(expected, power);
+        Assertions.assertEquals(MatrixMath.unitMatrix(3), MatrixMath.pow(m, 0));
+        Assertions.assertTrue(MatrixMath.equalsEpsilon(MatrixMath.unitMatrix(3),
+                prod(MatrixMath.pow(m, -2), prod(m, m)), 1e-4f));
+
+        try {
+            MatrixMath.pow(new Mat(2, 3), 2);
+            Assertions.fail();
+        } catch (UnsupportedOperationException e) {
+            Assertions.assertTrue(true);
+        }
+    }
+
+    @Test
+    public void testExpm() {
+        Matrix nilpotent = new Mat(new float[][] {
+                { 0, 1 },
+                { 0, 0 }
+        });
+        Matrix expected = new Mat(new float[][] {
+                { 1, 1 },
+                { 0, 1 }
+        });
+        Assertions.assertTrue(MatrixMath.equals(expected, MatrixMath.expm(nilpotent)));
+
+        Matrix diagonal = new Mat(new float[][] {
+                { 2, 0 },
+                { 0, -1 }
+        });
+        expected = new Mat(new float[][] {
+                { (float) Math.exp(2), 0 },
+                { 0, (float) Math.exp(-1) }
+        });
+        Assertions.assertTrue(MatrixMath.equalsEpsilon(expected, MatrixMath.expm(diagonal), 1e-5f));
+
+        float t = 5;
+        Matrix generator = new Mat(new float[][] {
+                { 0, -t },
+                { t, 0 }
+        });
+        expected = new Mat(new float[][] {
+                { (float) Math.cos(t), (float) -Math.sin(t) },
+                { (float) Math.sin(t), (float) Math.cos(t) }
+        });
+        Assertions.assertTrue(MatrixMath.equalsEpsilon(expected, MatrixMath.expm(generator), 1e-4f));
+    }
 }
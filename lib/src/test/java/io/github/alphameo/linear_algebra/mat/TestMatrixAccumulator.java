@@ -0,0 +1,64 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * TestMatrixAccumulator
+ */
+public class TestMatrixAccumulator {
+
+    @Test
+    public void testAdd() {
+        MatrixAccumulator acc = new MatrixAccumulator(2, 2);
+        acc.add(0, 1, 2);
+        acc.addAsgn(new Mat(new float[][] {
+                { 1, 1 },
+                { 1, 1 }
+        }));
+
+        Matrix expected = new Mat(new float[][] {
+                { 1, 3 },
+                { 1, 1 }
+        });
+        Assertions.assertEquals(expected, acc.snapshot());
+
+        acc.reset();
+        Assertions.assertTrue(MatrixMath.zeroed(acc.snapshot()));
+
+        try {
+            acc.addAsgn(new Mat(2, 3));
+            Assertions.fail();
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
+    @Test
+    public void testConcurrentAdd() throws InterruptedException {
+        MatrixAccumulator acc = new MatrixAccumulator(16, 16, 4);
+        Matrix ones = new Mat(16, 16);
+        for (int r = 0; r < 16; r++) {
+            for (int c = 0; c < 16; c++) {
+                ones.set(r, c, 1);
+            }
+        }
+
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    acc.addAsgn(ones);
+                    acc.add(i % 10, 0, 1);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Matrix sum = acc.snapshot();
+        Assertions.assertEquals(8000 + 800, sum.get(3, 0));
+        Assertions.assertEquals(8000, sum.get(3, 1));
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.github.alphameo.linear_algebra.vec.Vec;
+import io.github.alphameo.linear_algebra.vec.Vector;
+import io.github.alphameo.linear_algebra.vec.VectorMath;
+
+/**
+ * TestPackedMat
+ */
+public class TestPackedMat {
+
+    private static final Matrix DENSE = new Mat(new float[][] {
+            { 4, 1, 2, 3 },
+            { 5, 6, 1, 2 },
+            { 7, 8, 9, 1 },
+            { 1, 2, 3, 5 }
+    });
+
+    @Test
+    public void testSymmetric() {
+        SymmetricMat m = new SymmetricMat(DENSE);
+        Matrix dense = new Mat(m);
+        Vector x = new Vec(1, -2, 3, -4);
+
+        Assertions.assertEquals(1, m.get(1, 0));
+        Assertions.assertEquals(m.get(0, 1), m.get(1, 0));
+        Assertions.assertTrue(VectorMath.equals(MatrixMath.prodCol(dense, x), MatrixMath.prodCol(m, x)));
+        Assertions.assertTrue(VectorMath.equals(MatrixMath.prodRow(dense, x), MatrixMath.prodRow(m, x)));
+        Assertions.assertTrue(MatrixMath.equals(MatrixMath.prod(dense, DENSE), MatrixMath.prod(m, DENSE)));
+
+        Assertions.assertTrue(MatrixMath.equals(MatrixMath.add(dense, DENSE), MatrixMath.add(m, DENSE)));
+        Assertions.assertTrue(MatrixMath.equals(MatrixMath.swappedCols(dense, 0, 1), MatrixMath.swappedCols(m, 0, 1)));
+
+        m.set(3, 0, 10);
+        Assertions.assertEquals(10, m.get(0, 3));
+        Assertions.assertSame(m, m.transpose());
+    }
+
+    @Test
+    public void testTriangular() {
+        Vector x = new Vec(1, -2, 3, -4);
+        for (boolean upper : new boolean[] { true, false }) {
+            for (boolean unit : new boolean[] { true, false }) {
+                TriangularMat m = new TriangularMat(DENSE, upper, unit);
+                Matrix dense = new Mat(m);
+
+                Assertions.assertEquals(upper ? 0 : 5, m.get(1, 0));
+                Assertions.assertEquals(unit ? 1 : 6, m.get(1, 1));
+                Assertions.assertTrue(VectorMath.equals(MatrixMath.prodCol(dense, x), MatrixMath.prodCol(m, x)));
+                Assertions.assertTrue(VectorMath.equals(MatrixMath.prodRow(dense, x), MatrixMath.prodRow(m, x)));
+                Assertions.assertTrue(MatrixMath.equals(MatrixMath.prod(dense, DENSE), MatrixMath.prod(m, DENSE)));
+                Assertions.assertTrue(MatrixMath.equals(MatrixMath.add(dense, DENSE), MatrixMath.add(m, DENSE)));
+                Assertions.assertTrue(VectorMath.equalsEpsilon(MatrixMath.solve(dense, x), MatrixMath.solve(m, x),
+                        1e-4f));
+                Assertions.assertTrue(MatrixMath.equalsEpsilon(MatrixMath.solve(dense, DENSE),
+                        MatrixMath.solve(m, DENSE), 1e-3f));
+
+                Matrix transposed = m.clone().transpose();
+                Assertions.assertTrue(MatrixMath.equals(MatrixMath.transposed(dense), transposed));
+                Assertions.assertEquals(!upper, ((TriangularMat) transposed).upper());
+            }
+        }
+    }
+
+    @Test
+    public void testTriangularSetDenied() {
+        TriangularMat m = new TriangularMat(3, true, true);
+        m.set(0, 2, 5);
+        m.set(2, 0, 0);
+        try {
+            m.set(2, 0, 1);
+            Assertions.fail();
+        } catch (UnsupportedOperationException e) {
+            Assertions.assertTrue(true);
+        }
+        try {
+            m.set(1, 1, 2);
+            Assertions.fail();
+        } catch (UnsupportedOperationException e) {
+            Assertions.assertTrue(true);
+        }
+    }
+
+    @Test
+    public void testEmpty() {
+        Matrix[] empty = {
+                new SymmetricMat(0),
+                new TriangularMat(0, true, false),
+                new TridiagonalMat(0),
+                new BandedMat(0, 1, 2)
+        };
+        for (Matrix m : empty) {
+            Assertions.assertEquals(0, m.height());
+            Assertions.assertEquals(0, MatrixMath.prodCol(m, new Vec(0)).size());
+        }
+        Assertions.assertEquals(0, MatrixMath.solve(new TridiagonalMat(0), new Vec(0)).size());
+
+        try {
+            new TridiagonalMat(-1);
+            Assertions.fail();
+        } catch (IllegalArgumentException e) {
+            Assertions.assertTrue(true);
+        }
+    }
+
+    @Test
+    public void testSolveMatrix() {
+        Matrix x = MatrixMath.solve(DENSE, MatrixMath.unitMatrix(4));
+        Assertions.assertTrue(MatrixMath.equalsEpsilon(MatrixMath.inv(DENSE), x, 1e-4f));
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.github.alphameo.linear_algebra.vec.Vec;
+import io.github.alphameo.linear_algebra.vec.Vector;
+import io.github.alphameo.linear_algebra.vec.VectorMath;
+
+/**
+ * TestQuantizedMat
+ */
+public class TestQuantizedMat {
+
+    @Test
+    public void testQuantization() {
+        Matrix m = new Mat(new float[][] {
+                { -1, 0, 1, 0.5f },
+                { 0, 0, 0, 0 },
+                { 10, 20, 30, 40 }
+        });
+        QuantizedMat q = new QuantizedMat(m);
+
+        Assertions.assertTrue(MatrixMath.equalsEpsilon(m, q, 0.1f));
+        Assertions.assertEquals(0, q.get(0, 1));
+        Assertions.assertEquals(0, q.get(1, 3));
+        Assertions.assertEquals(40f / 255, q.scale(2), 1e-6f);
+        Assertions.assertEquals(-128, q.zeroPoint(2));
+
+        q.set(0, 0, 0.25f);
+        Assertions.assertEquals(0.25f, q.get(0, 0), 0.01f);
+        q.set(0, 0, 100);
+        Assertions.assertEquals(100, q.get(0, 0), 0.5f);
+        Assertions.assertEquals(1, q.get(0, 2), 0.5f);
+        Assertions.assertEquals(100f / 255, q.scale(0), 1e-5f);
+
+        Matrix copy = q.clone();
+        Assertions.assertEquals(q, copy);
+        copy.transpose();
+        Assertions.assertEquals(4, copy.height());
+        Assertions.assertEquals(30, copy.get(2, 2), 0.2f);
+    }
+
+    @Test
+    public void testValueOperations() {
+        QuantizedMat q = new QuantizedMat(new Mat(new float[][] {
+                { 0, 1 },
+                { 0, 1 }
+        }));
+        Matrix fives = new Mat(new float[][] {
+                { 5, 5 },
+                { 5, 5 }
+        });
+
+        Matrix expected = new Mat(new float[][] {
+                { 5, 6 },
+                { 5, 6 }
+        });
+        Assertions.assertTrue(MatrixMath.equals(expected, MatrixMath.add(q, fives)));
+
+        expected = new Mat(new float[][] {
+                { -5, -4 },
+                { -5, -4 }
+        });
+        Assertions.assertTrue(MatrixMath.equals(expected, MatrixMath.sub(q, fives)));
+
+        expected = new Mat(new float[][] {
+                { 0, 10 },
+                { 0, 10 }
+        });
+        Assertions.assertTrue(MatrixMath.equals(expected, MatrixMath.mul(q, 10)));
+        Assertions.assertTrue(MatrixMath.equals(expected, MatrixMath.map(q, x -> x * 10)));
+        Assertions.assertTrue(MatrixMath.equals(expected, MatrixMath.zip(q, q, (x, y) -> 10 * x * y)));
+        Assertions.assertTrue(MatrixMath.equals(expected, MatrixMath.div(q, 0.1f)));
+        Assertions.assertTrue(MatrixMath.equals(MatrixMath.mul(q, 5), MatrixMath.hadamard(q, fives)));
+
+        Assertions.assertEquals(1, q.get(0, 1));
+        Assertions.assertTrue(MatrixMath.add(q, fives) instanceof Mat);
+    }
+
+    @Test
+    public void testProd() {
+        int height = 24;
+        int width = 40;
+        Mat m = new Mat(height, width);
+        for (int r = 0; r < height; r++) {
+            for (int c = 0; c < width; c++) {
+                m.set(r, c, (float) Math.sin(r * width + c));
+            }
+        }
+        Vector x = new Vec(width);
+        for (int i = 0; i < width; i++) {
+            x.set(i, (float) Math.cos(i));
+        }
+        QuantizedMat q = new QuantizedMat(m);
+
+        Assertions.assertTrue(VectorMath.equalsEpsilon(MatrixMath.prodCol(m, x), MatrixMath.prodCol(q, x), 0.1f));
+
+        Mat other = new Mat(width, 3);
+        for (int r = 0; r < width; r++) {
+            for (int c = 0; c < 3; c++) {
+                other.set(r, c, (float) Math.cos(r + 7 * c));
+            }
+        }
+        Assertions.assertTrue(MatrixMath.equalsEpsilon(MatrixMath.prod(m, other), MatrixMath.prod(q, other), 0.1f));
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.github.alphameo.linear_algebra.vec.Vec;
+import io.github.alphameo.linear_algebra.vec.Vector;
+import io.github.alphameo.linear_algebra.vec.VectorMath;
+
+/**
+ * TestStructuredMat
+ */
+public class TestStructuredMat {
+
+    private static final Matrix DENSE = new Mat(new float[][] {
+            { 1, 2, 3 },
+            { 4, 5, 6 },
+            { 7, 8, 10 }
+    });
+
+    private static void assertStructured(final Matrix structured) {
+        Matrix dense = new Mat(structured);
+        Vector v = new Vec(1, -2, 3);
+
+        Assertions.assertTrue(MatrixMath.equals(MatrixMath.prod(dense, DENSE), MatrixMath.prod(structured, DENSE)));
+        Assertions.assertTrue(MatrixMath.equals(MatrixMath.prod(DENSE, dense), MatrixMath.prod(DENSE, structured)));
+        Assertions.assertTrue(VectorMath.equals(MatrixMath.prodCol(dense, v), MatrixMath.prodCol(structured, v)));
+        Assertions.assertTrue(VectorMath.equals(MatrixMath.prodRow(dense, v), MatrixMath.prodRow(structured, v)));
+        Assertions.assertEquals(MatrixMath.det(dense), MatrixMath.det(structured), 1e-5f);
+        Assertions.assertTrue(MatrixMath.equalsEpsilon(MatrixMath.inv(dense), MatrixMath.inv(structured), 1e-5f));
+        Assertions.assertNotSame(structured, MatrixMath.inv(structured));
+
+        Assertions.assertTrue(MatrixMath.equals(MatrixMath.mul(dense, 2), MatrixMath.mul(structured, 2)));
+        Assertions.assertTrue(MatrixMath.equals(MatrixMath.div(dense, 2), MatrixMath.div(structured, 2)));
+        Assertions.assertTrue(MatrixMath.equals(MatrixMath.add(DENSE, dense), MatrixMath.add(structured, DENSE)));
+        Assertions.assertTrue(MatrixMath.equals(MatrixMath.sub(dense, DENSE), MatrixMath.sub(structured, DENSE)));
+        Assertions.assertTrue(MatrixMath.equals(MatrixMath.map(dense, x -> x + 1),
+                MatrixMath.map(structured, x -> x + 1)));
+        Assertions.assertTrue(MatrixMath.equals(MatrixMath.zip(dense, DENSE, (x, y) -> x - y),
+                MatrixMath.zip(structured, DENSE, (x, y) -> x - y)));
+        Assertions.assertTrue(MatrixMath.equals(MatrixMath.hadamard(dense, DENSE),
+                MatrixMath.hadamard(structured, DENSE)));
+        Assertions.assertTrue(MatrixMath.equals(MatrixMath.swappedRows(dense, 0, 2),
+                MatrixMath.swappedRows(structured, 0, 2)));
+        Assertions.assertTrue(MatrixMath.equals(dense, structured));
+    }
+
+    @Test
+    public void testIdentity() {
+        IdentityMat m = new IdentityMat(3);
+        assertStructured(m);
+        Assertions.assertTrue(MatrixMath.diagonal(m));
+        Assertions.assertTrue(MatrixMath.equals(MatrixMath.unitMatrix(3), m));
+
+        Assertions.assertNotSame(m, m.clone());
+        Assertions.assertEquals(m, m.clone());
+
+        m.set(1, 1, 1);
+        try {
+            m.set(0, 1, 1);
+            Assertions.fail();
+        } catch (UnsupportedOperationException e) {
+            Assertions.assertTrue(true);
+        }
+    }
+
+    @Test
+    public void testDiagonal() {
+        DiagonalMat m = new DiagonalMat(2, -1, 0.5f);
+        assertStructured(m);
+        Assertions.assertTrue(MatrixMath.diagonal(m));
+        Assertions.assertEquals(-1, MatrixMath.det(m));
+
+        m.set(1, 1, 0);
+        try {
+            MatrixMath.inv(m);
+            Assertions.fail();
+        } catch (RuntimeException e) {
+            Assertions.assertTrue(true);
+        }
+        try {
+            m.set(0, 1, 1);
+            Assertions.fail();
+        } catch (UnsupportedOperationException e) {
+            Assertions.assertTrue(true);
+        }
+    }
+
+    @Test
+    public void testPermutation() {
+        PermutationMat cycle = new PermutationMat(1, 2, 0);
+        PermutationMat swap = new PermutationMat(0, 2, 1);
+        assertStructured(cycle);
+        assertStructured(swap);
+        Assertions.assertEquals(1, cycle.sign());
+        Assertions.assertEquals(-1, swap.sign());
+
+        Matrix transposed = cycle.clone().transpose();
+        Assertions.assertTrue(MatrixMath.equals(MatrixMath.transposed(new Mat(cycle)), transposed));
+
+        try {
+            new PermutationMat(0, 0, 1);
+            Assertions.fail();
+        } catch (IllegalArgumentException e) {
+            Assertions.assertTrue(true);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * TestTransformHierarchy
+ */
+public class TestTransformHierarchy {
+
+    @Test
+    public void testUpdate() {
+        TransformHierarchy h = new TransformHierarchy(1);
+        int root = h.add(TransformHierarchy.ROOT, AffineMat4.translation(1, 0, 0));
+        int child = h.add(root, AffineMat4.translation(0, 2, 0));
+        int leaf = h.add(child, new Mat4(
+                0, -1, 0, 0,
+                1, 0, 0, 0,
+                0, 0, 1, 3,
+                0, 0, 0, 1));
+        int other = h.add(TransformHierarchy.ROOT);
+
+        Assertions.assertEquals(4, h.update());
+        Assertions.assertFalse(h.isDirty(leaf));
+        Assertions.assertTrue(Matrix4Math.equals(
+                Matrix4Math.prod(Matrix4Math.prod(h.local(root), h.local(child)), h.local(leaf)),
+                h.world(leaf)));
+        Assertions.assertTrue(Matrix4Math.equals(new Mat4(h.local(other)), h.world(other, new Mat4())));
+
+        Assertions.assertEquals(0, h.update());
+
+        h.setLocal(child, AffineMat4.translation(0, 0, 5));
+        Assertions.assertTrue(h.isDirty(leaf));
+        Assertions.assertFalse(h.isDirty(other));
+        Assertions.assertEquals(2, h.update());
+        Assertions.assertTrue(Matrix4Math.equals(
+                Matrix4Math.prod(Matrix4Math.prod(h.local(root), h.local(child)), h.local(leaf)),
+                h.world(leaf)));
+    }
+
+    @Test
+    public void testParallelUpdate() {
+        TransformHierarchy sequential = new TransformHierarchy();
+        TransformHierarchy parallel = new TransformHierarchy();
+        for (int i = 0; i < 5000; i++) {
+            int parent = i == 0 ? TransformHierarchy.ROOT : (i - 1) / 4;
+            Matrix4 local = AffineMat4.translation(i % 3, i % 5, i % 7);
+            sequential.add(parent, local);
+            parallel.add(parent, local);
+        }
+
+        Assertions.assertEquals(sequential.update(), parallel.update(ForkJoinPool.commonPool()));
+        sequential.setLocal(1, AffineMat4.translation(1, 1, 1));
+        parallel.setLocal(1, AffineMat4.translation(1, 1, 1));
+        Assertions.assertEquals(sequential.update(), parallel.update(ForkJoinPool.commonPool()));
+        for (int i = 0; i < 5000; i++) {
+            Assertions.assertEquals(sequential.world(i), parallel.world(i));
+        }
+    }
+
+    @Test
+    public void testAddException() {
+        TransformHierarchy h = new TransformHierarchy();
+        try {
+            h.add(0);
+            Assertions.fail();
+        } catch (IllegalArgumentException e) {
+        }
+    }
+}
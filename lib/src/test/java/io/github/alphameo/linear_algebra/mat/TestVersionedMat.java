@@ -0,0 +1,80 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * TestVersionedMat
+ */
+public class TestVersionedMat {
+
+    @Test
+    public void testMemoization() {
+        Matrix plain = new Mat(new float[][] {
+                { 1, 2, 3, 6 },
+                { 4, 12, 6, 0 },
+                { 7, 8, 9, 12 },
+                { 5, 7, 2, 8 }
+        });
+        VersionedMat m = new VersionedMat(plain.clone());
+
+        Assertions.assertEquals(MatrixMath.det(plain), m.det());
+        Assertions.assertEquals(MatrixMath.det(plain), MatrixMath.det(m));
+        Assertions.assertTrue(MatrixMath.equals(MatrixMath.inv(plain), m.inv()));
+
+        Matrix inv = m.inv();
+        inv.set(0, 0, 100);
+        Assertions.assertTrue(MatrixMath.equals(MatrixMath.inv(plain), MatrixMath.inv(m)));
+        Assertions.assertEquals(0, m.version());
+    }
+
+    @Test
+    public void testInvalidation() {
+        VersionedMat m = new VersionedMat(new Mat(new float[][] {
+                { 2, 0 },
+                { 0, 3 }
+        }));
+        Assertions.assertEquals(6, m.det());
+
+        m.set(1, 1, 5);
+        Assertions.assertEquals(1, m.version());
+        Assertions.assertEquals(10, m.det());
+
+        MatrixMath.mulAsgn(m, 2);
+        Assertions.assertEquals(40, m.det());
+        Assertions.assertTrue(MatrixMath.equals(new Mat(new float[][] {
+                { 0.25f, 0 },
+                { 0, 0.1f }
+        }), m.inv()));
+
+        m.unwrap().set(0, 0, 1);
+        m.invalidate();
+        Assertions.assertEquals(10, m.det());
+    }
+
+    @Test
+    public void testNorms() {
+        VersionedMat m = new VersionedMat(new Mat(new float[][] {
+                { 3, -4 },
+                { 0, 1 }
+        }));
+        Assertions.assertEquals((float) Math.sqrt(26), MatrixMath.normFrobenius(m), 1e-6f);
+        Assertions.assertEquals(5, MatrixMath.norm1(m));
+        Assertions.assertEquals(7, m.normInf());
+
+        m.unwrap().set(0, 0, 0);
+        Assertions.assertEquals(5, m.norm1());
+        Assertions.assertEquals(7, MatrixMath.normInf(m));
+
+        m.set(0, 0, 0);
+        Assertions.assertEquals(4, m.normInf());
+        Assertions.assertEquals((float) Math.sqrt(17), m.normFrobenius(), 1e-6f);
+
+        MatrixMath.addAsgn(m, new Mat(new float[][] {
+                { 0, 0 },
+                { 0, 9 }
+        }));
+        Assertions.assertEquals(14, m.norm1());
+        Assertions.assertEquals(10, MatrixMath.normInf(m));
+    }
+}
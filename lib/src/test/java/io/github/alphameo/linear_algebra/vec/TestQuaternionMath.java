@@ -0,0 +1,106 @@
+package io.github.alphameo.linear_algebra.vec;
+
+import static io.github.alphameo.linear_algebra.vec.QuaternionMath.*;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.github.alphameo.linear_algebra.mat.Mat3;
+import io.github.alphameo.linear_algebra.mat.Matrix3;
+import io.github.alphameo.linear_algebra.mat.Matrix3Math;
+import io.github.alphameo.linear_algebra.mat.Matrix4;
+import io.github.alphameo.linear_algebra.mat.Matrix4Math;
+
+/**
+ * TestQuaternionMath
+ */
+public class TestQuaternionMath {
+
+    private static final float HALF_PI = (float) (Math.PI / 2);
+
+    @Test
+    public void testNormalize() {
+        Quaternion q = new Quat(1, 2, 2, 4);
+        Quaternion expected = new Quat(0.2f, 0.4f, 0.4f, 0.8f);
+
+        Assertions.assertEquals(expected, normalized(q));
+        Assertions.assertEquals(expected, normalize(q));
+    }
+
+    @Test
+    public void testProd() {
+        Quaternion i = new Quat(1, 0, 0, 0);
+        Quaternion j = new Quat(0, 1, 0, 0);
+        Quaternion k = new Quat(0, 0, 1, 0);
+
+        Assertions.assertEquals(k, prod(i, j));
+        Assertions.assertEquals(conjugated(k), prod(j, i));
+        Assertions.assertEquals(k, prodAsgn(i, j));
+        Assertions.assertEquals(k, i);
+    }
+
+    @Test
+    public void testRotate() {
+        Quaternion q = fromAxisAngle(new Vec3(0, 0, 2), HALF_PI);
+        Vector3 v = new Vec3(1, 0, 3);
+        Vector3 expected = new Vec3(0, 1, 3);
+
+        Assertions.assertTrue(expected.equalsEpsilon(rotated(q, v), 1e-6f));
+        Assertions.assertTrue(expected.equalsEpsilon(rotate(q, v), 1e-6f));
+        Assertions.assertTrue(expected.equalsEpsilon(v, 1e-6f));
+    }
+
+    @Test
+    public void testRotateComposition() {
+        Quaternion q1 = fromAxisAngle(new Vec3(1, 0, 0), 0.3f);
+        Quaternion q2 = fromAxisAngle(new Vec3(0, 1, 1), 1.2f);
+        Vector3 v = new Vec3(1, -2, 0.5f);
+
+        Vector3 expected = rotated(q1, rotated(q2, v));
+
+        Assertions.assertTrue(expected.equalsEpsilon(rotated(prod(q1, q2), v), 1e-5f));
+    }
+
+    @Test
+    public void testMatrixConversion() {
+        Quaternion q = fromAxisAngle(new Vec3(1, 2, 3), 2.5f);
+        Vector3 v = new Vec3(1, -2, 0.5f);
+
+        Matrix3 m = toMatrix3(q);
+        Matrix4 m4 = toMatrix4(q);
+
+        Assertions.assertTrue(rotated(q, v).equalsEpsilon(Matrix3Math.prodCol(m, v), 1e-5f));
+        Assertions.assertTrue(Matrix4Math.prodCol(m4, Vector3Math.toVector4(v))
+                .equalsEpsilon(Vector3Math.toVector4(rotated(q, v)), 1e-5f));
+        Assertions.assertTrue(q.equalsEpsilon(fromMatrix3(m), 1e-5f));
+        Assertions.assertTrue(q.equalsEpsilon(fromMatrix4(m4), 1e-5f));
+
+        Matrix3 flip = new Mat3(
+                -1, 0, 0,
+                0, -1, 0,
+                0, 0, 1);
+        Assertions.assertTrue(flip.equalsEpsilon(toMatrix3(fromMatrix3(flip)), 1e-6f));
+    }
+
+    @Test
+    public void testSlerp() {
+        Quaternion from = identity();
+        Quaternion to = fromAxisAngle(new Vec3(0, 0, 1), HALF_PI);
+        Quaternion expected = fromAxisAngle(new Vec3(0, 0, 1), HALF_PI / 3);
+
+        Assertions.assertTrue(expected.equalsEpsilon(slerp(from, to, 1 / 3f), 1e-6f));
+        Assertions.assertTrue(from.equalsEpsilon(slerp(from, to, 0), 1e-6f));
+        Assertions.assertTrue(to.equalsEpsilon(slerp(from, to, 1), 1e-6f));
+        Assertions.assertTrue(to.equalsEpsilon(slerp(from, to, 1, from), 1e-6f));
+    }
+
+    @Test
+    public void testNlerp() {
+        Quaternion from = identity();
+        Quaternion to = fromAxisAngle(new Vec3(0, 0, 1), HALF_PI);
+        Quaternion expected = fromAxisAngle(new Vec3(0, 0, 1), HALF_PI / 2);
+
+        Assertions.assertTrue(expected.equalsEpsilon(nlerp(from, to, 0.5f), 1e-6f));
+        Assertions.assertTrue(Math.abs(nlerp(from, to, 0.3f).len() - 1) < 1e-6f);
+    }
+}
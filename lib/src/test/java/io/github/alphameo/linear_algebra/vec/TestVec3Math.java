@@ -120,6 +120,8 @@ public class TestVec3Math {
         Vector3 expected = new Vec3(11, 32, 53);
 
         Assertions.assertEquals(expected, transformedCol(v, m));
+        Assertions.assertEquals(expected, transformCol(v, m));
+        Assertions.assertEquals(expected, v);
     }
 
     @Test
@@ -134,6 +136,8 @@ public class TestVec3Math {
         Vector3 expected = new Vec3(51, 44, 37);
 
         Assertions.assertEquals(expected, transformedRow(v, m));
+        Assertions.assertEquals(expected, transformRow(v, m));
+        Assertions.assertEquals(expected, v);
     }
 
     @Test
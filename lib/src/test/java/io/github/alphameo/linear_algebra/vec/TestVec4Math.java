@@ -112,6 +112,8 @@ public class TestVec4Math {
         Vector4 expected = new Vec4(16, 39, 55, 51);
 
         Assertions.assertEquals(expected, transformedCol(v, m));
+        Assertions.assertEquals(expected, transformCol(v, m));
+        Assertions.assertEquals(expected, v);
     }
 
     @Test
@@ -127,6 +129,8 @@ public class TestVec4Math {
         Vector4 expected = new Vec4(58, 49, 45, 29);
 
         Assertions.assertEquals(expected, transformedRow(v, m));
+        Assertions.assertEquals(expected, transformRow(v, m));
+        Assertions.assertEquals(expected, v);
     }
 
     @Test
@@ -201,4 +201,63 @@ public class TestVecMath {
 
         Assertions.assertEquals(expected, v);
     }
+
+    @Test
+    public void testElementStream() {
+        float[] components = new float[3000];
+        for (int i = 0; i < components.length; i++) {
+            components[i] = i % 7;
+        }
+        Vector v = new Vec(components);
+        double expected = 0;
+        for (float c : components) {
+            expected += c;
+        }
+
+        Assertions.assertEquals(expected, VectorMath.elementStream(v).sum());
+        Assertions.assertEquals(expected, VectorMath.elementStream(v).parallel().sum());
+        Assertions.assertEquals(6.0, v.elementStream().max().getAsDouble());
+    }
+
+    @Test
+    public void testMapZipReduce() {
+        Vector v = new Vec(1, -2, 3);
+        Vector abs = VectorMath.map(v, Math::abs);
+        Assertions.assertEquals(new Vec(1, 2, 3), abs);
+
+        v.zipAsgn(abs, (a, b) -> a - b);
+        Assertions.assertEquals(new Vec(0, -4, 0), v);
+        Assertions.assertEquals(6, abs.reduce(0, Float::sum));
+
+        Vector big = new Vec(100000);
+        big.mapAsgn(x -> 0.5f);
+        Assertions.assertEquals(50000, big.reduce(0, Float::sum));
+    }
+
+    @Test
+    public void testReductions() {
+        Vector v = new Vec(3, -7, 2, 7);
+
+        Assertions.assertEquals(5, VectorMath.sum(v));
+        Assertions.assertEquals(19, VectorMath.norm1(v));
+        Assertions.assertEquals(7, VectorMath.normInf(v));
+        Assertions.assertEquals(1, VectorMath.argMin(v));
+        Assertions.assertEquals(3, VectorMath.argMax(v));
+        Assertions.assertEquals(-7, VectorMath.min(v));
+        Assertions.assertEquals(7, VectorMath.max(v));
+    }
+
+    @Test
+    public void testHadamard() {
+        Vector v = new Vec(1, 2, 3);
+        Assertions.assertEquals(new Vec(2, -2, 0), VectorMath.hadamard(v, new Vec(2, -1, 0)));
+        Assertions.assertEquals(new Vec(1, 2, 3), v);
+
+        try {
+            VectorMath.hadamardAsgn(v, new Vec(1, 2));
+            Assertions.fail();
+        } catch (IllegalArgumentException e) {
+            Assertions.assertTrue(true);
+        }
+    }
 }